@@ -23,7 +23,7 @@ public class FilesEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(103);
+        Set<String> props = new HashSet<>(105);
         props.add("account");
         props.add("allowNullBody");
         props.add("antExclude");
@@ -69,6 +69,7 @@ public class FilesEndpointUriFactory extends org.apache.camel.support.component.
         props.add("keepLastModified");
         props.add("lazyStartProducer");
         props.add("localWorkDirectory");
+        props.add("maxConcurrentFiles");
         props.add("maxDepth");
         props.add("maxMessagesPerPoll");
         props.add("maximumReconnectAttempts");
@@ -78,6 +79,7 @@ public class FilesEndpointUriFactory extends org.apache.camel.support.component.
         props.add("moveFailed");
         props.add("noop");
         props.add("onCompletionExceptionHandler");
+        props.add("parallelProcessing");
         props.add("pollStrategy");
         props.add("port");
         props.add("preMove");
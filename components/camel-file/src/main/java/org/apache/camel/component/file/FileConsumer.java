@@ -22,22 +22,27 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.component.file.consumer.DirectoryEntriesResumeAdapter;
 import org.apache.camel.component.file.consumer.FileOffsetResumeAdapter;
+import org.apache.camel.component.file.consumer.FileWatchIndex;
 import org.apache.camel.resume.ResumeAdapter;
 import org.apache.camel.resume.ResumeAware;
 import org.apache.camel.resume.ResumeStrategy;
 import org.apache.camel.support.resume.Resumables;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +56,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    private FileWatchIndex watchIndex;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -95,9 +101,11 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     }
 
     private boolean processPolledFiles(List<GenericFile<File>> fileList, int depth, File[] files) {
-        for (File file : files) {
+        for (int i = 0; i < files.length; i++) {
+            File file = files[i];
             // check if we can continue polling in files
             if (!canPollMoreFiles(fileList)) {
+                retryWatchedFiles(files, i);
                 return true;
             }
 
@@ -125,12 +133,25 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             }
 
             if (processEntry(fileList, depth, file, gf, files)) {
+                retryWatchedFiles(files, i);
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Hands the files which have not been visited, as the maxMessagesPerPoll limit has been hit, back to the watch
+     * index, so they are visited by the next poll
+     */
+    private void retryWatchedFiles(File[] files, int from) {
+        if (watchIndex != null) {
+            for (int i = from; i < files.length; i++) {
+                watchIndex.retry(files[i]);
+            }
+        }
+    }
+
     private boolean processEntry(List<GenericFile<File>> fileList, int depth, File file, GenericFile<File> gf, File[] files) {
         if (file.isDirectory()) {
             return processDirectoryEntry(fileList, depth, file, gf, files);
@@ -203,7 +224,14 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
             return null;
         }
-        final File[] dirFiles = directory.listFiles();
+        File[] dirFiles = null;
+        if (watchIndex != null) {
+            // only the files which have changed since the last poll, or which could not be consumed
+            dirFiles = watchIndex.listChangedFiles(directory);
+        }
+        if (dirFiles == null) {
+            dirFiles = directory.listFiles();
+        }
 
         if (dirFiles == null || dirFiles.length == 0) {
             // no files in this directory to poll
@@ -252,6 +280,13 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, File[] files) {
         String onlyName = FileUtil.stripPath(doneFileName);
+        if (watchIndex != null) {
+            // the polled files are only the changed files, so look for the done file in the index
+            File directory = file.getFile().getParentFile();
+            if (directory != null && watchIndex.contains(directory, onlyName)) {
+                return true;
+            }
+        }
         // the done file name must be among the files
         for (File f : files) {
             if (f.getName().equals(onlyName)) {
@@ -259,6 +294,10 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             }
         }
         LOG.trace("Done file: {} does not exist", doneFileName);
+        if (watchIndex != null) {
+            // the file is not changed when its done file is written, so visit it again on the next poll
+            watchIndex.retry(file.getFile());
+        }
         return false;
     }
 
@@ -367,6 +406,83 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return !file.getFile().getAbsolutePath().equals(file.getAbsoluteFilePath());
     }
 
+    @Override
+    protected boolean processExchange(Exchange exchange, AsyncCallback callback) {
+        final FileWatchIndex index = watchIndex;
+        if (index == null) {
+            return super.processExchange(exchange, callback);
+        }
+
+        // the file is only visited again when it has changed, so hand it back to the index if it could not be
+        // consumed (such as when the read lock could not be acquired, or a rollback), which leaves it in the directory
+        GenericFile<?> gf = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+        final File file = new File(gf.getAbsoluteFilePath());
+        return super.processExchange(exchange, doneSync -> {
+            if (file.exists()) {
+                index.retry(file);
+            }
+            callback.done(doneSync);
+        });
+    }
+
+    @Override
+    protected void removeExcessiveInProgressFiles(Deque<Exchange> exchanges, int limit) {
+        if (watchIndex != null) {
+            // the files which are not processed in this poll must be visited by the next poll
+            Iterator<Exchange> it = exchanges.descendingIterator();
+            for (int i = exchanges.size(); i > limit && it.hasNext(); i--) {
+                GenericFile<?> gf = it.next().getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+                watchIndex.retry(new File(gf.getAbsoluteFilePath()));
+            }
+        }
+        super.removeExcessiveInProgressFiles(exchanges, limit);
+    }
+
+    @Override
+    protected void removeExcessiveInProgressFiles(List<GenericFile<File>> files) {
+        if (watchIndex != null) {
+            for (GenericFile<File> gf : files) {
+                watchIndex.retry(new File(gf.getAbsoluteFilePath()));
+            }
+        }
+        super.removeExcessiveInProgressFiles(files);
+    }
+
+    @Override
+    protected boolean prePollCheck() throws Exception {
+        if (getEndpoint().isWatchDirectory()) {
+            updateWatchIndex();
+        }
+        return super.prePollCheck();
+    }
+
+    private void updateWatchIndex() {
+        if (watchIndex != null && !watchIndex.isValid()) {
+            // the directory has been deleted
+            IOHelper.close(watchIndex);
+            watchIndex = null;
+        }
+
+        if (watchIndex != null) {
+            watchIndex.update();
+        } else {
+            File directory = new File(endpointPath);
+            if (directory.isDirectory()) {
+                int maxDepth = getEndpoint().isRecursive() ? getEndpoint().getMaxDepth() : 1;
+                long interval = getEndpoint().getWatchReconcileInterval();
+                try {
+                    watchIndex = new FileWatchIndex(directory.toPath(), maxDepth, interval);
+                    LOG.debug("Watching directory: {} with {} indexed directories", directory,
+                            watchIndex.getDirectoryCount());
+                } catch (IOException e) {
+                    // fallback to list the directory on every poll
+                    LOG.warn("Cannot watch directory: {} due to: {}. The directory is listed on every poll instead.",
+                            directory, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         if (resumeStrategy != null) {
@@ -376,6 +492,14 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        IOHelper.close(watchIndex);
+        watchIndex = null;
+    }
+
     @Override
     public ResumeStrategy getResumeStrategy() {
         return resumeStrategy;
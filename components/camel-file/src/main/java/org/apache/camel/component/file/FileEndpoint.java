@@ -81,6 +81,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean watchDirectory;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchReconcileInterval = 60000;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -412,6 +416,34 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isWatchDirectory() {
+        return watchDirectory;
+    }
+
+    /**
+     * Whether the consumer keeps an in-memory index of the files in the directory, which is updated from the events of
+     * the file system, instead of listing the directory on every poll. Each poll then only checks the files which have
+     * been created or modified since the previous poll, and the files which could not be consumed yet. This is faster
+     * for directories with a large number of files. The files are still processed by the regular polls, with the same
+     * read lock, move, delete and idempotent semantics.
+     */
+    public void setWatchDirectory(boolean watchDirectory) {
+        this.watchDirectory = watchDirectory;
+    }
+
+    public long getWatchReconcileInterval() {
+        return watchReconcileInterval;
+    }
+
+    /**
+     * When watchDirectory is enabled, the interval in millis to list the directory again to reconcile the index with
+     * the file system, in case some events have not been received, which also checks all the files in the directory
+     * again. Use 0 to only list the directory again when the file system reports that events have been lost.
+     */
+    public void setWatchReconcileInterval(long watchReconcileInterval) {
+        this.watchReconcileInterval = watchReconcileInterval;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
@@ -28,6 +28,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
@@ -39,6 +40,7 @@ import java.util.Set;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.FileInputStreamCache;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -259,10 +261,11 @@ public class FileOperations implements GenericFileOperations<File> {
             return handleNullBody(file);
         }
 
-        // we can write the file by 3 different techniques
+        // we can write the file by 4 different techniques
         // 1. write file to file
         // 2. rename a file from a local work path
-        // 3. write stream to file
+        // 3. write file channel or byte buffer to file
+        // 4. write stream to file
         try {
 
             // is there an explicit charset configured we must write the file as
@@ -297,6 +300,15 @@ public class FileOperations implements GenericFileOperations<File> {
                 }
             }
 
+            // the body can be written to the file without copying it through the heap if no charset must be used
+            if (charset == null && writeFileByChannel(extractBodyFromExchange(exchange), file)) {
+                // try to keep last modified timestamp if configured to do so
+                keepLastModified(exchange, file);
+                // set permissions if the chmod option was set
+                setPermissions(file);
+                return true;
+            }
+
             if (charset != null) {
                 // charset configured so we must use a reader so we can write
                 // with encoding
@@ -457,7 +469,18 @@ public class FileOperations implements GenericFileOperations<File> {
 
     private boolean writeFileByLocalWorkPath(File source, File file) throws IOException {
         LOG.trace("writeFileByFile using local work file being renamed from: {} to: {}", source, file);
-        return FileUtil.renameFile(source, file, endpoint.isCopyAndDeleteOnRenameFail());
+        try {
+            // the rename is atomic when the local work file is on the same file system as the target
+            Files.move(source.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (AtomicMoveNotSupportedException e) {
+            // the local work file is on another file system so there is no need to retry the rename
+            LOG.trace("Cannot rename local work file: {} to another file system: {}", source, file);
+            return endpoint.isCopyAndDeleteOnRenameFail() && FileUtil.renameFileUsingCopy(source, file);
+        } catch (IOException e) {
+            // fallback and retry, which can mitigate problems on some platforms such as Windows
+            return FileUtil.renameFile(source, file, endpoint.isCopyAndDeleteOnRenameFail());
+        }
     }
 
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
@@ -469,12 +492,65 @@ public class FileOperations implements GenericFileOperations<File> {
         if (channel != null) {
             try (FileChannel out = new FileOutputStream(target).getChannel()) {
                 LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+                IOHelper.transferTo(channel.position(0), out);
             }
         } else {
-            // use regular file copy
-            LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
-            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            // transfer the bytes from file to file by the operating system (zero-copy)
+            LOG.trace("writeFileByFile using FileChannel.transferTo: {} -> {}", source, target);
+            try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+                 SeekableByteChannel out = prepareOutputFileChannel(target)) {
+                IOHelper.transferTo(in, out);
+            }
+        }
+    }
+
+    /**
+     * Writes the body to the file using a file channel, if the body is a file, a file based stream cache or a byte
+     * buffer, which avoids copying the body through a buffer on the heap.
+     *
+     * @return <tt>true</tt> if the body was written, <tt>false</tt> if the body is not supported
+     */
+    private boolean writeFileByChannel(Object body, File target) throws IOException {
+        if (body instanceof File source) {
+            // such as when appending, as otherwise the file has been copied by handleFileAsFileSource already
+            if (!source.exists()) {
+                return false;
+            }
+            try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+                 SeekableByteChannel out = prepareOutputFileChannel(target)) {
+                LOG.debug("Using FileChannel to write file: {}", target);
+                IOHelper.transferTo(in, out);
+                writeAppendChars(out);
+            }
+        } else if (body instanceof FileInputStreamCache cache) {
+            try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+                LOG.debug("Using FileInputStreamCache to write file: {}", target);
+                cache.writeTo(out);
+                writeAppendChars(out);
+            }
+        } else if (body instanceof ByteBuffer || body instanceof byte[]) {
+            // use a view of the buffer to not change its position
+            ByteBuffer buffer = body instanceof ByteBuffer bb ? bb.duplicate() : ByteBuffer.wrap((byte[]) body);
+            try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+                LOG.debug("Using ByteBuffer to write file: {}", target);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                writeAppendChars(out);
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void writeAppendChars(SeekableByteChannel out) throws IOException {
+        boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+        if (append && endpoint.getAppendChars() != null) {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
+            while (byteBuffer.hasRemaining()) {
+                out.write(byteBuffer);
+            }
         }
     }
 
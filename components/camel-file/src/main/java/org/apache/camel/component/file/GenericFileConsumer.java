@@ -22,8 +22,13 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -56,6 +61,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected Processor customProcessor;
     protected boolean eagerLimitMaxMessagesPerPoll = true;
     protected volatile boolean prepareOnStartup;
+    private ExecutorService parallelExecutor;
     private final Pattern includePattern;
     private final Pattern excludePattern;
     private final String[] includeExt;
@@ -220,6 +226,12 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             total = maxMessagesPerPoll;
         }
 
+        // process the files concurrently, if enabled, but not when using a custom processor (such as browsing)
+        List<Future<Boolean>> tasks = null;
+        if (parallelExecutor != null && customProcessor == null) {
+            tasks = new ArrayList<>(total);
+        }
+
         for (int index = 0; index < total && isBatchAllowed(); index++) {
             // only loop if we are started (allowed to run)
             // use poll to remove the head so it does not consume memory even
@@ -233,6 +245,11 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             // update pending number of exchanges
             pendingExchanges = total - index - 1;
 
+            if (tasks != null) {
+                tasks.add(parallelExecutor.submit(() -> processExchangeAndAwait(exchange)));
+                continue;
+            }
+
             // process the current exchange
             boolean started;
             if (customProcessor != null) {
@@ -249,12 +266,64 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             }
         }
 
+        if (tasks != null) {
+            answer -= awaitParallelExchanges(tasks);
+        }
+
         // drain any in progress files as we are done with this batch
         removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
 
         return answer;
     }
 
+    /**
+     * Processes the exchange in a thread of the parallel processing thread pool, and waits for the exchange to complete
+     * so the pool limits how many files are processed concurrently.
+     *
+     * @return <tt>true</tt> if the file was started to be processed
+     */
+    private boolean processExchangeAndAwait(Exchange exchange) throws InterruptedException {
+        if (!isBatchAllowed()) {
+            // we are shutting down and should only complete the files in progress
+            GenericFile<?> file = getExchangeFileProperty(exchange);
+            endpoint.getInProgressRepository().remove(file.getAbsoluteFilePath());
+            releaseExchange(exchange, true);
+            return false;
+        }
+
+        CountDownLatch latch = new CountDownLatch(1);
+        boolean started = processExchange(exchange, doneSync -> latch.countDown());
+        latch.await();
+        return started;
+    }
+
+    /**
+     * Waits for the files of this batch which are processed concurrently to complete, so the next poll does not begin
+     * before the files of this poll have been committed or rolled back.
+     *
+     * @return the number of files which was not started to be processed
+     */
+    private int awaitParallelExchanges(List<Future<Boolean>> tasks) {
+        int notStarted = 0;
+        for (int index = 0; index < tasks.size(); index++) {
+            try {
+                if (!tasks.get(index).get()) {
+                    notStarted++;
+                }
+            } catch (InterruptedException e) {
+                LOG.debug("Interrupted while waiting for {} files to complete", tasks.size() - index);
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                LOG.warn("Error processing file due to {}. This exception is ignored.", e.getCause().getMessage(),
+                        e.getCause());
+                notStarted++;
+            }
+            pendingExchanges = tasks.size() - index - 1;
+        }
+        return notStarted;
+    }
+
     /**
      * Drain any in progress files as we are done with this batch
      *
@@ -365,12 +434,34 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
     /**
      * Processes the exchange
+     * <p/>
+     * This is only used when processing the files of a poll one by one. A consumer which overrides this method
+     * therefore processes the files one by one, also when the parallelProcessing option is enabled.
+     *
+     * @param      exchange the exchange
+     * @return              <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not
+     *                      started to be processed, for some reason (not found, or aborted etc)
+     * @deprecated          override {@link #processExchange(Exchange, AsyncCallback)} instead, which is used both when
+     *                      processing the files one by one and concurrently
+     */
+    @Deprecated(since = "4.7.0")
+    protected boolean processExchange(final Exchange exchange) {
+        return processExchange(exchange, EmptyAsyncCallback.get());
+    }
+
+    /**
+     * Processes the exchange
+     * <p/>
+     * This is used both when processing the files of a poll one by one, and concurrently (the parallelProcessing
+     * option), in which case the remote file operations are guarded by the {@link #getOperationsLock() operations
+     * lock}.
      *
      * @param  exchange the exchange
+     * @param  callback the callback which is called when the exchange is done, or was not started to be processed
      * @return          <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not
      *                  started to be processed, for some reason (not found, or aborted etc)
      */
-    protected boolean processExchange(final Exchange exchange) {
+    protected boolean processExchange(final Exchange exchange, final AsyncCallback callback) {
         GenericFile<T> file = getExchangeFileProperty(exchange);
         LOG.trace("Processing file: {}", file);
 
@@ -383,7 +474,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         Exception beginCause = null;
         boolean begin = false;
         try {
-            begin = processStrategy.begin(operations, endpoint, exchange, file);
+            begin = beginProcessStrategy(exchange, file);
         } catch (Exception e) {
             beginCause = e;
         }
@@ -395,7 +486,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             LOG.debug("{} cannot begin processing file: {}", endpoint, file);
             try {
                 // abort
-                processStrategy.abort(operations, endpoint, exchange, file);
+                abortProcessStrategy(exchange, file);
             } catch (Exception e) {
                 abortCause = e;
             } finally {
@@ -411,6 +502,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                 String msg2 = endpoint + " cannot abort processing file: " + file + " due to: " + abortCause.getMessage();
                 handleException(msg2, exchange, abortCause);
             }
+            callback.done(true);
             return false;
         }
 
@@ -426,10 +518,12 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
         // must use full name when downloading so we have the correct path
         final String name = target.getAbsoluteFilePath();
+        boolean routed = false;
         try {
 
             if (isRetrieveFile()) {
                 if (tryRetrievingFile(exchange, name, target, absoluteFileName, file)) {
+                    callback.done(true);
                     return false;
                 }
             } else {
@@ -441,20 +535,24 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             // strategies
             // (for instance to move the file after we have processed it)
             exchange.getExchangeExtension().addOnCompletion(
-                    new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName));
+                    new GenericFileOnCompletion<>(
+                            endpoint, operations, processStrategy, target, absoluteFileName, getOperationsLock()));
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
             if (endpoint.isSynchronous()) {
                 // process synchronously
                 getProcessor().process(exchange);
+                routed = true;
+                callback.done(true);
             } else {
                 // process the exchange using the async consumer to support
                 // async routing engine
                 // which can be supported by this file consumer as all the done
                 // work is
                 // provided in the GenericFileOnCompletion
-                getAsyncProcessor().process(exchange, EmptyAsyncCallback.get());
+                routed = true;
+                getAsyncProcessor().process(exchange, callback);
             }
 
         } catch (Exception e) {
@@ -469,11 +567,35 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
             String msg = "Error processing file " + file + " due to " + e.getMessage();
             handleException(msg, exchange, e);
+            if (!routed) {
+                callback.done(true);
+            }
         }
 
         return true;
     }
 
+    private boolean beginProcessStrategy(Exchange exchange, GenericFile<T> file) throws Exception {
+        Object lock = getOperationsLock();
+        if (lock != null) {
+            synchronized (lock) {
+                return processStrategy.begin(operations, endpoint, exchange, file);
+            }
+        }
+        return processStrategy.begin(operations, endpoint, exchange, file);
+    }
+
+    private void abortProcessStrategy(Exchange exchange, GenericFile<T> file) throws Exception {
+        Object lock = getOperationsLock();
+        if (lock != null) {
+            synchronized (lock) {
+                processStrategy.abort(operations, endpoint, exchange, file);
+            }
+        } else {
+            processStrategy.abort(operations, endpoint, exchange, file);
+        }
+    }
+
     private boolean tryRetrievingFile(
             Exchange exchange, String name, GenericFile<T> target, String absoluteFileName, GenericFile<T> file)
             throws Exception {
@@ -484,7 +606,14 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         boolean retrieved;
         Exception cause = null;
         try {
-            retrieved = operations.retrieveFile(name, exchange, target.getFileLength());
+            Object lock = getOperationsLock();
+            if (lock != null) {
+                synchronized (lock) {
+                    retrieved = operations.retrieveFile(name, exchange, target.getFileLength());
+                }
+            } else {
+                retrieved = operations.retrieveFile(name, exchange, target.getFileLength());
+            }
         } catch (Exception e) {
             retrieved = false;
             cause = e;
@@ -533,6 +662,16 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return true;
     }
 
+    /**
+     * Override if required. The lock to synchronize on when using the file operations while the files of a poll are
+     * processed concurrently, or <tt>null</tt> if the file operations are thread safe.
+     *
+     * @return the lock, is <tt>null</tt> by default
+     */
+    protected Object getOperationsLock() {
+        return null;
+    }
+
     /**
      * Processes the exchange using a custom processor.
      *
@@ -832,13 +971,43 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(processStrategy);
+        if (endpoint.isParallelProcessing() && parallelExecutor == null) {
+            if (overridesProcessExchange(getClass())) {
+                LOG.warn("{} overrides processExchange(Exchange) and therefore processes the files one by one,"
+                         + " as parallelProcessing requires processExchange(Exchange, AsyncCallback) instead",
+                        getClass().getName());
+            } else {
+                parallelExecutor = endpoint.getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                        "GenericFileConsumerParallel", endpoint.getMaxConcurrentFiles());
+            }
+        }
         super.doStart();
     }
 
+    /**
+     * Whether the given consumer type overrides the deprecated {@link #processExchange(Exchange)}, which cannot be used
+     * when processing the files concurrently.
+     */
+    private static boolean overridesProcessExchange(Class<?> type) {
+        for (Class<?> clazz = type; clazz != GenericFileConsumer.class; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod("processExchange", Exchange.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue with the super class
+            }
+        }
+        return false;
+    }
+
     @Override
     protected void doStop() throws Exception {
         prepareOnStartup = false;
         super.doStop();
+        if (parallelExecutor != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdown(parallelExecutor);
+            parallelExecutor = null;
+        }
         ServiceHelper.stopService(processStrategy);
     }
 
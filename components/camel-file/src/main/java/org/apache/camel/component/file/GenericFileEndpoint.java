@@ -438,6 +438,16 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
                             + "the file on completion process where the consumer does either a commit or rollback. The default "
                             + "implementation will log any exception at WARN level and ignore.")
     protected ExceptionHandler onCompletionExceptionHandler;
+    @UriParam(label = "consumer,advanced",
+              description = "Whether the files of a poll are processed concurrently, using a thread pool sized by "
+                            + "the maxConcurrentFiles option. Each file is still committed or rolled back on its own, "
+                            + "and the poll waits for all its files to complete before the next poll. Mind that the "
+                            + "files can be routed in another order than they were polled (sorted) in.")
+    protected boolean parallelProcessing;
+    @UriParam(label = "consumer,advanced", defaultValue = "10",
+              description = "The maximum number of files of a poll that are processed concurrently, when the "
+                            + "parallelProcessing option is enabled.")
+    protected int maxConcurrentFiles = 10;
     @UriParam(defaultValue = "false", label = "advanced",
               description = "Sets whether synchronous processing should be strictly used")
     private boolean synchronous;
@@ -1516,6 +1526,31 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
         this.onCompletionExceptionHandler = onCompletionExceptionHandler;
     }
 
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether the files of a poll are processed concurrently, using a thread pool sized by the maxConcurrentFiles
+     * option. Each file is still committed or rolled back on its own, and the poll waits for all its files to complete
+     * before the next poll. Mind that the files can be routed in another order than they were polled (sorted) in.
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public int getMaxConcurrentFiles() {
+        return maxConcurrentFiles;
+    }
+
+    /**
+     * The maximum number of files of a poll that are processed concurrently, when the parallelProcessing option is
+     * enabled.
+     */
+    public void setMaxConcurrentFiles(int maxConcurrentFiles) {
+        this.maxConcurrentFiles = maxConcurrentFiles;
+    }
+
     public boolean isSynchronous() {
         return synchronous;
     }
@@ -40,15 +40,27 @@ public class GenericFileOnCompletion<T> implements Synchronization {
     private ExceptionHandler exceptionHandler;
     private final GenericFile<T> file;
     private final String absoluteFileName;
+    private final Object operationsLock;
 
     public GenericFileOnCompletion(GenericFileEndpoint<T> endpoint, GenericFileOperations<T> operations,
                                    GenericFileProcessStrategy processStrategy, GenericFile<T> file,
                                    String absoluteFileName) {
+        this(endpoint, operations, processStrategy, file, absoluteFileName, null);
+    }
+
+    /**
+     * @param operationsLock optional lock to synchronize on when using the file operations, as the files of a poll can
+     *                       be processed concurrently
+     */
+    public GenericFileOnCompletion(GenericFileEndpoint<T> endpoint, GenericFileOperations<T> operations,
+                                   GenericFileProcessStrategy processStrategy, GenericFile<T> file,
+                                   String absoluteFileName, Object operationsLock) {
         this.endpoint = endpoint;
         this.operations = operations;
         this.processStrategy = processStrategy;
         this.file = file;
         this.absoluteFileName = absoluteFileName;
+        this.operationsLock = operationsLock;
         this.exceptionHandler = endpoint.getOnCompletionExceptionHandler();
         if (this.exceptionHandler == null) {
             this.exceptionHandler = new LoggingExceptionHandler(endpoint.getCamelContext(), getClass());
@@ -74,6 +86,16 @@ public class GenericFileOnCompletion<T> implements Synchronization {
     }
 
     protected void onCompletion(Exchange exchange) {
+        if (operationsLock != null) {
+            synchronized (operationsLock) {
+                doOnCompletion(exchange);
+            }
+        } else {
+            doOnCompletion(exchange);
+        }
+    }
+
+    private void doOnCompletion(Exchange exchange) {
         LOG.debug("Done processing file: {} using exchange: {}", file, exchange);
 
         // commit or rollback
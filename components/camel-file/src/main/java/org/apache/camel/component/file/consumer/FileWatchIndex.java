@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.consumer;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory index of the entries of a directory (and its sub directories), which is kept up to date from the
+ * events of a {@link WatchService}, so the directory does not have to be listed on every poll.
+ * <p/>
+ * The index keeps track of the entries which have been created or modified since they were last returned by
+ * {@link #listChangedFiles(File)}, so a poll only visits the changes instead of every entry. A consumer which could not
+ * consume a returned file (for example when the read lock could not be acquired, or the processing failed) hands it
+ * back with {@link #retry(File)}, so it is returned again by the next poll.
+ * <p/>
+ * The index is only updated when {@link #update()} is called, which processes the pending events and retries, and
+ * lists the directories again (using a streaming {@link DirectoryStream}) when events have been lost, or when the
+ * reconcile interval has elapsed, which also marks all their entries as changed. This class is not thread safe, and
+ * is meant to be used by the polling thread of a consumer, except for {@link #retry(File)}.
+ */
+public class FileWatchIndex implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileWatchIndex.class);
+
+    private final Path root;
+    private final int maxDepth;
+    private final long reconcileInterval;
+    private final WatchService watchService;
+    private final Map<Path, WatchedDirectory> directories = new HashMap<>();
+    private final Map<WatchKey, WatchedDirectory> keys = new HashMap<>();
+    private final Set<WatchedDirectory> dirty = new LinkedHashSet<>();
+    private final Queue<File> retries = new ConcurrentLinkedQueue<>();
+    private long lastReconcile;
+
+    /**
+     * Creates the index and lists the root directory.
+     *
+     * @param  root              the root directory
+     * @param  maxDepth          the number of directory levels to index, where 1 only indexes the root directory
+     * @param  reconcileInterval the interval in millis to list all the indexed directories again, or 0 to only list
+     *                           them again when events have been lost
+     * @throws IOException       is thrown if the directory could not be watched
+     */
+    public FileWatchIndex(Path root, int maxDepth, long reconcileInterval) throws IOException {
+        this.root = root.toAbsolutePath();
+        this.maxDepth = Math.max(maxDepth, 1);
+        this.reconcileInterval = reconcileInterval;
+        this.watchService = root.getFileSystem().newWatchService();
+        try {
+            WatchedDirectory dir = register(this.root, 1);
+            scan(dir);
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+        this.lastReconcile = System.nanoTime();
+    }
+
+    /**
+     * Whether the root directory is still watched. The index should be recreated when the root directory has been
+     * deleted.
+     */
+    public boolean isValid() {
+        return directories.containsKey(root);
+    }
+
+    /**
+     * Number of directories which are indexed
+     */
+    public int getDirectoryCount() {
+        return directories.size();
+    }
+
+    /**
+     * Updates the index from the pending events and retries
+     */
+    public void update() {
+        WatchKey key;
+        try {
+            while ((key = watchService.poll()) != null) {
+                WatchedDirectory dir = keys.get(key);
+                if (dir == null) {
+                    key.cancel();
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    onEvent(dir, event);
+                }
+                if (!key.reset()) {
+                    LOG.debug("Directory is no longer watched: {}", dir.path);
+                    unregister(dir);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // the index has been closed
+            return;
+        }
+
+        if (reconcileInterval > 0
+                && System.nanoTime() - lastReconcile >= TimeUnit.MILLISECONDS.toNanos(reconcileInterval)) {
+            dirty.addAll(directories.values());
+            lastReconcile = System.nanoTime();
+        }
+        if (!dirty.isEmpty()) {
+            List<WatchedDirectory> list = new ArrayList<>(dirty);
+            dirty.clear();
+            for (WatchedDirectory dir : list) {
+                // the directory may have been removed while reconciling its parent
+                if (directories.get(dir.path) == dir) {
+                    reconcile(dir);
+                }
+            }
+        }
+
+        File file;
+        while ((file = retries.poll()) != null) {
+            WatchedDirectory dir = directories.get(file.getParentFile().toPath().toAbsolutePath());
+            // the file may have been deleted or moved in the meantime
+            if (dir != null && dir.names.contains(file.getName())) {
+                changed(dir, file.getName());
+            }
+        }
+    }
+
+    /**
+     * Lists the entries of the given directory which have been created or modified, or handed back with
+     * {@link #retry(File)}, since the last time they were returned. A sub directory is returned when it has changed
+     * entries itself.
+     *
+     * @return the changed entries sorted by name, or <tt>null</tt> if the directory is not indexed
+     */
+    public File[] listChangedFiles(File directory) {
+        WatchedDirectory dir = directories.get(directory.toPath().toAbsolutePath());
+        if (dir == null) {
+            return null;
+        }
+        File[] answer = new File[dir.changed.size()];
+        int i = 0;
+        for (String name : dir.changed) {
+            answer[i++] = new File(directory, name);
+        }
+        dir.changed.clear();
+        return answer;
+    }
+
+    /**
+     * Whether the given file is in the index
+     */
+    public boolean contains(File directory, String name) {
+        WatchedDirectory dir = directories.get(directory.toPath().toAbsolutePath());
+        return dir != null && dir.names.contains(name);
+    }
+
+    /**
+     * Hands back a file returned by {@link #listChangedFiles(File)} which could not be consumed, so it is returned
+     * again after the next {@link #update()}, unless it has been deleted in the meantime. This method is thread safe,
+     * and can be called when the processing of the file completes on another thread.
+     */
+    public void retry(File file) {
+        retries.add(file);
+    }
+
+    @Override
+    public void close() throws IOException {
+        directories.clear();
+        keys.clear();
+        dirty.clear();
+        retries.clear();
+        watchService.close();
+    }
+
+    private void onEvent(WatchedDirectory dir, WatchEvent<?> event) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            LOG.debug("Events have been lost for directory: {}", dir.path);
+            dirty.add(dir);
+            return;
+        }
+
+        String name = event.context().toString();
+        if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+            dir.names.remove(name);
+            dir.changed.remove(name);
+            WatchedDirectory child = directories.get(dir.path.resolve(name));
+            if (child != null) {
+                unregister(child);
+            }
+        } else if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
+            // the file may have been deleted again before the event was received
+            if (dir.names.contains(name)) {
+                changed(dir, name);
+            }
+        } else {
+            dir.names.add(name);
+            changed(dir, name);
+            if (dir.depth < maxDepth) {
+                Path path = dir.path.resolve(name);
+                if (Files.isDirectory(path) && !directories.containsKey(path)) {
+                    try {
+                        scan(register(path, dir.depth + 1));
+                    } catch (IOException e) {
+                        LOG.debug("Cannot watch directory: {} due to: {}", path, e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private WatchedDirectory register(Path path, int depth) throws IOException {
+        WatchKey key = path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        WatchedDirectory dir = new WatchedDirectory(path, depth, key);
+        directories.put(path, dir);
+        keys.put(key, dir);
+        return dir;
+    }
+
+    private void unregister(WatchedDirectory dir) {
+        dir.key.cancel();
+        keys.remove(dir.key);
+        directories.remove(dir.path);
+        // also remove the sub directories
+        if (dir.depth < maxDepth) {
+            for (String name : dir.names) {
+                WatchedDirectory child = directories.get(dir.path.resolve(name));
+                if (child != null) {
+                    unregister(child);
+                }
+            }
+        }
+    }
+
+    private void reconcile(WatchedDirectory dir) {
+        try {
+            scan(dir);
+        } catch (IOException e) {
+            LOG.debug("Cannot list directory: {} due to: {}", dir.path, e.getMessage(), e);
+            unregister(dir);
+        }
+    }
+
+    private void scan(WatchedDirectory dir) throws IOException {
+        NavigableSet<String> names = new TreeSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir.path)) {
+            for (Path path : stream) {
+                names.add(path.getFileName().toString());
+                if (dir.depth < maxDepth && !directories.containsKey(path) && Files.isDirectory(path)) {
+                    try {
+                        scan(register(path, dir.depth + 1));
+                    } catch (IOException e) {
+                        LOG.debug("Cannot watch directory: {} due to: {}", path, e.getMessage(), e);
+                    }
+                }
+            }
+        }
+        // remove the sub directories which no longer exist
+        if (dir.depth < maxDepth) {
+            for (String name : dir.names) {
+                if (!names.contains(name)) {
+                    WatchedDirectory child = directories.get(dir.path.resolve(name));
+                    if (child != null) {
+                        unregister(child);
+                    }
+                }
+            }
+        }
+        dir.names = names;
+        // all the entries are visited again, as events may have been lost
+        dir.changed.clear();
+        for (String name : names) {
+            changed(dir, name);
+        }
+    }
+
+    /**
+     * Marks the entry as changed, and the directories it is in, so the consumer visits them on the next poll
+     */
+    private void changed(WatchedDirectory dir, String name) {
+        dir.changed.add(name);
+        while (dir.depth > 1) {
+            WatchedDirectory parent = directories.get(dir.path.getParent());
+            if (parent == null) {
+                break;
+            }
+            parent.changed.add(dir.path.getFileName().toString());
+            dir = parent;
+        }
+    }
+
+    private static final class WatchedDirectory {
+        private final Path path;
+        private final int depth;
+        private final WatchKey key;
+        private NavigableSet<String> names = new TreeSet<>();
+        private final NavigableSet<String> changed = new TreeSet<>();
+
+        private WatchedDirectory(Path path, int depth, WatchKey key) {
+            this.path = path;
+            this.depth = depth;
+            this.key = key;
+        }
+    }
+}
@@ -23,7 +23,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(114);
+        Set<String> props = new HashSet<>(116);
         props.add("account");
         props.add("activePortRange");
         props.add("allowNullBody");
@@ -81,6 +81,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("keepLastModified");
         props.add("lazyStartProducer");
         props.add("localWorkDirectory");
+        props.add("maxConcurrentFiles");
         props.add("maxDepth");
         props.add("maxMessagesPerPoll");
         props.add("maximumReconnectAttempts");
@@ -91,6 +92,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("moveFailed");
         props.add("noop");
         props.add("onCompletionExceptionHandler");
+        props.add("parallelProcessing");
         props.add("passiveMode");
         props.add("password");
         props.add("pollStrategy");
@@ -23,7 +23,7 @@ public class FtpsEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(122);
+        Set<String> props = new HashSet<>(124);
         props.add("account");
         props.add("activePortRange");
         props.add("allowNullBody");
@@ -87,6 +87,7 @@ public class FtpsEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("keepLastModified");
         props.add("lazyStartProducer");
         props.add("localWorkDirectory");
+        props.add("maxConcurrentFiles");
         props.add("maxDepth");
         props.add("maxMessagesPerPoll");
         props.add("maximumReconnectAttempts");
@@ -97,6 +98,7 @@ public class FtpsEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("moveFailed");
         props.add("noop");
         props.add("onCompletionExceptionHandler");
+        props.add("parallelProcessing");
         props.add("passiveMode");
         props.add("password");
         props.add("pollStrategy");
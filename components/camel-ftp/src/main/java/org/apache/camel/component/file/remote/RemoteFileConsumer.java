@@ -18,6 +18,7 @@ package org.apache.camel.component.file.remote;
 
 import java.util.List;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Ordered;
@@ -40,6 +41,7 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
 
     protected transient boolean loggedIn;
     protected transient boolean loggedInWarning;
+    private final Object operationsLock = new Object();
 
     protected RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations,
                                  GenericFileProcessStrategy processStrategy) {
@@ -109,8 +111,9 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         // if we did not poll any messages, but are configured to disconnect
         // then we need to do this now
         // as there is no exchanges to be routed that otherwise will disconnect
-        // from the last UoW
-        if (polledMessages == 0) {
+        // from the last UoW (or when the files are processed concurrently, then the
+        // batch is complete by now)
+        if (polledMessages == 0 || getEndpoint().isParallelProcessing()) {
             if (getEndpoint().isDisconnect()) {
                 LOG.trace("postPollCheck disconnect from: {}", getEndpoint());
                 disconnect();
@@ -119,11 +122,12 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     }
 
     @Override
-    protected boolean processExchange(Exchange exchange) {
+    protected boolean processExchange(Exchange exchange, AsyncCallback callback) {
         // defer disconnect til the UoW is complete - but only the last exchange
-        // from the batch should do that
+        // from the batch should do that (when the files are processed concurrently
+        // then the other files may still be in progress, so postPollCheck disconnects instead)
         boolean isLast = exchange.getProperty(ExchangePropertyKey.BATCH_COMPLETE, true, Boolean.class);
-        if (isLast && getEndpoint().isDisconnect()) {
+        if (isLast && getEndpoint().isDisconnect() && !getEndpoint().isParallelProcessing()) {
             exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
                 @Override
                 public void onDone(Exchange exchange) {
@@ -150,7 +154,7 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
             });
         }
 
-        return super.processExchange(exchange);
+        return super.processExchange(exchange, callback);
     }
 
     @Override
@@ -158,6 +162,12 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         return getEndpoint().isDownload();
     }
 
+    @Override
+    protected Object getOperationsLock() {
+        // the remote file operations use a single connection which cannot be shared by concurrent files
+        return operationsLock;
+    }
+
     /**
      * Whether there is a starting directory configured.
      */
@@ -171,6 +171,11 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> imple
             idempotentRepository = MemoryIdempotentRepository.memoryIdempotentRepository(DEFAULT_IDEMPOTENT_CACHE_SIZE);
         }
 
+        if (isParallelProcessing() && getConfiguration().isStreamDownload()) {
+            throw new IllegalArgumentException(
+                    "You cannot both set parallelProcessing=true and streamDownload=true options");
+        }
+
         if (!getConfiguration().isUseList() && getFileName() == null) {
             throw new IllegalArgumentException(
                     "Endpoint is configured with useList=false, then fileName must be configured also");
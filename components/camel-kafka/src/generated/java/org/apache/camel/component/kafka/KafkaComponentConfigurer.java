@@ -120,6 +120,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "key": getOrCreateConfiguration(target).setKey(property(camelContext, java.lang.String.class, value)); return true;
         case "keydeserializer":
         case "keyDeserializer": getOrCreateConfiguration(target).setKeyDeserializer(property(camelContext, java.lang.String.class, value)); return true;
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": getOrCreateConfiguration(target).setKeyOrderedProcessingThreads(property(camelContext, int.class, value)); return true;
         case "keyserializer":
         case "keySerializer": getOrCreateConfiguration(target).setKeySerializer(property(camelContext, java.lang.String.class, value)); return true;
         case "lazystartproducer":
@@ -355,6 +357,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "key": return java.lang.String.class;
         case "keydeserializer":
         case "keyDeserializer": return java.lang.String.class;
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": return int.class;
         case "keyserializer":
         case "keySerializer": return java.lang.String.class;
         case "lazystartproducer":
@@ -586,6 +590,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "key": return getOrCreateConfiguration(target).getKey();
         case "keydeserializer":
         case "keyDeserializer": return getOrCreateConfiguration(target).getKeyDeserializer();
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": return getOrCreateConfiguration(target).getKeyOrderedProcessingThreads();
         case "keyserializer":
         case "keySerializer": return getOrCreateConfiguration(target).getKeySerializer();
         case "lazystartproducer":
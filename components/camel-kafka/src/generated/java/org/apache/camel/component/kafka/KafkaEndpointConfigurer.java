@@ -106,6 +106,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "key": target.getConfiguration().setKey(property(camelContext, java.lang.String.class, value)); return true;
         case "keydeserializer":
         case "keyDeserializer": target.getConfiguration().setKeyDeserializer(property(camelContext, java.lang.String.class, value)); return true;
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": target.getConfiguration().setKeyOrderedProcessingThreads(property(camelContext, int.class, value)); return true;
         case "keyserializer":
         case "keySerializer": target.getConfiguration().setKeySerializer(property(camelContext, java.lang.String.class, value)); return true;
         case "lazystartproducer":
@@ -321,6 +323,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "key": return java.lang.String.class;
         case "keydeserializer":
         case "keyDeserializer": return java.lang.String.class;
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": return int.class;
         case "keyserializer":
         case "keySerializer": return java.lang.String.class;
         case "lazystartproducer":
@@ -537,6 +541,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "key": return target.getConfiguration().getKey();
         case "keydeserializer":
         case "keyDeserializer": return target.getConfiguration().getKeyDeserializer();
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": return target.getConfiguration().getKeyOrderedProcessingThreads();
         case "keyserializer":
         case "keySerializer": return target.getConfiguration().getKeySerializer();
         case "lazystartproducer":
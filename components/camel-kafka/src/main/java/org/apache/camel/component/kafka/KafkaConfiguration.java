@@ -353,6 +353,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
 
     @UriParam(label = "consumer", defaultValue = "false")
     private boolean batching;
+    @UriParam(label = "consumer")
+    private int keyOrderedProcessingThreads;
 
     public KafkaConfiguration() {
     }
@@ -1972,4 +1974,18 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     public void setBatching(boolean batching) {
         this.batching = batching;
     }
+
+    public int getKeyOrderedProcessingThreads() {
+        return keyOrderedProcessingThreads;
+    }
+
+    /**
+     * Number of worker threads used to process the records of each poll in parallel, while the records with the same
+     * key are still processed one by one in their order. The offsets are only committed up to the records which have
+     * completed processing without any gaps. The default is 0, which processes the records one by one on the thread
+     * polling from Kafka. This option cannot be used together with batching or manual commits.
+     */
+    public void setKeyOrderedProcessingThreads(int keyOrderedProcessingThreads) {
+        this.keyOrderedProcessingThreads = keyOrderedProcessingThreads;
+    }
 }
@@ -56,6 +56,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    private ExecutorService keyOrderedProcessingExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private HealthCheckRepository healthCheckRepository;
@@ -147,6 +148,15 @@ public class KafkaConsumer extends DefaultConsumer
             }
         }
 
+        if (endpoint.getConfiguration().getKeyOrderedProcessingThreads() > 0) {
+            if (endpoint.getConfiguration().isBatching() || endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException(
+                        "The keyOrderedProcessingThreads option cannot be used together with batching"
+                        + " or allowManualCommit");
+            }
+            keyOrderedProcessingExecutor = endpoint.createKeyOrderedProcessingExecutor();
+        }
+
         executor = endpoint.createExecutor();
 
         String topic = endpoint.getConfiguration().getTopic();
@@ -215,6 +225,12 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (keyOrderedProcessingExecutor != null) {
+            // the polling threads have stopped so there are no more records being processed
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(keyOrderedProcessingExecutor);
+            keyOrderedProcessingExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -244,6 +260,14 @@ public class KafkaConsumer extends DefaultConsumer
         super.doResume();
     }
 
+    /**
+     * The executor used to process the records in parallel when key ordered processing is enabled, or null if not
+     * enabled.
+     */
+    public ExecutorService getKeyOrderedProcessingExecutor() {
+        return keyOrderedProcessingExecutor;
+    }
+
     public List<TaskHealthState> healthStates() {
         return tasks.stream().map(KafkaFetchRecords::healthState).collect(Collectors.toList());
     }
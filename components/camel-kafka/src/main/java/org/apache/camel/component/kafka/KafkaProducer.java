@@ -21,7 +21,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -31,15 +30,14 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.component.kafka.producer.support.DelegatingCallback;
+import org.apache.camel.component.kafka.producer.support.KafkaHeaderEncoder;
 import org.apache.camel.component.kafka.producer.support.KafkaProducerCallBack;
 import org.apache.camel.component.kafka.producer.support.KafkaProducerMetadataCallBack;
 import org.apache.camel.component.kafka.producer.support.KeyValueHolderIterator;
 import org.apache.camel.component.kafka.producer.support.ProducerUtil;
 import org.apache.camel.component.kafka.producer.support.PropagatedHeadersProvider;
-import org.apache.camel.component.kafka.serde.KafkaHeaderSerializer;
 import org.apache.camel.health.HealthCheckHelper;
 import org.apache.camel.health.WritableHealthCheckRepository;
-import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.KeyValueHolder;
@@ -54,7 +52,6 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.header.Header;
-import org.apache.kafka.common.header.internals.RecordHeader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,6 +75,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
     private final String endpointTopic;
     private final Integer configPartitionKey;
     private final String configKey;
+    private final KafkaHeaderEncoder headerEncoder;
 
     public KafkaProducer(KafkaEndpoint endpoint) {
         super(endpoint);
@@ -87,6 +85,8 @@ public class KafkaProducer extends DefaultAsyncProducer {
         endpointTopic = URISupport.extractRemainderPath(URI.create(endpoint.getEndpointUri()), true);
         configPartitionKey = configuration.getPartitionKey();
         configKey = configuration.getKey();
+        headerEncoder
+                = new KafkaHeaderEncoder(configuration.getHeaderFilterStrategy(), configuration.getHeaderSerializer());
     }
 
     @Override
@@ -343,42 +343,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
     }
 
     public List<Header> getPropagatedHeaders(Exchange exchange, Message message) {
-        Map<String, Object> messageHeaders = message.getHeaders();
-        List<Header> propagatedHeaders = new ArrayList<>(messageHeaders.size());
-
-        for (Map.Entry<String, Object> header : messageHeaders.entrySet()) {
-            RecordHeader recordHeader = getRecordHeader(header, exchange);
-            if (recordHeader != null) {
-                propagatedHeaders.add(recordHeader);
-            }
-        }
-
-        return propagatedHeaders;
-    }
-
-    private boolean shouldBeFiltered(String key, Object value, Exchange exchange, HeaderFilterStrategy headerFilterStrategy) {
-        return !headerFilterStrategy.applyFilterToCamelHeaders(key, value, exchange);
-    }
-
-    private RecordHeader getRecordHeader(
-            Map.Entry<String, Object> entry, Exchange exchange) {
-
-        final HeaderFilterStrategy headerFilterStrategy = configuration.getHeaderFilterStrategy();
-
-        final String key = entry.getKey();
-        final Object value = entry.getValue();
-
-        if (shouldBeFiltered(key, value, exchange, headerFilterStrategy)) {
-            final KafkaHeaderSerializer headerSerializer = configuration.getHeaderSerializer();
-            final byte[] headerValue = headerSerializer.serialize(key, value);
-
-            if (headerValue == null) {
-                return null;
-            }
-            return new RecordHeader(key, headerValue);
-        }
-
-        return null;
+        return headerEncoder.encode(exchange, message);
     }
 
     @Override
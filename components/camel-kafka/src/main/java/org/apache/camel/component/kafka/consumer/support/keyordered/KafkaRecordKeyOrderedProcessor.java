@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.keyordered;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes a single record on a worker thread. Unlike the streaming processor, this does not record or commit any
+ * offsets, as the Kafka consumer can only be used by the thread polling from Kafka. The
+ * {@link org.apache.camel.component.kafka.KafkaConstants#LAST_RECORD_BEFORE_COMMIT} and
+ * {@link org.apache.camel.component.kafka.KafkaConstants#LAST_POLL_RECORD} headers are not set either, as the records
+ * are processed concurrently, so the last record of a partition or poll is not necessarily the last record to
+ * complete.
+ */
+final class KafkaRecordKeyOrderedProcessor extends KafkaRecordProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordKeyOrderedProcessor.class);
+
+    private final KafkaConfiguration configuration;
+    private final Processor processor;
+
+    KafkaRecordKeyOrderedProcessor(KafkaConfiguration configuration, Processor processor) {
+        this.configuration = configuration;
+        this.processor = processor;
+    }
+
+    ProcessingResult processExchange(
+            KafkaConsumer camelKafkaConsumer, TopicPartition topicPartition, ConsumerRecord<Object, Object> consumerRecord) {
+
+        final Exchange exchange = camelKafkaConsumer.createExchange(false);
+
+        Message message = exchange.getMessage();
+
+        setupExchangeMessage(message, consumerRecord);
+
+        propagateHeaders(configuration, consumerRecord, exchange);
+
+        try {
+            processor.process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        ProcessingResult result;
+        if (exchange.getException() != null) {
+            LOG.debug("An exception was thrown for consumerRecord at partition {} and offset {}",
+                    consumerRecord.partition(), consumerRecord.offset());
+
+            if (configuration.isBreakOnFirstError()) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Error during processing {} from topic: {} due to {}", exchange, topicPartition.topic(),
+                            exchange.getException().getMessage());
+                    LOG.warn("Will seek consumer to offset {} on partition {} and start polling again.",
+                            consumerRecord.offset(), consumerRecord.partition());
+                }
+                result = new ProcessingResult(true, true);
+            } else {
+                // will handle/log the exception and then continue to next
+                final ExceptionHandler exceptionHandler = camelKafkaConsumer.getExceptionHandler();
+                exceptionHandler.handleException("Error during processing", exchange, exchange.getException());
+                result = new ProcessingResult(false, true);
+            }
+        } else {
+            result = new ProcessingResult(false, false);
+        }
+
+        camelKafkaConsumer.releaseExchange(exchange, false);
+
+        return result;
+    }
+}
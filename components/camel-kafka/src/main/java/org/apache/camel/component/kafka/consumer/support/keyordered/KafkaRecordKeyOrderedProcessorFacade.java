@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.keyordered;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.AbstractKafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.component.kafka.consumer.support.keyordered.OffsetCommitTracker.TrackedOffset;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the records of a poll in parallel on a bounded pool of worker threads, while the records with the same key
+ * are processed one by one in their order.
+ * <p/>
+ * The offsets of the records are tracked per partition, and only the offsets of the records which have completed
+ * without any gaps are committed, by the thread polling from Kafka, when all the records of the poll are done.
+ */
+public class KafkaRecordKeyOrderedProcessorFacade extends AbstractKafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordKeyOrderedProcessorFacade.class);
+    private final KafkaRecordKeyOrderedProcessor kafkaRecordProcessor;
+    private final ExecutorService executor;
+    private final boolean breakOnFirstError;
+
+    public KafkaRecordKeyOrderedProcessorFacade(
+                                                KafkaConsumer camelKafkaConsumer, String threadId,
+                                                CommitManager commitManager, KafkaConsumerListener consumerListener) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+
+        this.executor = camelKafkaConsumer.getKeyOrderedProcessingExecutor();
+        this.breakOnFirstError = camelKafkaConsumer.getEndpoint().getConfiguration().isBreakOnFirstError();
+        this.kafkaRecordProcessor = new KafkaRecordKeyOrderedProcessor(
+                camelKafkaConsumer.getEndpoint().getConfiguration(),
+                camelKafkaConsumer.getProcessor());
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        logRecords(allRecords);
+
+        if (allRecords.isEmpty()) {
+            return ProcessingResult.newUnprocessed();
+        }
+
+        // group the records by their key, so the records with the same key are processed in order
+        OffsetCommitTracker tracker = new OffsetCommitTracker();
+        Map<Object, List<KeyedRecord>> groups = new LinkedHashMap<>();
+
+        for (TopicPartition partition : allRecords.partitions()) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            logRecordsInPartition(partitionRecords, partition);
+
+            for (ConsumerRecord<Object, Object> consumerRecord : partitionRecords) {
+                TrackedOffset offset = tracker.track(partition, consumerRecord.offset());
+                KeyedRecord keyedRecord = new KeyedRecord(partition, consumerRecord, offset);
+                groups.computeIfAbsent(groupKey(consumerRecord), k -> new ArrayList<>()).add(keyedRecord);
+            }
+        }
+
+        LOG.debug("Processing {} records with {} distinct keys", allRecords.count(), groups.size());
+
+        AtomicBoolean breakOnErrorHit = new AtomicBoolean();
+        AtomicBoolean failed = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(groups.size());
+        for (List<KeyedRecord> group : groups.values()) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        processGroup(group, breakOnErrorHit, failed);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // the consumer is stopping, so the records are not completed and will not be committed
+                LOG.debug("Cannot process records as the consumer is stopping");
+                latch.countDown();
+            }
+        }
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            LOG.info("Interrupted while waiting for records to be processed");
+            Thread.currentThread().interrupt();
+        }
+
+        ProcessingResult result = new ProcessingResult(breakOnErrorHit.get(), failed.get());
+        if (consumerListener != null) {
+            consumerListener.afterProcess(result);
+        }
+
+        // commit the offsets of the records which have completed without any gaps
+        for (TopicPartition partition : tracker.getPartitions()) {
+            long offset = tracker.getLastCompletedOffset(partition);
+            if (offset >= 0) {
+                LOG.debug("Committing offset {} on partition {}", offset, partition.partition());
+                commitManager.recordOffset(partition, offset);
+            }
+            commitManager.commit(partition);
+        }
+
+        return result;
+    }
+
+    private void processGroup(List<KeyedRecord> group, AtomicBoolean breakOnErrorHit, AtomicBoolean failed) {
+        for (KeyedRecord keyedRecord : group) {
+            // the records after a failed record must not be processed, to keep the order of the records
+            if (isStopping() || breakOnErrorHit.get()) {
+                return;
+            }
+
+            ConsumerRecord<Object, Object> consumerRecord = keyedRecord.consumerRecord();
+            logRecord(consumerRecord);
+
+            ProcessingResult result
+                    = kafkaRecordProcessor.processExchange(camelKafkaConsumer, keyedRecord.partition(), consumerRecord);
+
+            if (result.isFailed()) {
+                failed.set(true);
+            }
+            if (result.isBreakOnErrorHit() && breakOnFirstError) {
+                // the record is not completed, so it is consumed again after reconnecting
+                breakOnErrorHit.set(true);
+                return;
+            }
+            keyedRecord.offset().complete();
+        }
+    }
+
+    private static Object groupKey(ConsumerRecord<Object, Object> consumerRecord) {
+        Object key = consumerRecord.key();
+        if (key == null) {
+            // records without a key can be processed in any order
+            return consumerRecord;
+        } else if (key instanceof byte[] bytes) {
+            // compare the content of the key
+            return ByteBuffer.wrap(bytes);
+        }
+        return key;
+    }
+
+    private record KeyedRecord(
+            TopicPartition partition, ConsumerRecord<Object, Object> consumerRecord, TrackedOffset offset) {
+    }
+}
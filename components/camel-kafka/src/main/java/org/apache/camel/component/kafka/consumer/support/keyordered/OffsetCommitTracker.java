@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.keyordered;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Tracks the offsets of the records which are processed out of order, so that only the offsets of the records which
+ * have completed processing without any gaps (from the first record of each partition) are committed.
+ * <p/>
+ * The records must be tracked in their order in the partition by the thread polling from Kafka, while the records can
+ * be completed by any thread.
+ */
+final class OffsetCommitTracker {
+
+    private final Map<TopicPartition, List<TrackedOffset>> partitions = new LinkedHashMap<>();
+
+    /**
+     * Starts tracking the offset of a record
+     *
+     * @param  partition the partition of the record
+     * @param  offset    the offset of the record
+     * @return           the tracked offset to complete when the record has been processed
+     */
+    TrackedOffset track(TopicPartition partition, long offset) {
+        TrackedOffset answer = new TrackedOffset(offset);
+        partitions.computeIfAbsent(partition, k -> new ArrayList<>()).add(answer);
+        return answer;
+    }
+
+    Set<TopicPartition> getPartitions() {
+        return partitions.keySet();
+    }
+
+    /**
+     * Gets the offset of the last record in the partition which has completed, and where all the records before it have
+     * completed as well.
+     *
+     * @param  partition the partition
+     * @return           the offset, or -1 if the first record of the partition has not completed
+     */
+    long getLastCompletedOffset(TopicPartition partition) {
+        long answer = -1;
+        List<TrackedOffset> offsets = partitions.get(partition);
+        if (offsets != null) {
+            for (TrackedOffset offset : offsets) {
+                if (!offset.isCompleted()) {
+                    break;
+                }
+                answer = offset.getOffset();
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * The offset of a record being processed
+     */
+    static final class TrackedOffset {
+        private final long offset;
+        private volatile boolean completed;
+
+        TrackedOffset(long offset) {
+            this.offset = offset;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+
+        boolean isCompleted() {
+            return completed;
+        }
+
+        void complete() {
+            completed = true;
+        }
+    }
+}
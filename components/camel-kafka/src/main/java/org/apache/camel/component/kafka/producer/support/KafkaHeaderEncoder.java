@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.producer.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.component.kafka.KafkaHeaderFilterStrategy;
+import org.apache.camel.component.kafka.serde.DefaultKafkaHeaderSerializer;
+import org.apache.camel.component.kafka.serde.KafkaHeaderSerializer;
+import org.apache.camel.spi.HeaderFilterStrategy;
+import org.apache.camel.support.DefaultHeaderFilterStrategy;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+
+/**
+ * Encodes the headers of a Camel message into Kafka record headers.
+ * <p/>
+ * When the default header filter strategy is used, the decision whether a header is propagated only depends on its
+ * name, and is cached per header name. When the default header serializer is used, the last encoded value of each
+ * header is cached as well, so headers which keep the same immutable value (such as a String or a Long) across the
+ * messages are only encoded once.
+ */
+public class KafkaHeaderEncoder {
+
+    private static final int MAX_CACHED_HEADERS = 1000;
+
+    private final HeaderFilterStrategy headerFilterStrategy;
+    private final KafkaHeaderSerializer headerSerializer;
+    private final boolean cacheFilter;
+    private final boolean cacheValues;
+    private final Map<String, CachedHeader> cache = new ConcurrentHashMap<>();
+
+    public KafkaHeaderEncoder(HeaderFilterStrategy headerFilterStrategy, KafkaHeaderSerializer headerSerializer) {
+        this.headerFilterStrategy = headerFilterStrategy;
+        this.headerSerializer = headerSerializer;
+        // custom strategies and serializers may depend on the value or the exchange, so only cache the default ones
+        this.cacheFilter = headerFilterStrategy.getClass() == KafkaHeaderFilterStrategy.class
+                || headerFilterStrategy.getClass() == DefaultHeaderFilterStrategy.class;
+        this.cacheValues = cacheFilter && headerSerializer.getClass() == DefaultKafkaHeaderSerializer.class;
+    }
+
+    /**
+     * Encodes the headers of the given message which should be propagated to Kafka.
+     */
+    public List<Header> encode(Exchange exchange, Message message) {
+        Map<String, Object> messageHeaders = message.getHeaders();
+        List<Header> headers = new ArrayList<>(messageHeaders.size());
+
+        for (Map.Entry<String, Object> entry : messageHeaders.entrySet()) {
+            Header header = encode(entry.getKey(), entry.getValue(), exchange);
+            if (header != null) {
+                headers.add(header);
+            }
+        }
+
+        return headers;
+    }
+
+    /**
+     * Encodes a single header, or returns <tt>null</tt> if the header should not be propagated.
+     */
+    public Header encode(String key, Object value, Exchange exchange) {
+        if (!cacheFilter || key == null || value == null) {
+            return doEncode(key, value, exchange);
+        }
+
+        CachedHeader cached = cache.get(key);
+        if (cached == null) {
+            cached = new CachedHeader(shouldPropagate(key, value, exchange));
+            if (cache.size() < MAX_CACHED_HEADERS) {
+                cache.putIfAbsent(key, cached);
+            }
+        }
+        if (!cached.propagate) {
+            return null;
+        }
+
+        if (cacheValues && isImmutable(value)) {
+            EncodedValue last = cached.last;
+            if (last != null && last.value().equals(value)) {
+                return last.header();
+            }
+            Header header = serialize(key, value);
+            if (header != null) {
+                cached.last = new EncodedValue(value, header);
+            }
+            return header;
+        }
+
+        return serialize(key, value);
+    }
+
+    private Header doEncode(String key, Object value, Exchange exchange) {
+        if (shouldPropagate(key, value, exchange)) {
+            return serialize(key, value);
+        }
+        return null;
+    }
+
+    private boolean shouldPropagate(String key, Object value, Exchange exchange) {
+        return !headerFilterStrategy.applyFilterToCamelHeaders(key, value, exchange);
+    }
+
+    private Header serialize(String key, Object value) {
+        byte[] headerValue = headerSerializer.serialize(key, value);
+        if (headerValue == null) {
+            return null;
+        }
+        return new RecordHeader(key, headerValue);
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Long || value instanceof Integer || value instanceof Double
+                || value instanceof Boolean;
+    }
+
+    private static final class CachedHeader {
+        private final boolean propagate;
+        private volatile EncodedValue last;
+
+        private CachedHeader(boolean propagate) {
+            this.propagate = propagate;
+        }
+    }
+
+    private record EncodedValue(Object value, Header header) {
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.keyordered;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaRecordKeyOrderedProcessorFacadeTest {
+    private static final String TOPIC = "topic1";
+
+    private final TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+    private final TopicPartition partition2 = new TopicPartition(TOPIC, 2);
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaConsumer camelKafkaConsumer = mock(KafkaConsumer.class);
+    private final KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+    private final List<Exchange> processed = Collections.synchronizedList(new ArrayList<>());
+    private CamelContext context;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        context = new DefaultCamelContext();
+        executor = Executors.newFixedThreadPool(4);
+
+        when(camelKafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(camelKafkaConsumer.getKeyOrderedProcessingExecutor()).thenReturn(executor);
+        when(camelKafkaConsumer.createExchange(false)).thenAnswer(invocation -> new DefaultExchange(context));
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(exceptionHandler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        context.stop();
+    }
+
+    @Test
+    @DisplayName("Tests whether the records with byte array keys of the same content are processed one by one in order")
+    void byteArrayKeysAreGrouped() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        ProcessingResult result = processPolledRecords(exchange -> {
+            if (inFlight.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            // give the other records the chance to be processed at the same time if they were not grouped
+            Thread.sleep(10);
+            inFlight.decrementAndGet();
+        }, records(partition1, "a".getBytes(StandardCharsets.UTF_8), "a".getBytes(StandardCharsets.UTF_8),
+                "a".getBytes(StandardCharsets.UTF_8), "a".getBytes(StandardCharsets.UTF_8)));
+
+        assertFalse(result.isFailed());
+        assertFalse(overlapped.get(), "The records with the same key must not be processed at the same time");
+        assertEquals(List.of(0L, 1L, 2L, 3L), processedOffsets());
+        verify(commitManager).recordOffset(partition1, 3L);
+        verify(commitManager).commit(partition1);
+    }
+
+    @Test
+    @DisplayName("Tests whether the records without a key are processed independently of each other")
+    void nullKeysAreNotGrouped() {
+        CountDownLatch othersProcessed = new CountDownLatch(2);
+        AtomicBoolean waited = new AtomicBoolean();
+        ProcessingResult result = processPolledRecords(exchange -> {
+            if (offsetOf(exchange) == 0) {
+                // only completes when the other records are not queued behind this one
+                waited.set(othersProcessed.await(5, TimeUnit.SECONDS));
+            } else {
+                othersProcessed.countDown();
+            }
+        }, records(partition1, null, null, null));
+
+        assertFalse(result.isFailed());
+        assertTrue(waited.get(), "The records without a key must not be processed one by one");
+        assertEquals(3, processed.size());
+        verify(commitManager).recordOffset(partition1, 2L);
+        verify(commitManager).commit(partition1);
+    }
+
+    @Test
+    @DisplayName("Tests whether the records of a key after a failed one are skipped when breaking on the first error")
+    void breakOnFirstErrorStopsGroup() {
+        configuration.setBreakOnFirstError(true);
+
+        ProcessingResult result = processPolledRecords(exchange -> {
+            if (offsetOf(exchange) == 1) {
+                throw new IllegalStateException("Forced error");
+            }
+        }, records(partition1, "a", "a", "a"));
+
+        assertTrue(result.isBreakOnErrorHit());
+        assertTrue(result.isFailed());
+        assertEquals(List.of(0L, 1L), processedOffsets());
+        verify(commitManager).recordOffset(partition1, 0L);
+        verify(commitManager).commit(partition1);
+        verify(exceptionHandler, never()).handleException(any(), any(Exchange.class), any());
+    }
+
+    @Test
+    @DisplayName("Tests whether a failed record keeps the completed records of other keys after it uncommitted")
+    void outOfOrderFailureAcrossKeys() {
+        configuration.setBreakOnFirstError(true);
+
+        CountDownLatch firstProcessed = new CountDownLatch(1);
+        ProcessingResult result = processPolledRecords(exchange -> {
+            long offset = offsetOf(exchange);
+            if (offset == 0) {
+                firstProcessed.countDown();
+            } else if (offset == 1) {
+                // fail after the record before it, of the other key, is processed
+                firstProcessed.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("Forced error");
+            }
+        }, records(partition1, "a", "b", "a", "b"));
+
+        assertTrue(result.isBreakOnErrorHit());
+        assertFalse(processedOffsets().contains(3L), "The records after a failed record must be skipped");
+        // the offset 2 of the other key may have completed, but must not be committed over the failed offset 1
+        verify(commitManager).recordOffset(partition1, 0L);
+        verify(commitManager, times(1)).recordOffset(eq(partition1), anyLong());
+        verify(commitManager).commit(partition1);
+    }
+
+    @Test
+    @DisplayName("Tests whether the offsets are committed per partition up to the first record not completed")
+    void commitsGapFreePrefixPerPartition() {
+        configuration.setBreakOnFirstError(true);
+
+        CountDownLatch partition2Processed = new CountDownLatch(1);
+        ProcessingResult result = processPolledRecords(exchange -> {
+            int partition = exchange.getMessage().getHeader(KafkaConstants.PARTITION, Integer.class);
+            long offset = offsetOf(exchange);
+            if (partition == 2) {
+                partition2Processed.countDown();
+            } else if (offset == 0) {
+                // fail after the record of the other partition is processed
+                partition2Processed.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("Forced error");
+            }
+        }, Map.of(partition1, List.of(record(partition1, 0, "a"), record(partition1, 1, "a")),
+                partition2, List.of(record(partition2, 0, "b"))));
+
+        assertTrue(result.isBreakOnErrorHit());
+        // nothing has completed on the first partition, so only its position is committed
+        verify(commitManager, never()).recordOffset(eq(partition1), anyLong());
+        verify(commitManager).commit(partition1);
+        verify(commitManager).recordOffset(partition2, 0L);
+        verify(commitManager).commit(partition2);
+    }
+
+    @Test
+    @DisplayName("Tests whether a failed record is handled and completed when not breaking on the first error")
+    void failedRecordIsHandled() {
+        ProcessingResult result = processPolledRecords(exchange -> {
+            if (offsetOf(exchange) == 1) {
+                throw new IllegalStateException("Forced error");
+            }
+        }, records(partition1, "a", "a", "a"));
+
+        assertFalse(result.isBreakOnErrorHit());
+        assertTrue(result.isFailed());
+        assertEquals(List.of(0L, 1L, 2L), processedOffsets());
+        verify(exceptionHandler).handleException(any(), any(Exchange.class), any(IllegalStateException.class));
+        verify(commitManager).recordOffset(partition1, 2L);
+    }
+
+    @Test
+    @DisplayName("Tests whether the headers about the last record of the poll are not set")
+    void lastRecordHeadersAreNotSet() {
+        processPolledRecords(exchange -> {
+        }, records(partition1, "a", "b"));
+
+        assertEquals(2, processed.size());
+        for (Exchange exchange : processed) {
+            assertNull(exchange.getMessage().getHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT));
+            assertNull(exchange.getMessage().getHeader(KafkaConstants.LAST_POLL_RECORD));
+        }
+    }
+
+    private ProcessingResult processPolledRecords(
+            Processor processor, Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records) {
+        when(camelKafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            processed.add(exchange);
+            processor.process(exchange);
+        });
+
+        KafkaRecordKeyOrderedProcessorFacade facade
+                = new KafkaRecordKeyOrderedProcessorFacade(camelKafkaConsumer, "thread1", commitManager, null);
+        return facade.processPolledRecords(new ConsumerRecords<>(records));
+    }
+
+    private List<Long> processedOffsets() {
+        synchronized (processed) {
+            return processed.stream().map(KafkaRecordKeyOrderedProcessorFacadeTest::offsetOf).toList();
+        }
+    }
+
+    private static long offsetOf(Exchange exchange) {
+        return exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+    }
+
+    private static Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records(
+            TopicPartition partition, Object... keys) {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            records.add(record(partition, i, keys[i]));
+        }
+        return Map.of(partition, records);
+    }
+
+    private static ConsumerRecord<Object, Object> record(TopicPartition partition, long offset, Object key) {
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, key, "value" + offset);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.keyordered;
+
+import java.util.List;
+
+import org.apache.camel.component.kafka.consumer.support.keyordered.OffsetCommitTracker.TrackedOffset;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OffsetCommitTrackerTest {
+    private final TopicPartition partition1 = new TopicPartition("topic1", 1);
+    private final TopicPartition partition2 = new TopicPartition("topic1", 2);
+
+    @Test
+    @DisplayName("Tests whether only the offsets of the records completed without gaps are committed")
+    void completedWithGaps() {
+        OffsetCommitTracker tracker = new OffsetCommitTracker();
+        TrackedOffset offset1 = tracker.track(partition1, 10);
+        TrackedOffset offset2 = tracker.track(partition1, 11);
+        TrackedOffset offset3 = tracker.track(partition1, 12);
+
+        assertEquals(-1, tracker.getLastCompletedOffset(partition1));
+
+        offset3.complete();
+        assertEquals(-1, tracker.getLastCompletedOffset(partition1));
+
+        offset1.complete();
+        assertEquals(10, tracker.getLastCompletedOffset(partition1));
+
+        offset2.complete();
+        assertEquals(12, tracker.getLastCompletedOffset(partition1));
+    }
+
+    @Test
+    @DisplayName("Tests whether the offsets are tracked per partition, also when the offsets are not contiguous")
+    void multiplePartitions() {
+        OffsetCommitTracker tracker = new OffsetCommitTracker();
+        // compacted topics can have gaps in the offsets
+        TrackedOffset offset1 = tracker.track(partition1, 3);
+        TrackedOffset offset2 = tracker.track(partition1, 7);
+        TrackedOffset offset3 = tracker.track(partition2, 5);
+
+        offset1.complete();
+        offset2.complete();
+
+        assertEquals(List.of(partition1, partition2), List.copyOf(tracker.getPartitions()));
+        assertEquals(7, tracker.getLastCompletedOffset(partition1));
+        assertEquals(-1, tracker.getLastCompletedOffset(partition2));
+
+        offset3.complete();
+        assertEquals(5, tracker.getLastCompletedOffset(partition2));
+        assertEquals(-1, tracker.getLastCompletedOffset(new TopicPartition("topic2", 1)));
+    }
+}
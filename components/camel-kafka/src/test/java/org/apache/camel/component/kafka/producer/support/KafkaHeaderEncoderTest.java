@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.producer.support;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.component.kafka.KafkaHeaderFilterStrategy;
+import org.apache.camel.component.kafka.serde.DefaultKafkaHeaderSerializer;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class KafkaHeaderEncoderTest {
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KafkaHeaderEncoder encoder
+            = new KafkaHeaderEncoder(new KafkaHeaderFilterStrategy(), new DefaultKafkaHeaderSerializer());
+
+    @Test
+    public void testEncodeHeaders() {
+        Exchange exchange = new DefaultExchange(context);
+        Message message = exchange.getMessage();
+        message.setHeader("foo", "bar");
+        message.setHeader("count", 5);
+        message.setHeader("CamelFileName", "hello.txt");
+        message.setHeader("unknown", new Object());
+
+        Map<String, byte[]> headers = encoder.encode(exchange, message).stream()
+                .collect(Collectors.toMap(Header::key, Header::value));
+
+        assertEquals(2, headers.size());
+        assertArrayEquals("bar".getBytes(), headers.get("foo"));
+        assertArrayEquals(new byte[] { 0, 0, 0, 5 }, headers.get("count"));
+    }
+
+    @Test
+    public void testReuseEncodedValue() {
+        Exchange exchange = new DefaultExchange(context);
+
+        Header first = encoder.encode("foo", "bar", exchange);
+        assertSame(first, encoder.encode("foo", "bar", exchange));
+
+        Header second = encoder.encode("foo", "baz", exchange);
+        assertNotSame(first, second);
+        assertArrayEquals("baz".getBytes(), second.value());
+    }
+}
@@ -50,6 +50,9 @@ public final class MicrometerConstants {
     public static final String DEFAULT_CAMEL_ROUTE_POLICY_EXCHANGES_EXTERNAL_REDELIVERIES_METER_NAME
             = "camel.exchanges.external.redeliveries";
     public static final String DEFAULT_CAMEL_ROUTES_EXCHANGES_INFLIGHT = "camel.exchanges.inflight";
+    public static final String DEFAULT_CAMEL_THROTTLER_LIMIT_METER_NAME = "camel.throttler.limit";
+    public static final String DEFAULT_CAMEL_THROTTLER_INFLIGHT_METER_NAME = "camel.throttler.inflight";
+    public static final String DEFAULT_CAMEL_THROTTLER_REJECTED_METER_NAME = "camel.throttler.rejected";
 
     public static final String DEFAULT_CAMEL_ROUTE_POLICY_METER_NAME = "camel.route.policy";
     public static final String DEFAULT_CAMEL_ROUTE_POLICY_LONGMETER_NAME = "camel.route.policy.long.task";
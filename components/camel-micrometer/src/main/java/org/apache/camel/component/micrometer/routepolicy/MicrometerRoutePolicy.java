@@ -16,22 +16,29 @@
  */
 package org.apache.camel.component.micrometer.routepolicy;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.NonManagedService;
+import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.component.micrometer.MicrometerUtils;
+import org.apache.camel.processor.AdaptiveConcurrencyThrottler;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.RoutePolicySupport;
@@ -75,6 +82,7 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
         private Counter failuresHandled;
         private Timer timer;
         private LongTaskTimer longTaskTimer;
+        private final List<Meter> throttlerMeters = new ArrayList<>();
 
         MetricsStatistics(MeterRegistry meterRegistry, CamelContext camelContext, Route route,
                           MicrometerRoutePolicyNamingStrategy namingStrategy,
@@ -87,6 +95,9 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
             if (configuration.isAdditionalCounters()) {
                 initAdditionalCounters();
             }
+            if (configuration.isThrottlers() && route != null) {
+                initThrottlers();
+            }
         }
 
         private void initAdditionalCounters() {
@@ -121,6 +132,32 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
             }
         }
 
+        private void initThrottlers() {
+            for (Processor processor : route.filter("*")) {
+                if (processor instanceof AdaptiveConcurrencyThrottler throttler) {
+                    Tags tags = namingStrategy.getThrottlerTags(route, throttler.getId());
+                    throttlerMeters.add(
+                            Gauge.builder(namingStrategy.getThrottlerLimitName(route), throttler,
+                                    AdaptiveConcurrencyThrottler::getCurrentMaximumRequests)
+                                    .tags(tags)
+                                    .description("Current concurrency limit of the throttler")
+                                    .register(meterRegistry));
+                    throttlerMeters.add(
+                            Gauge.builder(namingStrategy.getThrottlerInflightName(route), throttler,
+                                    AdaptiveConcurrencyThrottler::getInflightRequests)
+                                    .tags(tags)
+                                    .description("Number of exchanges in-flight in the throttler")
+                                    .register(meterRegistry));
+                    throttlerMeters.add(
+                            FunctionCounter.builder(namingStrategy.getThrottlerRejectedName(route), throttler,
+                                    AdaptiveConcurrencyThrottler::getRejectedCount)
+                                    .tags(tags)
+                                    .description("Number of exchanges rejected by the throttler")
+                                    .register(meterRegistry));
+                }
+            }
+        }
+
         public void onExchangeBegin(Exchange exchange) {
             Timer.Sample sample = Timer.start(meterRegistry);
             exchange.setProperty(propertyName(exchange), sample);
@@ -175,6 +212,7 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
             if (longTaskTimer != null) {
                 meterRegistry.remove(longTaskTimer);
             }
+            throttlerMeters.forEach(meterRegistry::remove);
         }
 
         private void updateAdditionalCounters(Exchange exchange) {
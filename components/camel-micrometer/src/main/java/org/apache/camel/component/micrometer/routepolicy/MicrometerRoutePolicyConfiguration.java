@@ -32,6 +32,7 @@ public class MicrometerRoutePolicyConfiguration {
     private boolean externalRedeliveries = true;
     private boolean failuresHandled = true;
     private boolean longTask;
+    private boolean throttlers = true;
     private Consumer<Timer.Builder> timerInitiator;
     private Consumer<LongTaskTimer.Builder> longTaskInitiator;
 
@@ -107,6 +108,14 @@ public class MicrometerRoutePolicyConfiguration {
         this.longTask = longTask;
     }
 
+    public boolean isThrottlers() {
+        return throttlers;
+    }
+
+    public void setThrottlers(boolean throttlers) {
+        this.throttlers = throttlers;
+    }
+
     public Consumer<Timer.Builder> getTimerInitiator() {
         return timerInitiator;
     }
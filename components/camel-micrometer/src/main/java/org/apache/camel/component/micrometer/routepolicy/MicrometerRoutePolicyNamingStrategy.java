@@ -83,6 +83,18 @@ public interface MicrometerRoutePolicyNamingStrategy {
         return formatName(DEFAULT_CAMEL_ROUTE_POLICY_LONGMETER_NAME);
     }
 
+    default String getThrottlerLimitName(Route route) {
+        return formatName(DEFAULT_CAMEL_THROTTLER_LIMIT_METER_NAME);
+    }
+
+    default String getThrottlerInflightName(Route route) {
+        return formatName(DEFAULT_CAMEL_THROTTLER_INFLIGHT_METER_NAME);
+    }
+
+    default String getThrottlerRejectedName(Route route) {
+        return formatName(DEFAULT_CAMEL_THROTTLER_REJECTED_METER_NAME);
+    }
+
     default Tags getTags(Route route) {
         return Tags.of(
                 CAMEL_CONTEXT_TAG, route.getCamelContext().getName(),
@@ -99,6 +111,10 @@ public interface MicrometerRoutePolicyNamingStrategy {
                 EVENT_TYPE_TAG, "context");
     }
 
+    default Tags getThrottlerTags(Route route, String nodeId) {
+        return getTags(route).and(NODE_ID_TAG, nodeId);
+    }
+
     default Tags getExchangeStatusTags(Route route) {
         return Tags.of(
                 CAMEL_CONTEXT_TAG, route.getCamelContext().getName(),
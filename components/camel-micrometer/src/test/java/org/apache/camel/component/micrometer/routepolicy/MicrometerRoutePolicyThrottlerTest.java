@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.routepolicy;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.micrometer.MicrometerConstants.DEFAULT_CAMEL_THROTTLER_INFLIGHT_METER_NAME;
+import static org.apache.camel.component.micrometer.MicrometerConstants.DEFAULT_CAMEL_THROTTLER_LIMIT_METER_NAME;
+import static org.apache.camel.component.micrometer.MicrometerConstants.DEFAULT_CAMEL_THROTTLER_REJECTED_METER_NAME;
+import static org.apache.camel.component.micrometer.MicrometerConstants.NODE_ID_TAG;
+import static org.apache.camel.component.micrometer.MicrometerConstants.ROUTE_ID_TAG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class MicrometerRoutePolicyThrottlerTest extends AbstractMicrometerRoutePolicyTest {
+
+    @Test
+    public void testThrottlerMetrics() throws Exception {
+        MockEndpoint mockEndpoint = getMockEndpoint("mock:result");
+        mockEndpoint.expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Hello");
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        Gauge limit = meterRegistry.find(DEFAULT_CAMEL_THROTTLER_LIMIT_METER_NAME)
+                .tag(ROUTE_ID_TAG, "throttled").tag(NODE_ID_TAG, "adaptive").gauge();
+        Gauge inflight = meterRegistry.find(DEFAULT_CAMEL_THROTTLER_INFLIGHT_METER_NAME)
+                .tag(ROUTE_ID_TAG, "throttled").tag(NODE_ID_TAG, "adaptive").gauge();
+        FunctionCounter rejected = meterRegistry.find(DEFAULT_CAMEL_THROTTLER_REJECTED_METER_NAME)
+                .tag(ROUTE_ID_TAG, "throttled").tag(NODE_ID_TAG, "adaptive").functionCounter();
+        assertNotNull(limit);
+        assertNotNull(inflight);
+        assertNotNull(rejected);
+
+        assertEquals(10.0D, limit.value(), 0.01D);
+        assertEquals(0.0D, inflight.value(), 0.01D);
+        assertEquals(0.0D, rejected.count(), 0.01D);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("throttled")
+                        .throttle(10).adaptiveConcurrencyMode().id("adaptive")
+                        .to("mock:result");
+            }
+        };
+    }
+}
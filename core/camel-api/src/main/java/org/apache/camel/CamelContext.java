@@ -1524,4 +1524,24 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     StartupSummaryLevel getStartupSummaryLevel();
 
+    /**
+     * Whether to warm up the routes in parallel when starting {@link CamelContext}, which can reduce the startup time
+     * when there are many routes.
+     *
+     * The routes are warmed up (starting their endpoints, producers and processors) concurrently while respecting the
+     * startup order of the routes, and routes which send to the endpoint of another route (such as direct and seda) are
+     * warmed up after the other route. The route consumers are still started one by one in the startup order.
+     */
+    Boolean isParallelRouteStartup();
+
+    /**
+     * Whether to warm up the routes in parallel when starting {@link CamelContext}, which can reduce the startup time
+     * when there are many routes.
+     *
+     * The routes are warmed up (starting their endpoints, producers and processors) concurrently while respecting the
+     * startup order of the routes, and routes which send to the endpoint of another route (such as direct and seda) are
+     * warmed up after the other route. The route consumers are still started one by one in the startup order.
+     */
+    void setParallelRouteStartup(Boolean parallelRouteStartup);
+
 }
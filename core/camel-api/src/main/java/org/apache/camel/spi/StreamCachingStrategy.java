@@ -90,6 +90,26 @@ public interface StreamCachingStrategy extends StaticService {
         Max
     }
 
+    /**
+     * Used for selecting where the stream caches are spooled when the stream is too large to be kept in-memory.
+     */
+    enum SpoolMode {
+        /**
+         * Spool to a temporary file, which is read using file streams.
+         */
+        File,
+        /**
+         * Spool to a temporary file, which is memory mapped when read, so re-reading the file does not open new file
+         * streams.
+         */
+        MemoryMapped,
+        /**
+         * Spool to off-heap (direct) memory using chunks from a bounded pool, which are recycled when the stream caches
+         * are done. If the pool is full, then the stream is spooled to a temporary file instead.
+         */
+        OffHeap
+    }
+
     /**
      * Rule for determine if stream caching should be spooled to disk or kept in-memory.
      */
@@ -206,6 +226,25 @@ public interface StreamCachingStrategy extends StaticService {
 
     SpoolUsedHeapMemoryLimit getSpoolUsedHeapMemoryLimit();
 
+    /**
+     * Sets where the stream caches are spooled when the spool rules determine to spool.
+     * <p/>
+     * The default mode is {@link SpoolMode#File}.
+     */
+    void setSpoolMode(SpoolMode spoolMode);
+
+    SpoolMode getSpoolMode();
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory which can be used for spooling, when using
+     * {@link SpoolMode#OffHeap}.
+     * <p/>
+     * The default size is 64mb.
+     */
+    void setSpoolOffHeapPoolSize(long size);
+
+    long getSpoolOffHeapPoolSize();
+
     /**
      * Sets the buffer size to use when allocating in-memory buffers used for in-memory stream caches.
      * <p/>
@@ -39,6 +39,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.apache.camel.CamelContext;
@@ -217,6 +220,8 @@ public abstract class AbstractCamelContext extends BaseService
     private final Map<String, Language> languages = new ConcurrentHashMap<>();
     private final Map<String, DataFormat> dataformats = new ConcurrentHashMap<>();
     private final List<LifecycleStrategy> lifecycleStrategies = new CopyOnWriteArrayList<>();
+    // the strategies are not thread-safe, so they are invoked one at a time when the routes are warmed up in parallel
+    private final Lock lifecycleStrategiesLock = new ReentrantLock();
     private final ThreadLocal<Boolean> isStartingRoutes = new ThreadLocal<>();
     private final ThreadLocal<Boolean> isLockModel = new ThreadLocal<>();
     private final Map<String, RouteService> routeServices = new LinkedHashMap<>();
@@ -278,6 +283,7 @@ public abstract class AbstractCamelContext extends BaseService
     private final ContextClock clock = new ContextClock();
     private SSLContextParameters sslContextParameters;
     private StartupSummaryLevel startupSummaryLevel = StartupSummaryLevel.Default;
+    private Boolean parallelRouteStartup = Boolean.FALSE;
 
     /**
      * Creates the {@link CamelContext} using {@link org.apache.camel.support.DefaultRegistry} as registry.
@@ -468,9 +474,7 @@ public abstract class AbstractCamelContext extends BaseService
     }
 
     private void postInitComponent(String componentName, final Component component) {
-        for (LifecycleStrategy strategy : lifecycleStrategies) {
-            strategy.onComponentAdd(componentName, component);
-        }
+        invokeLifecycleStrategies(this, strategy -> strategy.onComponentAdd(componentName, component));
     }
 
     @Override
@@ -636,9 +640,7 @@ public abstract class AbstractCamelContext extends BaseService
 
         startService(endpoint);
         oldEndpoint = endpoints.remove(getEndpointKey(uri));
-        for (LifecycleStrategy strategy : lifecycleStrategies) {
-            strategy.onEndpointAdd(endpoint);
-        }
+        invokeLifecycleStrategies(this, strategy -> strategy.onEndpointAdd(endpoint));
         addEndpointToRegistry(uri, endpoint);
         if (oldEndpoint != null && oldEndpoint != endpoint) {
             stopServices(oldEndpoint);
@@ -1563,9 +1565,8 @@ public abstract class AbstractCamelContext extends BaseService
             // inject CamelContext if aware
             CamelContextAware.trySetCamelContext(language, camelContext);
 
-            for (LifecycleStrategy strategy : lifecycleStrategies) {
-                strategy.onLanguageCreated(name, language);
-            }
+            final Language created = language;
+            invokeLifecycleStrategies(this, strategy -> strategy.onLanguageCreated(name, created));
         }
 
         if (step != null) {
@@ -1668,6 +1669,28 @@ public abstract class AbstractCamelContext extends BaseService
         return lifecycleStrategies;
     }
 
+    /**
+     * Invokes the lifecycle strategies of the given context. The strategies are not thread-safe, so when the routes
+     * are warmed up in parallel the strategies are invoked by one thread at a time, using a lock private to the
+     * context. Otherwise no lock is taken.
+     */
+    static void invokeLifecycleStrategies(CamelContext camelContext, Consumer<LifecycleStrategy> callback) {
+        Lock lock = null;
+        if (camelContext.isParallelRouteStartup() && camelContext instanceof AbstractCamelContext acc) {
+            lock = acc.lifecycleStrategiesLock;
+            lock.lock();
+        }
+        try {
+            for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                callback.accept(strategy);
+            }
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
     @Override
     public void addLifecycleStrategy(LifecycleStrategy lifecycleStrategy) {
         // avoid adding double which can happen with spring xml on spring boot
@@ -3625,9 +3648,7 @@ public abstract class AbstractCamelContext extends BaseService
             // inject CamelContext if aware
             CamelContextAware.trySetCamelContext(df, getCamelContextReference());
 
-            for (LifecycleStrategy strategy : lifecycleStrategies) {
-                strategy.onDataFormatCreated(name, df);
-            }
+            invokeLifecycleStrategies(this, strategy -> strategy.onDataFormatCreated(name, df));
         }
 
         if (step != null) {
@@ -3657,9 +3678,7 @@ public abstract class AbstractCamelContext extends BaseService
         // inject CamelContext if aware
         CamelContextAware.trySetCamelContext(answer, getCamelContextReference());
 
-        for (LifecycleStrategy strategy : lifecycleStrategies) {
-            strategy.onDataFormatCreated(name, answer);
-        }
+        invokeLifecycleStrategies(this, strategy -> strategy.onDataFormatCreated(name, answer));
 
         if (step != null) {
             startupStepRecorder.endStep(step);
@@ -3918,6 +3937,16 @@ public abstract class AbstractCamelContext extends BaseService
         this.startupSummaryLevel = startupSummaryLevel;
     }
 
+    @Override
+    public Boolean isParallelRouteStartup() {
+        return parallelRouteStartup != null && parallelRouteStartup;
+    }
+
+    @Override
+    public void setParallelRouteStartup(Boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
     protected Map<String, RouteService> getRouteServices() {
         return routeServices;
     }
@@ -28,6 +28,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -50,7 +51,9 @@ import org.apache.camel.util.URISupport;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadHelper;
+import org.apache.camel.util.concurrent.ThreadFactoryTypeAware;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.VirtualThreadPinningMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +71,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     private long shutdownAwaitTermination = 10000;
     private String defaultThreadPoolProfileId = "defaultThreadPoolProfile";
     private final ThreadPoolProfile defaultProfile;
+    private final AtomicBoolean pinningMonitorStarted = new AtomicBoolean();
+    private final AtomicBoolean virtualThreadsUnsupportedLogged = new AtomicBoolean();
 
     public BaseExecutorServiceManager(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -193,7 +198,10 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, profile.isVirtualThreads());
+        if (profile.isVirtualThreads()) {
+            onVirtualThreadsRequested(threadFactory);
+        }
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -235,6 +243,9 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         profile.setMaxPoolSize(poolSize);
         profile.setKeepAliveTime(0L);
         profile.setAllowCoreThreadTimeOut(false);
+        // do not inherit virtual threads from the default profile, as a fixed (or single) thread pool must keep
+        // executing the tasks in FIFO order by a thread pool executor
+        profile.setVirtualThreads(false);
         return newThreadPool(source, name, profile);
     }
 
@@ -362,9 +373,9 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
             threadPool = ((SizedScheduledExecutorService) executorService).getScheduledThreadPoolExecutor();
         }
         if (threadPool != null) {
-            for (LifecycleStrategy lifecycle : camelContext.getLifecycleStrategies()) {
-                lifecycle.onThreadPoolRemove(camelContext, threadPool);
-            }
+            final ThreadPoolExecutor removed = threadPool;
+            AbstractCamelContext.invokeLifecycleStrategies(camelContext,
+                    lifecycle -> lifecycle.onThreadPoolRemove(camelContext, removed));
         }
 
         // remove reference as its shutdown (do not remove if fail-safe)
@@ -503,9 +514,27 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
             }
         }
 
+        if (pinningMonitorStarted.compareAndSet(true, false)) {
+            VirtualThreadPinningMonitor.getInstance().stop();
+        }
+
         ServiceHelper.stopAndShutdownServices(threadPoolFactory);
     }
 
+    /**
+     * Invoked when a thread pool using virtual threads is requested, to start monitoring pinned virtual threads, or to
+     * log once that virtual threads is not supported on this JVM.
+     */
+    private void onVirtualThreadsRequested(ThreadFactory threadFactory) {
+        if (threadFactory instanceof ThreadFactoryTypeAware && ((ThreadFactoryTypeAware) threadFactory).isVirtual()) {
+            if (pinningMonitorStarted.compareAndSet(false, true)) {
+                VirtualThreadPinningMonitor.getInstance().start();
+            }
+        } else if (virtualThreadsUnsupportedLogged.compareAndSet(false, true)) {
+            LOG.info("Virtual threads requires JDK 21 or later. Thread pools will use platform threads instead.");
+        }
+    }
+
     /**
      * Invoked when a new thread pool is created. This implementation will invoke the
      * {@link LifecycleStrategy#onThreadPoolAdd(org.apache.camel.CamelContext, java.util.concurrent.ThreadPoolExecutor, String, String, String, String)
@@ -559,17 +588,28 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
             threadPool = ((SizedScheduledExecutorService) executorService).getScheduledThreadPoolExecutor();
         }
         if (threadPool != null) {
-            for (LifecycleStrategy lifecycle : camelContext.getLifecycleStrategies()) {
-                lifecycle.onThreadPoolAdd(camelContext, threadPool, id, sourceId, routeId, threadPoolProfileId);
-            }
+            onThreadPoolAdd(threadPool, id, sourceId, routeId, threadPoolProfileId);
         }
 
         // now call strategy to allow custom logic
         onNewExecutorService(executorService);
     }
 
+    private void onThreadPoolAdd(
+            ThreadPoolExecutor threadPool, String id, String sourceId, String routeId, String threadPoolProfileId) {
+        AbstractCamelContext.invokeLifecycleStrategies(camelContext, lifecycle -> lifecycle
+                .onThreadPoolAdd(camelContext, threadPool, id, sourceId, routeId, threadPoolProfileId));
+    }
+
     protected ThreadFactory createThreadFactory(String name, boolean isDaemon) {
         return new CamelThreadFactory(threadNamePattern, name, isDaemon);
     }
 
+    protected ThreadFactory createThreadFactory(String name, boolean isDaemon, boolean isVirtual) {
+        if (!isVirtual) {
+            return createThreadFactory(name, isDaemon);
+        }
+        return new CamelThreadFactory(threadNamePattern, name, isDaemon, true);
+    }
+
 }
@@ -105,6 +105,11 @@ import static java.util.Objects.requireNonNull;
  * {@link #process(org.apache.camel.Exchange, org.apache.camel.AsyncCallback)} method.
  * <p/>
  * The added advices can implement {@link Ordered} to control in which order the advices are executed.
+ * <p/>
+ * When none of the advices keep state (which is the default when tracing, message history, debugging and JMX are not
+ * in use) then a lean mode is used, which runs the advices from a pre-sorted array, and uses a task for the after
+ * advices and callback which does not keep any state of the advices. When exchange pooling is in use then these tasks
+ * are pooled separately from the tasks which keep the state of the advices.
  */
 public class CamelInternalProcessor extends DelegateAsyncProcessor implements InternalProcessor {
 
@@ -118,6 +123,9 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
     private byte statefulAdvices;
     private PooledObjectFactory<CamelInternalTask> taskFactory;
+    // lean mode when there are only stateless advices
+    private CamelInternalProcessorAdvice<Object>[] leanAdvices = new CamelInternalProcessorAdvice[0];
+    private PooledObjectFactory<CamelInternalTask> leanTaskFactory;
 
     public CamelInternalProcessor(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -142,15 +150,18 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             int capacity = camelContext.getCamelContextExtension().getExchangeFactory().getCapacity();
             taskFactory.setCapacity(capacity);
             LOG.trace("Using TaskFactory: {}", taskFactory);
+            // the lean tasks do not have room for the state of the advices, so they must not be mixed with the others
+            leanTaskFactory = new CamelInternalPooledTaskFactory();
+            leanTaskFactory.setCapacity(capacity);
         }
 
-        ServiceHelper.buildService(taskFactory, processor);
+        ServiceHelper.buildService(taskFactory, leanTaskFactory, processor);
     }
 
     @Override
     protected void doShutdown() throws Exception {
         super.doShutdown();
-        ServiceHelper.stopAndShutdownServices(taskFactory, processor);
+        ServiceHelper.stopAndShutdownServices(taskFactory, leanTaskFactory, processor);
     }
 
     @Override
@@ -162,6 +173,15 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         if (advice.hasState()) {
             statefulAdvices++;
         }
+        // only use lean mode if no advices need to keep state
+        leanAdvices = statefulAdvices == 0 ? advices.toArray(new CamelInternalProcessorAdvice[0]) : null;
+    }
+
+    /**
+     * Whether this processor is using lean mode, which is when none of its advices keep state.
+     */
+    public boolean isLean() {
+        return leanAdvices != null;
     }
 
     @Override
@@ -262,6 +282,75 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         }
     }
 
+    /**
+     * Callback task to process the stateless advices after processing when in lean mode.
+     */
+    private final class LeanAfterTask implements CamelInternalTask {
+
+        private Exchange exchange;
+        private AsyncCallback originalCallback;
+        // the advices which were run before processing (advices may be added while in use)
+        private CamelInternalProcessorAdvice<Object>[] advices;
+
+        @Override
+        public void prepare(Exchange exchange, AsyncCallback originalCallback) {
+            this.exchange = exchange;
+            this.originalCallback = originalCallback;
+        }
+
+        @Override
+        public Object[] getStates() {
+            return EMPTY_STATES;
+        }
+
+        @Override
+        public void reset() {
+            this.exchange = null;
+            this.originalCallback = null;
+            this.advices = null;
+        }
+
+        @Override
+        public void done(boolean doneSync) {
+            final Exchange exchange = this.exchange;
+            final AsyncCallback callback = this.originalCallback;
+            try {
+                final CamelInternalProcessorAdvice<Object>[] list = advices;
+                for (int i = list.length - 1; i >= 0; i--) {
+                    AdviceIterator.runAfterTask(list[i], null, exchange);
+                }
+            } finally {
+                // task is done so reset before continue routing as the task may be reused
+                releaseLeanTask(this);
+
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ START +++
+                // ----------------------------------------------------------
+                // callback must be called
+                if (callback != null) {
+                    reactiveExecutor.schedule(callback);
+                }
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ END +++
+                // ----------------------------------------------------------
+            }
+        }
+    }
+
+    private LeanAfterTask acquireLeanTask() {
+        CamelInternalTask answer = leanTaskFactory != null ? leanTaskFactory.acquire() : null;
+        if (answer == null) {
+            return new LeanAfterTask();
+        }
+        return (LeanAfterTask) answer;
+    }
+
+    private void releaseLeanTask(CamelInternalTask task) {
+        if (leanTaskFactory != null) {
+            leanTaskFactory.release(task);
+        }
+    }
+
     @Override
     public boolean process(Exchange exchange, AsyncCallback originalCallback) {
         // ----------------------------------------------------------
@@ -288,6 +377,10 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             return processShutdown(exchange, originalCallback);
         }
 
+        if (leanAdvices != null) {
+            return processLean(exchange, originalCallback);
+        }
+
         Object[] states;
 
         // create internal callback which will execute the advices in reverse order when done
@@ -321,6 +414,27 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         return processNonTransacted(exchange, afterTask);
     }
 
+    private boolean processLean(Exchange exchange, AsyncCallback originalCallback) {
+        final CamelInternalProcessorAdvice<Object>[] list = leanAdvices;
+        final LeanAfterTask afterTask = acquireLeanTask();
+        afterTask.prepare(exchange, originalCallback);
+        afterTask.advices = list;
+
+        for (CamelInternalProcessorAdvice<Object> task : list) {
+            try {
+                task.before(exchange);
+            } catch (Exception e) {
+                return handleException(exchange, originalCallback, e, afterTask);
+            }
+        }
+
+        if (exchange.isTransacted()) {
+            return processTransacted(exchange, afterTask);
+        }
+
+        return processNonTransacted(exchange, afterTask);
+    }
+
     private static boolean processShutdown(Exchange exchange, AsyncCallback originalCallback) {
         String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
                      + exchange;
@@ -407,7 +521,9 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             originalCallback.done(true);
         } finally {
             // task is done so reset
-            if (taskFactory != null) {
+            if (afterTask instanceof LeanAfterTask) {
+                releaseLeanTask(afterTask);
+            } else if (taskFactory != null) {
                 taskFactory.release(afterTask);
             }
         }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.util.CompactCaseInsensitiveMap;
+
+/**
+ * Compact {@link HeadersMapFactory} which uses the {@link org.apache.camel.util.CompactCaseInsensitiveMap}. This
+ * implementation is case insensitive as {@link DefaultHeadersMapFactory}, but stores the headers in arrays instead of
+ * one entry per header, and copying the headers (such as when copying the exchange in the multicast or splitter EIPs)
+ * is copy-on-write. Important: The headers are kept in insertion order and are not sorted.
+ * <p/>
+ * The {@link Exchange} constants are registered as well-known header names. Other constants can be registered via
+ * {@link CompactCaseInsensitiveMap#registerKnownKeys(Class)}.
+ */
+public class CompactHeadersMapFactory implements HeadersMapFactory {
+
+    static {
+        CompactCaseInsensitiveMap.registerKnownKeys(Exchange.class);
+    }
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new CompactCaseInsensitiveMap();
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        return new CompactCaseInsensitiveMap(map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof CompactCaseInsensitiveMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+}
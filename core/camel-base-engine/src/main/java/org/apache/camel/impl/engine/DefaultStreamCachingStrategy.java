@@ -30,6 +30,7 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.OffHeapBufferPool;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
@@ -58,6 +59,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private int spoolUsedHeapMemoryThreshold;
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
     private String spoolCipher;
+    private SpoolMode spoolMode = SpoolMode.File;
+    private long spoolOffHeapPoolSize = 64 * 1024 * 1024;
+    private OffHeapBufferPool offHeapBufferPool;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
@@ -177,6 +181,33 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.spoolCipher = spoolCipher;
     }
 
+    @Override
+    public SpoolMode getSpoolMode() {
+        return spoolMode;
+    }
+
+    @Override
+    public void setSpoolMode(SpoolMode spoolMode) {
+        this.spoolMode = spoolMode;
+    }
+
+    @Override
+    public long getSpoolOffHeapPoolSize() {
+        return spoolOffHeapPoolSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapPoolSize(long spoolOffHeapPoolSize) {
+        this.spoolOffHeapPoolSize = spoolOffHeapPoolSize;
+    }
+
+    /**
+     * The pool of off-heap memory used when spooling using {@link SpoolMode#OffHeap}, or <tt>null</tt> if not in use.
+     */
+    public OffHeapBufferPool getOffHeapBufferPool() {
+        return offHeapBufferPool;
+    }
+
     @Override
     public int getBufferSize() {
         return bufferSize;
@@ -442,11 +473,24 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 }
                 spoolRules.add(new UsedHeapMemorySpoolRule(spoolUsedHeapMemoryLimit));
             }
+            if (spoolMode == SpoolMode.OffHeap) {
+                if (spoolOffHeapPoolSize <= 0) {
+                    throw new IllegalArgumentException(
+                            "SpoolOffHeapPoolSize must be positive when using OffHeap spool mode, was: "
+                                                       + spoolOffHeapPoolSize);
+                }
+                // the stream caches lookup the pool from the context
+                offHeapBufferPool = new OffHeapBufferPool(spoolOffHeapPoolSize);
+                camelContext.getCamelContextExtension().addContextPlugin(OffHeapBufferPool.class, offHeapBufferPool);
+            }
         }
 
         LOG.debug("StreamCaching configuration {}", this);
 
-        if (spoolDirectory != null) {
+        if (spoolDirectory != null && spoolMode != SpoolMode.File) {
+            LOG.info("StreamCaching in use with spool mode: {}, spool directory: {} and rules: {}", spoolMode,
+                    spoolDirectory.getPath(), spoolRules);
+        } else if (spoolDirectory != null) {
             LOG.info("StreamCaching in use with spool directory: {} and rules: {}", spoolDirectory.getPath(), spoolRules);
         } else if (!spoolRules.isEmpty()) {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
@@ -468,6 +512,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+        if (offHeapBufferPool != null) {
+            // the memory in use is released when the stream caches are done
+            offHeapBufferPool.clear();
+        }
     }
 
     private boolean isSpoolRemovable() {
@@ -480,6 +528,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + "spoolDirectoryEnabled=" + spoolEnabled
                + ", spoolDirectory=" + spoolDirectory
                + ", spoolCipher=" + spoolCipher
+               + ", spoolMode=" + spoolMode
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
@@ -19,11 +19,20 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
 import org.apache.camel.FailedToStartRouteException;
@@ -38,6 +47,7 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
@@ -291,6 +301,12 @@ final class InternalRouteStartupManager {
 
     void doWarmUpRoutes(AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup)
             throws FailedToStartRouteException {
+        if (camelContext.isParallelRouteStartup() && inputs.size() > 1) {
+            // warm up the services of the routes in parallel, and then
+            // add the warmed up routes one by one in their startup order below
+            doWarmUpRoutesInParallel(camelContext, inputs, autoStartup);
+        }
+
         // now prepare the routes by starting its services before we start the
         // input
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -319,6 +335,147 @@ final class InternalRouteStartupManager {
         }
     }
 
+    private void doWarmUpRoutesInParallel(
+            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup)
+            throws FailedToStartRouteException {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        List<DefaultRouteStartupOrder> orders = new ArrayList<>(inputs.values());
+
+        StartupStep step = recorder.beginStep(CamelContext.class, null, "Resolve Route Dependencies");
+        Map<DefaultRouteStartupOrder, Set<DefaultRouteStartupOrder>> dependencies;
+        try {
+            for (DefaultRouteStartupOrder order : orders) {
+                RouteService routeService = order.getRouteService();
+                try {
+                    setupRoute.set(routeService.getRoute());
+                    // ensure we setup before warmup
+                    routeService.setUp();
+                } finally {
+                    setupRoute.remove();
+                }
+            }
+            dependencies = resolveRouteDependencies(orders);
+        } finally {
+            recorder.endStep(step);
+        }
+
+        step = recorder.beginStep(CamelContext.class, null, "Warmup Routes");
+        int poolSize = Math.min(orders.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor
+                = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup", poolSize);
+        Map<DefaultRouteStartupOrder, CompletableFuture<Void>> tasks = new HashMap<>();
+        try {
+            // a route is warmed up when the routes it depends on have been warmed up
+            for (DefaultRouteStartupOrder order : sortByDependencies(orders, dependencies)) {
+                CompletableFuture<?>[] before = dependencies.get(order).stream()
+                        .map(tasks::get)
+                        // a route in a dependency cycle does not wait for the routes later in the cycle
+                        .filter(Objects::nonNull)
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture<Void> task = CompletableFuture.allOf(before)
+                        .thenRunAsync(() -> doWarmUpRouteServices(camelContext, order, autoStartup), executor);
+                tasks.put(order, task);
+            }
+            // wait for all the routes even if some failed, so no route is still being warmed up
+            CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+        } finally {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+            recorder.endStep(step);
+        }
+
+        // fail with the first failed route according to the startup order
+        for (DefaultRouteStartupOrder order : orders) {
+            try {
+                tasks.get(order).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof FailedToStartRouteException fe) {
+                    throw fe;
+                }
+                throw new FailedToStartRouteException(order.getRoute().getId(), cause.getMessage(), cause);
+            }
+        }
+    }
+
+    private void doWarmUpRouteServices(
+            AbstractCamelContext camelContext, DefaultRouteStartupOrder order, boolean autoStartup) {
+        RouteService routeService = order.getRouteService();
+        StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
+                routeService.getId(),
+                "Warmup Route Services");
+        // the starting routes flag is thread bound
+        camelContext.setStartingRoutes(true);
+        try {
+            LOG.debug("Warming up services of route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            routeService.warmUpServices();
+        } catch (FailedToStartRouteException e) {
+            throw new CompletionException(e);
+        } finally {
+            setupRoute.remove();
+            camelContext.setStartingRoutes(false);
+            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+        }
+    }
+
+    /**
+     * Resolves the routes each route must be warmed up after, which are the previous route with an explicit startup
+     * order, and the routes consuming from an endpoint the route sends to (such as direct and seda endpoints).
+     */
+    Map<DefaultRouteStartupOrder, Set<DefaultRouteStartupOrder>> resolveRouteDependencies(
+            List<DefaultRouteStartupOrder> orders) {
+        Map<String, List<DefaultRouteStartupOrder>> consumers = new HashMap<>();
+        for (DefaultRouteStartupOrder order : orders) {
+            Endpoint endpoint = order.getRoute().getEndpoint();
+            if (endpoint != null) {
+                consumers.computeIfAbsent(endpoint.getEndpointBaseUri(), k -> new ArrayList<>()).add(order);
+            }
+        }
+
+        Map<DefaultRouteStartupOrder, Set<DefaultRouteStartupOrder>> answer = new HashMap<>();
+        DefaultRouteStartupOrder previous = null;
+        for (DefaultRouteStartupOrder order : orders) {
+            Set<DefaultRouteStartupOrder> dependencies = new LinkedHashSet<>();
+            if (order.getRoute().getStartupOrder() != null) {
+                if (previous != null) {
+                    dependencies.add(previous);
+                }
+                previous = order;
+            }
+            for (Endpoint endpoint : order.getRouteService().gatherEndpoints()) {
+                List<DefaultRouteStartupOrder> list = consumers.get(endpoint.getEndpointBaseUri());
+                if (list != null) {
+                    dependencies.addAll(list);
+                }
+            }
+            dependencies.remove(order);
+            answer.put(order, dependencies);
+        }
+        return answer;
+    }
+
+    private static List<DefaultRouteStartupOrder> sortByDependencies(
+            List<DefaultRouteStartupOrder> orders,
+            Map<DefaultRouteStartupOrder, Set<DefaultRouteStartupOrder>> dependencies) {
+        List<DefaultRouteStartupOrder> answer = new ArrayList<>(orders.size());
+        Set<DefaultRouteStartupOrder> visited = new HashSet<>();
+        for (DefaultRouteStartupOrder order : orders) {
+            visitDependencies(order, dependencies, visited, answer);
+        }
+        return answer;
+    }
+
+    private static void visitDependencies(
+            DefaultRouteStartupOrder order, Map<DefaultRouteStartupOrder, Set<DefaultRouteStartupOrder>> dependencies,
+            Set<DefaultRouteStartupOrder> visited, List<DefaultRouteStartupOrder> answer) {
+        if (visited.add(order)) {
+            for (DefaultRouteStartupOrder dependency : dependencies.get(order)) {
+                visitDependencies(dependency, dependencies, visited, answer);
+            }
+            answer.add(order);
+        }
+    }
+
     void doResumeRouteConsumers(
             AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes)
             throws Exception {
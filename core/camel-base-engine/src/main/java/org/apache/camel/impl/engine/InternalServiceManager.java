@@ -36,7 +36,6 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.Service;
 import org.apache.camel.StartupListener;
 import org.apache.camel.TypeConverter;
-import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.service.BaseService;
@@ -99,7 +98,7 @@ final class InternalServiceManager {
             Service service = (Service) object;
 
             if (useLifecycleStrategies) {
-                for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+                AbstractCamelContext.invokeLifecycleStrategies(camelContext, strategy -> {
                     if (service instanceof Endpoint) {
                         // use specialized endpoint add
                         strategy.onEndpointAdd((Endpoint) service);
@@ -108,12 +107,13 @@ final class InternalServiceManager {
                         if (service instanceof RouteAware) {
                             route = ((RouteAware) service).getRoute();
                         } else {
-                            // if the service is added while creating a new route then grab the route from the startup manager
+                            // if the service is added while creating a new route then grab the route from the
+                            // startup manager
                             route = internalRouteStartupManager.getSetupRoute();
                         }
                         strategy.onServiceAdd(camelContext, service, route);
                     }
-                }
+                });
             }
 
             if (!forceStart) {
@@ -63,6 +63,7 @@ public class RouteService extends ChildServiceSupport {
     private Consumer input;
     private final AtomicBoolean setUpDone = new AtomicBoolean();
     private final AtomicBoolean warmUpDone = new AtomicBoolean();
+    private final AtomicBoolean servicesDone = new AtomicBoolean();
     private final AtomicBoolean endpointDone = new AtomicBoolean();
 
     public RouteService(Route route) {
@@ -123,6 +124,20 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
+    /**
+     * Warms up the endpoint and the child services of the route, without adding the route to {@link CamelContext}.
+     * <p/>
+     * This allows to warm up the services of several routes concurrently, and then complete the warm up by calling
+     * {@link #warmUp()} in the startup order of the routes.
+     */
+    public void warmUpServices() throws FailedToStartRouteException {
+        try {
+            doWarmUpServices();
+        } catch (Exception e) {
+            throw new FailedToStartRouteException(getId(), e.getLocalizedMessage(), e);
+        }
+    }
+
     public void setUp() throws FailedToStartRouteException {
         if (setUpDone.compareAndSet(false, true)) {
             try {
@@ -176,21 +191,11 @@ public class RouteService extends ChildServiceSupport {
     }
 
     protected synchronized void doWarmUp() throws Exception {
-        if (endpointDone.compareAndSet(false, true)) {
-            // endpoints should only be started once as they can be reused on other routes
-            // and whatnot, thus their lifecycle is to start once, and only to stop when Camel shutdown
-            // ensure endpoint is started first (before the route services, such as the consumer)
-            ServiceHelper.startService(route.getEndpoint());
-        }
+        doWarmUpServices();
 
         if (warmUpDone.compareAndSet(false, true)) {
 
             try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
-                // warm up the route first
-                route.warmUp();
-
-                startChildServices(route, childServices);
-
                 // fire event
                 EventHelper.notifyRouteAdded(camelContext, route);
             }
@@ -208,6 +213,24 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
+    protected synchronized void doWarmUpServices() throws Exception {
+        if (endpointDone.compareAndSet(false, true)) {
+            // endpoints should only be started once as they can be reused on other routes
+            // and whatnot, thus their lifecycle is to start once, and only to stop when Camel shutdown
+            // ensure endpoint is started first (before the route services, such as the consumer)
+            ServiceHelper.startService(route.getEndpoint());
+        }
+
+        if (servicesDone.compareAndSet(false, true)) {
+            try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
+                // warm up the route first
+                route.warmUp();
+
+                startChildServices(route, childServices);
+            }
+        }
+    }
+
     @Override
     protected void doStart() {
         try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
@@ -278,6 +301,7 @@ public class RouteService extends ChildServiceSupport {
         input = null;
         childServices = null;
         warmUpDone.set(false);
+        servicesDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
         setUpDone.set(false);
@@ -322,6 +346,7 @@ public class RouteService extends ChildServiceSupport {
         input = null;
         childServices = null;
         warmUpDone.set(false);
+        servicesDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
     }
@@ -389,9 +414,9 @@ public class RouteService extends ChildServiceSupport {
             if (shouldRecord) {
                 step = beginStep(service, "Start");
             }
-            for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                strategy.onServiceAdd(camelContext, service, route);
-            }
+            // routes can be warmed up in parallel, so guard the lifecycle strategies which are not thread-safe
+            AbstractCamelContext.invokeLifecycleStrategies(camelContext,
+                    strategy -> strategy.onServiceAdd(camelContext, service, route));
             ServiceHelper.startService(service);
             if (step != null) {
                 startupStepRecorder.endStep(step);
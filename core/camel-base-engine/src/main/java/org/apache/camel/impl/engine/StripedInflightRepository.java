@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A low overhead {@link org.apache.camel.spi.InflightRepository} for high throughput.
+ * <p/>
+ * The number of inflight exchanges (in total and per route) is tracked with striped counters only. When browsing is
+ * enabled, then the inflight exchanges are sampled into a fixed size table instead of a map keyed by exchange id. Each
+ * exchange is put in a free slot among a few slots chosen by its identity hash, with a single compare-and-set, and
+ * removed from the slot again when it completes. When all the slots are taken, then the exchange is not sampled. As
+ * exchanges which take long time keep their slots, the oldest inflight exchanges are retained in the table, while the
+ * exchanges which are not sampled are those started later.
+ * <p/>
+ * Browsing and finding the oldest exchange scans the table, so the cost is bounded by the capacity of the table and is
+ * independent of the number of inflight exchanges. The drawback is that browsing may not return all the inflight
+ * exchanges, when there are more inflight exchanges than the table can hold.
+ */
+public class StripedInflightRepository extends ServiceSupport implements InflightRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StripedInflightRepository.class);
+
+    // the number of slots to try when adding an exchange
+    private static final int PROBES = 4;
+
+    private final LongAdder size = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
+    private final LongAdder unsampled = new LongAdder();
+    private int capacity = 4096;
+    private volatile AtomicReferenceArray<Exchange> slots;
+    private boolean inflightExchangeEnabled;
+
+    public StripedInflightRepository() {
+    }
+
+    public StripedInflightRepository(int capacity) {
+        setCapacity(capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The number of slots in the table used for sampling inflight exchanges, when browsing is enabled. Is rounded up
+     * to a power of two. The default is 4096.
+     */
+    public void setCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive number, was: " + capacity);
+        }
+        this.capacity = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        if (slots != null) {
+            slots = new AtomicReferenceArray<>(this.capacity);
+        }
+    }
+
+    /**
+     * Number of exchanges which were not sampled for browsing, because their slots in the table were all taken.
+     */
+    public long getUnsampledCount() {
+        return unsampled.sum();
+    }
+
+    @Override
+    public void add(Exchange exchange) {
+        size.increment();
+
+        AtomicReferenceArray<Exchange> table = slots;
+        if (table != null) {
+            int mask = table.length() - 1;
+            int index = slot(exchange);
+            for (int i = 0; i < PROBES; i++) {
+                if (table.compareAndSet((index + i) & mask, null, exchange)) {
+                    return;
+                }
+            }
+            unsampled.increment();
+        }
+    }
+
+    @Override
+    public void remove(Exchange exchange) {
+        size.decrement();
+
+        AtomicReferenceArray<Exchange> table = slots;
+        if (table != null) {
+            int mask = table.length() - 1;
+            int index = slot(exchange);
+            for (int i = 0; i < PROBES; i++) {
+                if (table.compareAndSet((index + i) & mask, exchange, null)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void add(Exchange exchange, String routeId) {
+        LongAdder existing = routeCount.get(routeId);
+        if (existing != null) {
+            existing.increment();
+        }
+    }
+
+    @Override
+    public void remove(Exchange exchange, String routeId) {
+        LongAdder existing = routeCount.get(routeId);
+        if (existing != null) {
+            existing.decrement();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.intValue();
+    }
+
+    @Override
+    public void addRoute(String routeId) {
+        routeCount.putIfAbsent(routeId, new LongAdder());
+    }
+
+    @Override
+    public void removeRoute(String routeId) {
+        routeCount.remove(routeId);
+    }
+
+    @Override
+    public int size(String routeId) {
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? existing.intValue() : 0;
+    }
+
+    @Override
+    public boolean isInflightBrowseEnabled() {
+        return inflightExchangeEnabled;
+    }
+
+    @Override
+    public void setInflightBrowseEnabled(boolean inflightBrowseEnabled) {
+        this.inflightExchangeEnabled = inflightBrowseEnabled;
+        if (inflightBrowseEnabled && slots == null) {
+            slots = new AtomicReferenceArray<>(capacity);
+        } else if (!inflightBrowseEnabled) {
+            slots = null;
+        }
+    }
+
+    @Override
+    public Collection<InflightExchange> browse() {
+        return browse(null, -1, false);
+    }
+
+    @Override
+    public Collection<InflightExchange> browse(String fromRouteId) {
+        return browse(fromRouteId, -1, false);
+    }
+
+    @Override
+    public Collection<InflightExchange> browse(int limit, boolean sortByLongestDuration) {
+        return browse(null, limit, sortByLongestDuration);
+    }
+
+    @Override
+    public Collection<InflightExchange> browse(String fromRouteId, int limit, boolean sortByLongestDuration) {
+        AtomicReferenceArray<Exchange> table = slots;
+        if (table == null) {
+            return Collections.emptyList();
+        }
+
+        // use a bounded heap to keep only the top entries when there is a limit
+        Comparator<Exchange> comparator = sortByLongestDuration
+                ? Comparator.comparingLong(DefaultInflightRepository::getExchangeDuration).reversed()
+                : Comparator.comparing(Exchange::getExchangeId);
+        boolean bounded = limit > 0;
+        PriorityQueue<Exchange> heap = new PriorityQueue<>(bounded ? limit + 1 : 16, comparator.reversed());
+        for (int i = 0; i < table.length(); i++) {
+            Exchange exchange = table.get(i);
+            if (exchange != null && (fromRouteId == null || fromRouteId.equals(exchange.getFromRouteId()))) {
+                heap.add(exchange);
+                if (bounded && heap.size() > limit) {
+                    // remove the last entry
+                    heap.poll();
+                }
+            }
+        }
+
+        List<Exchange> values = new ArrayList<>(heap);
+        values.sort(comparator);
+        List<InflightExchange> answer = new ArrayList<>(values.size());
+        for (Exchange exchange : values) {
+            answer.add(new DefaultInflightRepository.InflightExchangeEntry(exchange));
+        }
+        return Collections.unmodifiableList(answer);
+    }
+
+    @Override
+    public InflightExchange oldest(String fromRouteId) {
+        AtomicReferenceArray<Exchange> table = slots;
+        if (table == null) {
+            return null;
+        }
+
+        Exchange oldest = null;
+        long duration = -1;
+        for (int i = 0; i < table.length(); i++) {
+            Exchange exchange = table.get(i);
+            if (exchange != null && (fromRouteId == null || fromRouteId.equals(exchange.getFromRouteId()))) {
+                long d = DefaultInflightRepository.getExchangeDuration(exchange);
+                if (d > duration) {
+                    oldest = exchange;
+                    duration = d;
+                }
+            }
+        }
+
+        return oldest != null ? new DefaultInflightRepository.InflightExchangeEntry(oldest) : null;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        int count = size();
+        if (count > 0) {
+            LOG.warn("Shutting down while there are still {} inflight exchanges.", count);
+        } else {
+            LOG.debug("Shutting down with no inflight exchanges.");
+        }
+        routeCount.clear();
+    }
+
+    private static int slot(Exchange exchange) {
+        int h = System.identityHashCode(exchange);
+        // spread the higher bits as the table is indexed by the lower bits
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} where the threads routing messages can steal queued tasks from each other.
+ * <p/>
+ * As with {@link DefaultReactiveExecutor} each thread has its own worker, which runs the tasks scheduled by the thread
+ * on the thread itself. However, when a worker has a backlog of tasks (see {@link #setStealThreshold(int)}) then the
+ * worker offers its queue to be stolen from. When another worker has completed its own tasks, it will then take tasks
+ * from the end of the queue of the busy worker (up to {@link #setMaxSteals(int)} tasks), and run these on its own
+ * thread. This allows long asynchronous chains (such as parallel multicast) to spread over multiple threads, and
+ * prevents a busy route from delaying other work scheduled on the same thread.
+ * <p/>
+ * Tasks scheduled with {@link #scheduleSync(Runnable)} or {@link #scheduleQueue(Runnable)} are never stolen, as they
+ * must run on the current thread (such as for transacted routes).
+ * <p/>
+ * This executor can be used by setting it on the {@link org.apache.camel.ExtendedCamelContext}, or by adding it as a
+ * bean to the registry when using camel-main.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private int stealThreshold = 4;
+    private int maxSteals = 16;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxChainLength = new LongAccumulator(Math::max, 0);
+
+    // workers with a backlog of tasks that can be stolen
+    private final Queue<Worker> victims = new ConcurrentLinkedQueue<>();
+
+    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, WorkStealingReactiveExecutor.this);
+    });
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        workers.get().add(new LocalTask(runnable), false);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @ManagedAttribute(description = "Number of queued tasks a worker must have before other workers can steal tasks")
+    public int getStealThreshold() {
+        return stealThreshold;
+    }
+
+    /**
+     * Number of queued tasks a worker must have before other workers can steal tasks from the worker.
+     */
+    public void setStealThreshold(int stealThreshold) {
+        this.stealThreshold = stealThreshold;
+    }
+
+    @ManagedAttribute(description = "Maximum number of tasks a worker steals from other workers, before returning")
+    public int getMaxSteals() {
+        return maxSteals;
+    }
+
+    /**
+     * Maximum number of tasks a worker steals from other workers, when the worker has no more tasks of its own, before
+     * returning to let its thread continue with other work. Use 0 to turn off stealing.
+     */
+    public void setMaxSteals(int maxSteals) {
+        this.maxSteals = maxSteals;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen from other workers")
+    public long getStolenTasks() {
+        return stolenTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Largest number of tasks queued by a single worker")
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    @ManagedAttribute(description = "Largest number of tasks run by a worker in one go")
+    public long getMaxChainLength() {
+        return maxChainLength.get();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, stolenTasks: {}, maxQueueDepth: {}, maxChainLength: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getStolenTasks(), getMaxQueueDepth(),
+                    getMaxChainLength());
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        victims.clear();
+        workers.remove();
+    }
+
+    /**
+     * Steals a task from a worker that has a backlog of tasks
+     *
+     * @param  thief the worker that wants to steal
+     * @return       the stolen task, or <tt>null</tt> if no task could be stolen
+     */
+    private Runnable steal(Worker thief) {
+        Worker victim;
+        while ((victim = victims.poll()) != null) {
+            victim.offered.set(false);
+            if (victim == thief) {
+                continue;
+            }
+            Runnable task = victim.steal();
+            if (task != null) {
+                // let the victim be stolen from again if it still has a backlog
+                victim.offerIfBacklog();
+                stolenTasks.increment();
+                return task;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A task which must run on the current thread and therefore cannot be stolen.
+     */
+    private static final class LocalTask implements Runnable {
+
+        private final Runnable task;
+
+        private LocalTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final boolean stats;
+        // the current queue can be stolen from by other workers, so it must be thread-safe
+        private volatile Deque<Runnable> queue = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean offered = new AtomicBoolean();
+        private Deque<Deque<Runnable>> back;
+        private volatile boolean running;
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor != null && executor.isStatisticsEnabled();
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                executeMainFlow();
+            }
+            // tasks that are run synchronously must not be stolen
+            add(sync ? new LocalTask(runnable) : runnable, first);
+
+            if (running && !sync) {
+                // this task is queued, so let other workers steal if there is a backlog
+                offerIfBacklog();
+            }
+            tryExecuteReactiveWork(runnable, sync);
+        }
+
+        void add(Runnable runnable, boolean first) {
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+            int depth = size.incrementAndGet();
+            if (stats) {
+                executor.pendingTasks.increment();
+                executor.maxQueueDepth.accumulate(depth);
+            }
+        }
+
+        private Runnable poll() {
+            Runnable polled = queue.pollFirst();
+            if (polled != null) {
+                size.decrementAndGet();
+            }
+            return polled;
+        }
+
+        /**
+         * Called by other workers to steal the last task from the queue of this worker
+         */
+        Runnable steal() {
+            Deque<Runnable> q = queue;
+            Runnable task = q.peekLast();
+            if (task == null || task instanceof LocalTask) {
+                return null;
+            }
+            // the owner may have taken the task in the meantime
+            if (q.removeLastOccurrence(task)) {
+                size.decrementAndGet();
+                return task;
+            }
+            return null;
+        }
+
+        void offerIfBacklog() {
+            if (executor.maxSteals > 0 && size.get() >= executor.stealThreshold && offered.compareAndSet(false, true)) {
+                executor.victims.add(this);
+            }
+        }
+
+        private void executeMainFlow() {
+            if (!queue.isEmpty()) {
+                if (back == null) {
+                    back = new ArrayDeque<>();
+                }
+                back.push(queue);
+                queue = new ConcurrentLinkedDeque<>();
+            }
+        }
+
+        private void tryExecuteReactiveWork(Runnable runnable, boolean sync) {
+            if (!running || sync) {
+                // only steal work when this is not a nested (sync) execution
+                boolean nested = running;
+                running = true;
+                incrementRunningWorkers();
+                try {
+                    executeReactiveWork(!nested);
+                } finally {
+                    running = nested;
+                    decrementRunningWorkers();
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        private void executeReactiveWork(boolean steal) {
+            int chain = 0;
+            int steals = 0;
+            for (;;) {
+                Runnable polled = poll();
+                if (polled == null) {
+                    if (back != null && !back.isEmpty()) {
+                        queue = back.pollFirst();
+                        continue;
+                    }
+                    if (steal && steals < executor.maxSteals) {
+                        polled = executor.steal(this);
+                        if (polled != null) {
+                            steals++;
+                            if (LOG.isTraceEnabled()) {
+                                LOG.trace("Worker #{} stole task: {}", number, polled);
+                            }
+                        }
+                    }
+                    if (polled == null) {
+                        break;
+                    }
+                }
+                chain++;
+                doRun(polled);
+            }
+            if (stats && chain > 0) {
+                executor.maxChainLength.accumulate(chain);
+            }
+        }
+
+        private void doRun(Runnable polled) {
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            }
+        }
+
+        private void decrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.decrement();
+            }
+        }
+
+        private void incrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.increment();
+            }
+        }
+
+        private void decrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.decrement();
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = poll();
+            if (polled == null) {
+                return false;
+            }
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -57,16 +57,14 @@ interface ConverterStatistics extends TypeConverterRegistry.Statistics {
     /**
      * Compute the total number of cached missed conversions
      *
-     * @param  converters    the converters cache instance
-     * @param  missConverter the type that represents a type conversion miss
-     * @return               The number of cached missed conversions as an AtomicInteger instance
+     * @param  converters the converters cache instance
+     * @return            The number of cached missed conversions as an AtomicInteger instance
      */
-    static AtomicInteger computeCachedMisses(
-            Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter) {
+    static AtomicInteger computeCachedMisses(Map<TypeConvertible<?, ?>, TypeConverter> converters) {
         AtomicInteger misses = new AtomicInteger();
 
         converters.forEach((k, v) -> {
-            if (v == missConverter) {
+            if (v instanceof CoreTypeConverterRegistry.MissConverter) {
                 misses.incrementAndGet();
             }
         });
@@ -18,7 +18,9 @@ package org.apache.camel.impl.converter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -49,13 +51,6 @@ import static org.apache.camel.impl.converter.TypeResolverHelper.tryAssignableFr
 
 public abstract class CoreTypeConverterRegistry extends ServiceSupport implements TypeConverter, TypeConverterRegistry {
 
-    protected static final TypeConverter MISS_CONVERTER = new TypeConverterSupport() {
-        @Override
-        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
-            return (T) MISS_VALUE;
-        }
-    };
-
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
     // fallback converters
@@ -71,6 +66,10 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // Why 256: as of Camel 4, we have about 230 type converters. Therefore, set the capacity to a few more to provide
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
+    // the conversions which are cached as misses (in the order they were added) so the cached misses can be bounded
+    private final Queue<TypeConvertible<?, ?>> cachedMisses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger cachedMissesSize = new AtomicInteger();
+    private int maxCachedMisses = 10000;
 
     @Override
     public boolean allowNull() {
@@ -389,12 +388,56 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             return objConverter.convertTo(type, exchange, value);
         }
 
-        converters.put(typeConvertible, MISS_CONVERTER);
+        cacheMiss(typeConvertible);
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
     }
 
+    private void cacheMiss(TypeConvertible<?, ?> typeConvertible) {
+        if (converters.get(typeConvertible) instanceof MissConverter) {
+            // already cached, and keep whether it has been used
+            return;
+        }
+        TypeConverter previous = converters.put(typeConvertible, new MissConverter());
+        if (previous instanceof MissConverter || maxCachedMisses <= 0) {
+            return;
+        }
+
+        // the misses can be many (such as dynamic proxies or lambdas as the value) so they are bounded
+        cachedMisses.add(typeConvertible);
+        if (cachedMissesSize.incrementAndGet() > maxCachedMisses) {
+            evictCachedMiss();
+        }
+    }
+
+    /**
+     * Evicts a cached miss using the second chance algorithm: the oldest miss is evicted, unless it has been used since
+     * it was added or last given a second chance, in which case it is moved to the end of the queue. So the misses
+     * which are used often are kept, while the misses which are only seen once (such as dynamic proxies) are evicted.
+     */
+    private void evictCachedMiss() {
+        // bound the loop, as the misses can be used again concurrently
+        for (int i = 0; i <= maxCachedMisses; i++) {
+            TypeConvertible<?, ?> oldest = cachedMisses.poll();
+            if (oldest == null) {
+                return;
+            }
+            TypeConverter converter = converters.get(oldest);
+            if (i < maxCachedMisses && converter instanceof MissConverter miss && miss.referenced) {
+                miss.referenced = false;
+                cachedMisses.add(oldest);
+                continue;
+            }
+            cachedMissesSize.decrementAndGet();
+            // only remove if it's still a miss (a type converter may have been added since)
+            if (converter instanceof MissConverter) {
+                converters.remove(oldest, converter);
+            }
+            return;
+        }
+    }
+
     private Object tryCachedConverters(Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible) {
         final TypeConverter typeConverter = converters.get(typeConvertible);
         if (typeConverter != null) {
@@ -481,7 +524,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     private void addOrReplaceTypeConverter(TypeConverter typeConverter, TypeConvertible<?, ?> typeConvertible) {
         TypeConverter converter = converters.get(typeConvertible);
 
-        if (converter == MISS_CONVERTER) {
+        if (converter instanceof MissConverter) {
             // we have previously attempted to convert but missed, so add this converter
             converters.put(typeConvertible, typeConverter);
             return;
@@ -590,6 +633,19 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         return converters.size();
     }
 
+    public int getMaxCachedMisses() {
+        return maxCachedMisses;
+    }
+
+    /**
+     * Sets the maximum number of conversions that could not be converted, which are cached as misses to avoid looking
+     * for a suitable type converter over and over again. When the limit is hit, then the oldest miss which has not been
+     * used recently is evicted. The default is 10000. Use 0 or negative value for unbounded.
+     */
+    public void setMaxCachedMisses(int maxCachedMisses) {
+        this.maxCachedMisses = maxCachedMisses;
+    }
+
     public LoggingLevel getTypeConverterExistsLoggingLevel() {
         return typeConverterExistsLoggingLevel;
     }
@@ -625,7 +681,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     }
 
     private String generateMappingStatisticsMessage() {
-        final AtomicInteger misses = ConverterStatistics.computeCachedMisses(converters, MISS_CONVERTER);
+        final AtomicInteger misses = ConverterStatistics.computeCachedMisses(converters);
 
         return String.format("%s mappings[total=%s, misses=%s]", statistics, size(), misses);
     }
@@ -651,4 +707,20 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         }
     }
 
+    /**
+     * Represents a cached conversion which could not be converted, and whether it has been used again since it was
+     * cached, so the misses which are used often are kept when the cached misses are bounded.
+     */
+    static final class MissConverter extends TypeConverterSupport {
+
+        private volatile boolean referenced;
+
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+            if (!referenced) {
+                referenced = true;
+            }
+            return (T) MISS_VALUE;
+        }
+    }
 }
@@ -25,6 +25,7 @@ import java.util.Map;
 import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.annotations.DevConsole;
 import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.concurrent.VirtualThreadPinningMonitor;
 import org.apache.camel.util.json.JsonArray;
 import org.apache.camel.util.json.JsonObject;
 
@@ -47,6 +48,15 @@ public class ThreadDevConsole extends AbstractDevConsole {
             sb.append(String.format("Daemon Threads: %s\n", tb.getDaemonThreadCount()));
             sb.append(String.format("Total Started Threads: %s\n", tb.getTotalStartedThreadCount()));
             sb.append(String.format("Peak Threads: %s\n", tb.getPeakThreadCount()));
+            VirtualThreadPinningMonitor vtm = VirtualThreadPinningMonitor.getInstance();
+            if (vtm.isStarted()) {
+                sb.append(String.format("Pinned Virtual Threads: %s\n", vtm.getPinnedCounter()));
+                sb.append(String.format("Pinned Virtual Threads Total Time: %s\n", vtm.getPinnedTotalTime()));
+                sb.append(String.format("Pinned Virtual Threads Max Time: %s\n", vtm.getPinnedMaxTime()));
+                if (vtm.getLastPinned() != null) {
+                    sb.append(String.format("Last Pinned Virtual Thread: %s\n", vtm.getLastPinned()));
+                }
+            }
 
             long[] ids = tb.getAllThreadIds();
             Arrays.sort(ids);
@@ -79,6 +89,17 @@ public class ThreadDevConsole extends AbstractDevConsole {
             root.put("daemonThreadCount", tb.getDaemonThreadCount());
             root.put("totalStartedThreadCount", tb.getTotalStartedThreadCount());
             root.put("peakThreadCount", tb.getPeakThreadCount());
+            VirtualThreadPinningMonitor vtm = VirtualThreadPinningMonitor.getInstance();
+            if (vtm.isStarted()) {
+                JsonObject jo = new JsonObject();
+                jo.put("pinnedCount", vtm.getPinnedCounter());
+                jo.put("pinnedTotalTime", vtm.getPinnedTotalTime());
+                jo.put("pinnedMaxTime", vtm.getPinnedMaxTime());
+                if (vtm.getLastPinned() != null) {
+                    jo.put("lastPinned", vtm.getLastPinned());
+                }
+                root.put("virtualThreads", jo);
+            }
 
             JsonArray arr = new JsonArray();
             root.put("threads", arr);
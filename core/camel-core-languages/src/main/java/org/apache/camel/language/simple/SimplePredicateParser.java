@@ -49,7 +49,6 @@ import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
 import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
 import org.apache.camel.language.simple.types.TokenType;
-import org.apache.camel.support.ExpressionToPredicateAdapter;
 import org.apache.camel.support.LanguageHelper;
 import org.apache.camel.support.builder.PredicateBuilder;
 import org.apache.camel.util.StringHelper;
@@ -534,9 +533,8 @@ public class SimplePredicateParser extends BaseSimpleParser {
     private List<Predicate> createPredicates() {
         List<Predicate> answer = new ArrayList<>();
         for (SimpleNode node : nodes) {
-            Expression exp = node.createExpression(camelContext, expression);
-            if (exp != null) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(exp);
+            Predicate predicate = node.createPredicate(camelContext, expression);
+            if (predicate != null) {
                 answer.add(predicate);
             }
         }
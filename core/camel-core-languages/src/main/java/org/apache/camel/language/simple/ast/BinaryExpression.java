@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -82,63 +83,100 @@ public class BinaryExpression extends BaseSimpleNode {
 
     @Override
     public Expression createExpression(CamelContext camelContext, String expression) {
+        final Predicate predicate = createPredicate(camelContext, expression);
+        return new Expression() {
+            @Override
+            public <T> T evaluate(Exchange exchange, Class<T> type) {
+                boolean answer = predicate.matches(exchange);
+                return camelContext.getTypeConverter().convertTo(type, answer);
+            }
+
+            @Override
+            public String toString() {
+                return left + " " + token.getText() + " " + right;
+            }
+        };
+    }
+
+    @Override
+    public Predicate createPredicate(CamelContext camelContext, String expression) {
         org.apache.camel.util.ObjectHelper.notNull(left, "left node", this);
         org.apache.camel.util.ObjectHelper.notNull(right, "right node", this);
 
         final Expression leftExp = left.createExpression(camelContext, expression);
         final Expression rightExp = right.createExpression(camelContext, expression);
+        final Predicate predicate = doCreatePredicate(camelContext, expression, leftExp, rightExp);
 
+        return new Predicate() {
+            @Override
+            public boolean matches(Exchange exchange) {
+                return predicate.matches(exchange);
+            }
+
+            @Override
+            public String toString() {
+                return left + " " + token.getText() + " " + right;
+            }
+        };
+    }
+
+    private Predicate doCreatePredicate(
+            final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
         if (operator == BinaryOperatorType.EQ) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
+            return PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.GT) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isGreaterThan(leftExp, rightExp));
+            return PredicateBuilder.isGreaterThan(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.GTE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.LT) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isLessThan(leftExp, rightExp));
+            return PredicateBuilder.isLessThan(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.LTE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_EQ) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isNotEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isNotEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_EQ_IGNORE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.CONTAINS) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.contains(leftExp, rightExp));
+            return PredicateBuilder.contains(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_CONTAINS) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.CONTAINS_IGNORECASE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
+            return PredicateBuilder.containsIgnoreCase(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_CONTAINS_IGNORECASE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
-            return createIsExpression(camelContext, expression, leftExp, rightExp);
+            return createIsPredicate(camelContext, expression, leftExp, rightExp);
         } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
-            return createRegexExpression(camelContext, leftExp, rightExp);
+            return createRegexPredicate(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
-            return createInExpression(camelContext, leftExp, rightExp);
+            return createInPredicate(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
-            return createRangeExpression(camelContext, expression, leftExp, rightExp);
+            return createRangePredicate(expression, leftExp, rightExp);
         } else if (operator == BinaryOperatorType.STARTS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.startsWith(leftExp, rightExp));
+            return PredicateBuilder.startsWith(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.ENDS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.endsWith(leftExp, rightExp));
+            return PredicateBuilder.endsWith(leftExp, rightExp);
         }
 
         throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
     }
 
-    private Expression createIsExpression(
+    private Predicate createIsPredicate(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
+        // if the class name is a literal then resolve the class once
+        String text = literalText(right);
+        if (text != null && !text.isEmpty() && !"null".equals(text)) {
+            Class<?> rightType = camelContext.getClassResolver().resolveClass(text);
+            if (rightType != null) {
+                return isPredicate(leftExp, rightType);
+            }
+        }
 
+        return new Predicate() {
+            @Override
+            public boolean matches(Exchange exchange) {
                 String name = rightExp.evaluate(exchange, String.class);
                 if (name == null || "null".equals(name)) {
                     throwMissingClass();
@@ -148,13 +186,7 @@ public class BinaryExpression extends BaseSimpleNode {
                     throwClassNotFound(name);
                 }
 
-                Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
-                if (operator == BinaryOperatorType.NOT_IS) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-
-                return camelContext.getTypeConverter().convertTo(type, answer);
+                return isPredicate(leftExp, rightType).matches(exchange);
             }
 
             private void throwClassNotFound(String name) {
@@ -168,116 +200,143 @@ public class BinaryExpression extends BaseSimpleNode {
                         expression, right.getToken().getIndex(),
                         operator + " operator cannot accept null. A class type must be provided.");
             }
-
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
-            }
         };
     }
 
-    private Expression createRegexExpression(
-            final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                // reg ex should use String pattern, so we evaluate the right hand side as a String
-                Predicate predicate = PredicateBuilder.regex(leftExp, rightExp.evaluate(exchange, String.class));
-                if (operator == BinaryOperatorType.NOT_REGEX) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+    private Predicate isPredicate(Expression leftExp, Class<?> rightType) {
+        Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
+        if (operator == BinaryOperatorType.NOT_IS) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
+
+    private Predicate createRegexPredicate(final Expression leftExp, final Expression rightExp) {
+        // if the pattern is a literal then compile the pattern once
+        String text = literalText(right);
+        if (text != null) {
+            try {
+                return regexPredicate(PredicateBuilder.regex(leftExp, Pattern.compile(text)));
+            } catch (PatternSyntaxException e) {
+                // ignore and fail when evaluating as we always have done
             }
+        }
 
+        return new Predicate() {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                // reg ex should use String pattern, so we evaluate the right hand side as a String
+                return regexPredicate(PredicateBuilder.regex(leftExp, rightExp.evaluate(exchange, String.class)))
+                        .matches(exchange);
             }
         };
     }
 
-    private Expression createInExpression(
-            final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                // okay the in operator is a bit more complex as we need to build a list of values
-                // from the right hand side expression.
-                // each element on the right hand side must be separated by comma (default for create iterator)
-                Iterator<?> it = ObjectHelper.createIterator(rightExp.evaluate(exchange, Object.class));
-                List<Object> values = new ArrayList<>();
-                while (it.hasNext()) {
-                    values.add(it.next());
-                }
-                // then reuse value builder to create the in predicate with the list of values
-                ValueBuilder vb = new ValueBuilder(leftExp);
-                Predicate predicate = vb.in(values.toArray());
-                if (operator == BinaryOperatorType.NOT_IN) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
+    private Predicate regexPredicate(Predicate predicate) {
+        if (operator == BinaryOperatorType.NOT_REGEX) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
 
+    private Predicate createInPredicate(final Expression leftExp, final Expression rightExp) {
+        // if the values are a literal then create the list of values once
+        String text = literalText(right);
+        if (text != null) {
+            return inPredicate(leftExp, text);
+        }
+
+        return new Predicate() {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                return inPredicate(leftExp, rightExp.evaluate(exchange, Object.class)).matches(exchange);
             }
         };
     }
 
-    private Expression createRangeExpression(
-            final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate;
-
-                String range = rightExp.evaluate(exchange, String.class);
-                Matcher matcher = RANGE_PATTERN.matcher(range);
-                if (matcher.matches()) {
-                    // wrap as constant expression for the from and to values
-                    Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
-                    Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
-
-                    // build a compound predicate for the range
-                    predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
-                    predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
-                } else {
-                    throw new SimpleIllegalSyntaxException(
-                            expression, right.getToken().getIndex(),
-                            operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
-                }
-                if (operator == BinaryOperatorType.NOT_RANGE) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
+    private Predicate inPredicate(Expression leftExp, Object rightValue) {
+        // okay the in operator is a bit more complex as we need to build a list of values
+        // from the right hand side expression.
+        // each element on the right hand side must be separated by comma (default for create iterator)
+        Iterator<?> it = ObjectHelper.createIterator(rightValue);
+        List<Object> values = new ArrayList<>();
+        while (it.hasNext()) {
+            values.add(it.next());
+        }
+        // then reuse value builder to create the in predicate with the list of values
+        ValueBuilder vb = new ValueBuilder(leftExp);
+        Predicate predicate = vb.in(values.toArray());
+        if (operator == BinaryOperatorType.NOT_IN) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
 
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
+    private Predicate createRangePredicate(final String expression, final Expression leftExp, final Expression rightExp) {
+        // if the range is a literal then parse the range once
+        String text = literalText(right);
+        if (text != null && RANGE_PATTERN.matcher(text).matches()) {
+            return rangePredicate(expression, leftExp, text);
+        }
 
+        return new Predicate() {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                String range = rightExp.evaluate(exchange, String.class);
+                return rangePredicate(expression, leftExp, range).matches(exchange);
             }
         };
     }
 
-    private Expression createExpression(
-            final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
+    private Predicate rangePredicate(String expression, Expression leftExp, String range) {
+        Predicate predicate;
+
+        Matcher matcher = RANGE_PATTERN.matcher(range);
+        if (matcher.matches()) {
+            // wrap as constant expression for the from and to values
+            Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
+            Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
+
+            // build a compound predicate for the range
+            predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
+            predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
+        } else {
+            throw new SimpleIllegalSyntaxException(
+                    expression, right.getToken().getIndex(),
+                    operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
+        }
+        if (operator == BinaryOperatorType.NOT_RANGE) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
 
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+    /**
+     * Gets the text of the node if the node is a literal (such as a quoted text without any functions).
+     *
+     * @return the text, or <tt>null</tt> if the value of the node is only known when evaluating
+     */
+    private static String literalText(SimpleNode node) {
+        if (node.getClass() == LiteralExpression.class) {
+            return ((LiteralExpression) node).getText();
+        }
+        CompositeNodes block = null;
+        if (node instanceof SingleQuoteStart quote) {
+            block = quote.getBlock();
+        } else if (node instanceof DoubleQuoteStart quote) {
+            block = quote.getBlock();
+        }
+        if (block == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (SimpleNode child : block.getChildren()) {
+            if (child.getClass() != LiteralExpression.class) {
+                return null;
             }
-        };
+            sb.append(((LiteralExpression) child).getText());
+        }
+        return sb.toString();
     }
 
     @Override
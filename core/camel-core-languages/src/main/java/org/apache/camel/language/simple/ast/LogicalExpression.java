@@ -23,7 +23,6 @@ import org.apache.camel.Predicate;
 import org.apache.camel.language.simple.types.LogicalOperatorType;
 import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
-import org.apache.camel.support.ExpressionToPredicateAdapter;
 import org.apache.camel.support.builder.PredicateBuilder;
 import org.apache.camel.util.ObjectHelper;
 
@@ -70,28 +69,10 @@ public class LogicalExpression extends BaseSimpleNode {
 
     @Override
     public Expression createExpression(CamelContext camelContext, String expression) {
-        ObjectHelper.notNull(left, "left node", this);
-        ObjectHelper.notNull(right, "right node", this);
-
-        final Expression leftExp = left.createExpression(camelContext, expression);
-        final Expression rightExp = right.createExpression(camelContext, expression);
-
-        if (operator == LogicalOperatorType.AND) {
-            return createAndExpression(leftExp, rightExp);
-        } else if (operator == LogicalOperatorType.OR) {
-            return createOrExpression(leftExp, rightExp);
-        }
-
-        throw new SimpleParserException("Unknown logical operator " + operator, token.getIndex());
-    }
-
-    private Expression createAndExpression(final Expression leftExp, final Expression rightExp) {
+        final Predicate predicate = createPredicate(camelContext, expression);
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.and(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
-
                 boolean answer = predicate.matches(exchange);
                 return exchange.getContext().getTypeConverter().convertTo(type, answer);
             }
@@ -103,15 +84,27 @@ public class LogicalExpression extends BaseSimpleNode {
         };
     }
 
-    private Expression createOrExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.or(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
+    @Override
+    public Predicate createPredicate(CamelContext camelContext, String expression) {
+        ObjectHelper.notNull(left, "left node", this);
+        ObjectHelper.notNull(right, "right node", this);
 
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
+        final Predicate leftPredicate = left.createPredicate(camelContext, expression);
+        final Predicate rightPredicate = right.createPredicate(camelContext, expression);
+
+        final Predicate predicate;
+        if (operator == LogicalOperatorType.AND) {
+            predicate = PredicateBuilder.and(leftPredicate, rightPredicate);
+        } else if (operator == LogicalOperatorType.OR) {
+            predicate = PredicateBuilder.or(leftPredicate, rightPredicate);
+        } else {
+            throw new SimpleParserException("Unknown logical operator " + operator, token.getIndex());
+        }
+
+        return new Predicate() {
+            @Override
+            public boolean matches(Exchange exchange) {
+                return predicate.matches(exchange);
             }
 
             @Override
@@ -18,8 +18,10 @@ package org.apache.camel.language.simple.ast;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
 import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
 
 /**
  * Represents a node in the Simple AST
@@ -43,6 +45,23 @@ public interface SimpleNode {
      */
     Expression createExpression(CamelContext camelContext, String expression) throws SimpleParserException;
 
+    /**
+     * Creates a Camel {@link Predicate} based on this model.
+     * <p/>
+     * Nodes which are predicates by nature (such as binary and logical operators) creates the predicate directly, so as
+     * much as possible is resolved when the predicate is created, instead of each time the predicate is evaluated.
+     * Other nodes adapts the {@link Expression} created by {@link #createExpression(CamelContext, String)}.
+     *
+     * @param  camelContext                                                 the camel context
+     * @param  expression                                                   the input string
+     * @return                                                              the created {@link Predicate}
+     * @throws org.apache.camel.language.simple.types.SimpleParserException should be thrown if error parsing the model
+     */
+    default Predicate createPredicate(CamelContext camelContext, String expression) throws SimpleParserException {
+        Expression answer = createExpression(camelContext, expression);
+        return answer != null ? ExpressionToPredicateAdapter.toPredicate(answer) : null;
+    }
+
     /**
      * Creates Java code based on this model.
      *
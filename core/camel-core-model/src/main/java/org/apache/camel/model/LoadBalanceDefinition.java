@@ -30,6 +30,8 @@ import jakarta.xml.bind.annotation.XmlRootElement;
 import org.apache.camel.Expression;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastOutstandingLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.PeakEwmaLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.StickyLoadBalancerDefinition;
@@ -48,6 +50,8 @@ public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinitio
     @XmlElements({
             @XmlElement(name = "customLoadBalancer", type = CustomLoadBalancerDefinition.class),
             @XmlElement(name = "failoverLoadBalancer", type = FailoverLoadBalancerDefinition.class),
+            @XmlElement(name = "leastOutstandingLoadBalancer", type = LeastOutstandingLoadBalancerDefinition.class),
+            @XmlElement(name = "peakEwmaLoadBalancer", type = PeakEwmaLoadBalancerDefinition.class),
             @XmlElement(name = "randomLoadBalancer", type = RandomLoadBalancerDefinition.class),
             @XmlElement(name = "roundRobinLoadBalancer", type = RoundRobinLoadBalancerDefinition.class),
             @XmlElement(name = "stickyLoadBalancer", type = StickyLoadBalancerDefinition.class),
@@ -215,6 +219,39 @@ public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinitio
         return this;
     }
 
+    /**
+     * Uses least outstanding requests load balancer
+     *
+     * @return the builder
+     */
+    public LoadBalanceDefinition leastOutstanding() {
+        setLoadBalancerType(new LeastOutstandingLoadBalancerDefinition());
+        return this;
+    }
+
+    /**
+     * Uses peak EWMA load balancer, which selects the processor with the least response time
+     *
+     * @return the builder
+     */
+    public LoadBalanceDefinition peakEwma() {
+        setLoadBalancerType(new PeakEwmaLoadBalancerDefinition());
+        return this;
+    }
+
+    /**
+     * Uses peak EWMA load balancer, which selects the processor with the least response time
+     *
+     * @param  decayTime the time in millis it takes for the moving average of the response times to decay
+     * @return           the builder
+     */
+    public LoadBalanceDefinition peakEwma(long decayTime) {
+        PeakEwmaLoadBalancerDefinition def = new PeakEwmaLoadBalancerDefinition();
+        def.setDecayTime(Long.toString(decayTime));
+        setLoadBalancerType(def);
+        return this;
+    }
+
     /**
      * Uses the custom load balancer
      *
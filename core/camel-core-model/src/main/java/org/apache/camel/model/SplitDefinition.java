@@ -70,6 +70,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String windowSize;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -459,6 +462,37 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages being processed or waiting to be aggregated at the same time, when
+     * using parallel processing. When the window is full then the splitter does not split any further messages until
+     * the oldest split message has been aggregated, and the split messages are aggregated in the same order as they
+     * were split (also in streaming mode).
+     * <p/>
+     * This can be used together with streaming mode to split big messages in parallel using a bounded amount of memory.
+     *
+     * @param  windowSize the window size
+     * @return            the builder
+     */
+    public SplitDefinition windowSize(int windowSize) {
+        return windowSize(Integer.toString(windowSize));
+    }
+
+    /**
+     * Sets the maximum number of split messages being processed or waiting to be aggregated at the same time, when
+     * using parallel processing. When the window is full then the splitter does not split any further messages until
+     * the oldest split message has been aggregated, and the split messages are aggregated in the same order as they
+     * were split (also in streaming mode).
+     * <p/>
+     * This can be used together with streaming mode to split big messages in parallel using a bounded amount of memory.
+     *
+     * @param  windowSize the window size
+     * @return            the builder
+     */
+    public SplitDefinition windowSize(String windowSize) {
+        setWindowSize(windowSize);
+        return this;
+    }
+
     /**
      * Sets a total timeout specified in millis, when using parallel processing. If the Splitter hasn't been able to
      * split and process all the sub messages within the given timeframe, then the timeout triggers and the Splitter
@@ -648,6 +682,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.aggregationStrategyMethodAllowNull = aggregationStrategyMethodAllowNull;
     }
 
+    public String getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(String windowSize) {
+        this.windowSize = windowSize;
+    }
+
     public String getTimeout() {
         return timeout;
     }
@@ -45,7 +45,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
 
     @XmlAttribute
     @Metadata(javaType = "org.apache.camel.model.ThrottlingMode", defaultValue = "TotalRequests",
-              enums = "TotalRequests,ConcurrentRequests")
+              enums = "TotalRequests,ConcurrentRequests,TokenBucket,AdaptiveConcurrency")
     private String mode;
     @XmlElement(name = "correlationExpression")
     private ExpressionSubElementDefinition correlationExpression;
@@ -99,19 +99,36 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    public ThrottleDefinition tokenBucketMode() {
+        this.mode = ThrottlingMode.TokenBucket.name();
+        return this;
+    }
+
+    public ThrottleDefinition adaptiveConcurrencyMode() {
+        this.mode = ThrottlingMode.AdaptiveConcurrency.name();
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Throttle[" + description() + "]";
     }
 
     protected String description() {
-        if (mode.equals(ThrottlingMode.TotalRequests.name())) {
+        if (isPerPeriodMode()) {
             return getExpression() + " request per " + getTimePeriodMillis() + " millis";
+        } else if (ThrottlingMode.toMode(mode) == ThrottlingMode.AdaptiveConcurrency) {
+            return "adaptive up to " + getExpression() + " maximum concurrent requests";
         } else {
             return getExpression() + " maximum concurrent requests";
         }
     }
 
+    private boolean isPerPeriodMode() {
+        ThrottlingMode m = ThrottlingMode.toMode(mode);
+        return m == ThrottlingMode.TotalRequests || m == ThrottlingMode.TokenBucket;
+    }
+
     @Override
     public String getShortName() {
         return "throttle";
@@ -180,13 +197,14 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
      */
     @Deprecated(since = "4.4.0")
     public ThrottleDefinition maximumRequestsPerPeriod(long maximumRequestsPerPeriod) {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (isPerPeriodMode()) {
             setExpression(
                     ExpressionNodeHelper.toExpressionDefinition(
                             ExpressionBuilder.constantExpression(maximumRequestsPerPeriod)));
             return this;
         } else {
-            throw new IllegalArgumentException("Maximum requests per period can only be set when using total requests mode");
+            throw new IllegalArgumentException(
+                    "Maximum requests per period can only be set when using total requests or token bucket mode");
         }
     }
 
@@ -199,12 +217,13 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
      */
     @Deprecated(since = "4.4.0")
     public ThrottleDefinition maximumRequestsPerPeriod(String maximumRequestsPerPeriod) {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (isPerPeriodMode()) {
             setExpression(
                     ExpressionNodeHelper.toExpressionDefinition(ExpressionBuilder.simpleExpression(maximumRequestsPerPeriod)));
             return this;
         } else {
-            throw new IllegalArgumentException("Maximum requests per period can only be set when using total requests mode");
+            throw new IllegalArgumentException(
+                    "Maximum requests per period can only be set when using total requests or token bucket mode");
         }
     }
 
@@ -340,8 +359,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests`, `TokenBucket` or `AdaptiveConcurrency`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -374,18 +393,20 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     }
 
     public String getTimePeriodMillis() {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (isPerPeriodMode()) {
             return timePeriodMillis;
         }
 
-        throw new IllegalArgumentException("Time period in millis can only be obtained when using total requests mode");
+        throw new IllegalArgumentException(
+                "Time period in millis can only be obtained when using total requests or token bucket mode");
     }
 
     public void setTimePeriodMillis(String timePeriodMillis) {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (isPerPeriodMode()) {
             this.timePeriodMillis = timePeriodMillis;
         } else {
-            throw new IllegalArgumentException("Time period in millis can only be set when using total requests mode");
+            throw new IllegalArgumentException(
+                "Time period in millis can only be set when using total requests or token bucket mode");
         }
     }
 
@@ -440,8 +461,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *             `ConcurrentRequests`
+     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *             `ConcurrentRequests`, `TokenBucket` or `AdaptiveConcurrency`
      * @see        ThrottlingMode
      */
     public void setMode(String mode) {
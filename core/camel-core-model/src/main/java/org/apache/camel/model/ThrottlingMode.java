@@ -32,12 +32,30 @@ public enum ThrottlingMode {
      * Uses a throttling mode that uses a leaky-bucket algorithm to limit the outflow based on a maximum number of
      * concurrent requests
      */
-    ConcurrentRequests;
+    ConcurrentRequests,
+
+    /**
+     * Uses a throttling mode that uses a lock-free token bucket to limit the number of requests over defined period of
+     * time, which is suited for throttling by a correlation key with many distinct values
+     */
+    TokenBucket,
+
+    /**
+     * Uses a throttling mode that limits the number of concurrent requests, where the limit is adjusted automatically
+     * from the observed round-trip time of the requests
+     */
+    AdaptiveConcurrency;
 
     public static ThrottlingMode toMode(String mode) {
         if (mode.equals(ThrottlingMode.TotalRequests.name())) {
             return ThrottlingMode.TotalRequests;
         }
+        if (mode.equals(ThrottlingMode.TokenBucket.name())) {
+            return ThrottlingMode.TokenBucket;
+        }
+        if (mode.equals(ThrottlingMode.AdaptiveConcurrency.name())) {
+            return ThrottlingMode.AdaptiveConcurrency;
+        }
 
         return ThrottlingMode.ConcurrentRequests;
     }
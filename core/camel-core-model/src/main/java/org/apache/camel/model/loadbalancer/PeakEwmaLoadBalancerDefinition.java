@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model.loadbalancer;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import org.apache.camel.model.LoadBalancerDefinition;
+import org.apache.camel.spi.Metadata;
+
+/**
+ * The destination endpoint with the least response time is selected, using a peak exponentially weighted moving
+ * average of the response times and the number of in-flight messages of the endpoints. For each message two random
+ * endpoints are compared, and the best of the two is selected (power of two choices).
+ */
+@Metadata(label = "eip,routing")
+@XmlRootElement(name = "peakEwmaLoadBalancer")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class PeakEwmaLoadBalancerDefinition extends LoadBalancerDefinition {
+
+    @XmlAttribute
+    @Metadata(defaultValue = "10000", javaType = "java.time.Duration")
+    private String decayTime;
+
+    public PeakEwmaLoadBalancerDefinition() {
+    }
+
+    public String getDecayTime() {
+        return decayTime;
+    }
+
+    /**
+     * The time it takes for the moving average of the response times to decay. A lower value reacts faster to changes
+     * in the response times, a higher value is more stable.
+     */
+    public void setDecayTime(String decayTime) {
+        this.decayTime = decayTime;
+    }
+
+    @Override
+    public String toString() {
+        return "PeakEwmaLoadBalancer[" + decayTime + "]";
+    }
+}
@@ -0,0 +1,460 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.Synchronization;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which limits the number of message exchanges which
+ * can be sent to a processor concurrently, where the limit is discovered automatically.
+ * <p/>
+ * The limit is adjusted after each exchange completes, based on the round-trip time of the exchange, using the TCP
+ * Vegas congestion avoidance algorithm. The lowest observed round-trip time is used as an estimate of the round-trip
+ * time of the downstream system when it is not loaded, and the ratio between this and the latest round-trip time is
+ * used to estimate how many requests are queued in the downstream system. The limit is increased while the estimated
+ * queue is small, and decreased when the queue grows or an exchange fails. The maximum requests expression is used as
+ * the upper bound of the limit.
+ * <p/>
+ * Exchanges exceeding the current limit are either rejected or queued until a permit is available, in the same way
+ * as the {@link ConcurrentRequestsThrottler}.
+ */
+public class AdaptiveConcurrencyThrottler extends AbstractThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveConcurrencyThrottler.class);
+
+    private static final String DEFAULT_KEY = "CamelThrottlerDefaultKey";
+
+    private static final String PROPERTY_EXCHANGE_QUEUED_TIME = "CamelThrottlerExchangeQueuedTime";
+    private static final String PROPERTY_EXCHANGE_STATE = "CamelThrottlerExchangeState";
+    private static final long CLEAN_PERIOD = 1000L * 10;
+
+    // the limit to start with, before any round-trip times have been observed
+    private static final int INITIAL_LIMIT = 20;
+    // the lowest round-trip time is probed again after this number of samples multiplied by the limit
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private enum State {
+        SYNC,
+        ASYNC,
+        ASYNC_REJECTED
+    }
+
+    private final Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdaptiveConcurrencyThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                        final ScheduledExecutorService asyncExecutor,
+                                        final boolean shutdownAsyncExecutor, final boolean rejectExecution,
+                                        Expression correlation) {
+        super(asyncExecutor, shutdownAsyncExecutor, camelContext, rejectExecution, correlation, maxRequestsExpression);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        long queuedStart = 0;
+        if (LOG.isTraceEnabled()) {
+            queuedStart = exchange.getProperty(PROPERTY_EXCHANGE_QUEUED_TIME, 0L, Long.class);
+            exchange.removeProperty(PROPERTY_EXCHANGE_QUEUED_TIME);
+        }
+        State state = exchange.getProperty(PROPERTY_EXCHANGE_STATE, State.SYNC, State.class);
+        exchange.removeProperty(PROPERTY_EXCHANGE_STATE);
+        boolean doneSync = state == State.SYNC || state == State.ASYNC_REJECTED;
+
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            return doProcess(exchange, callback, state, queuedStart, doneSync);
+
+        } catch (final InterruptedException e) {
+            return handleInterrupt(exchange, callback, e, doneSync);
+        } catch (final Exception t) {
+            return handleException(exchange, callback, t, doneSync);
+        }
+    }
+
+    private boolean doProcess(Exchange exchange, AsyncCallback callback, State state, long queuedStart, boolean doneSync)
+            throws Exception {
+        String key = DEFAULT_KEY;
+        if (correlationExpression != null) {
+            key = correlationExpression.evaluate(exchange, String.class);
+        }
+        ThrottlingState throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
+        throttlingState.calculateAndSetMaxConcurrentRequestsExpression(exchange);
+
+        if (!throttlingState.tryAcquire(exchange)) {
+            if (isRejectExecution()) {
+                rejected.increment();
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the adaptive concurrency limit of " + throttlingState.getLimit());
+            } else {
+                // delegate to async pool
+                if (isAsyncDelayed() && !exchange.isTransacted() && state == State.SYNC) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(
+                                "Concurrency limit exceeded but AsyncDelayed enabled, so queueing, exchangeId: {}",
+                                exchange.getExchangeId());
+                    }
+                    return processAsynchronously(exchange, callback);
+                }
+
+                // block waiting for a permit
+                long start = System.nanoTime();
+                throttlingState.acquire(exchange);
+                if (LOG.isTraceEnabled()) {
+                    long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    if (state == State.ASYNC) {
+                        long queuedTime = Duration.ofNanos(start - queuedStart).toMillis();
+                        LOG.trace("Queued for {}ms, Throttled for {}ms, exchangeId: {}", queuedTime, elapsed,
+                                exchange.getExchangeId());
+                    } else {
+                        LOG.trace("Throttled for {}ms, exchangeId: {}", elapsed, exchange.getExchangeId());
+                    }
+                }
+            }
+        } else {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+            }
+        }
+
+        callback.done(doneSync);
+        return doneSync;
+    }
+
+    /**
+     * Delegate blocking to an asyncExecutor. Except if the executor rejects the submission and
+     * isCallerRunsWhenRejected() is enabled, then this method will delegate back to process(), but not before changing
+     * the exchange state to stop any recursion.
+     */
+    protected boolean processAsynchronously(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (LOG.isTraceEnabled()) {
+                exchange.setProperty(PROPERTY_EXCHANGE_QUEUED_TIME, System.nanoTime());
+            }
+            exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC);
+            asyncExecutor.submit(() -> process(exchange, callback));
+            return false;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC_REJECTED);
+                return process(exchange, callback);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (isAsyncDelayed()) {
+            ObjectHelper.notNull(asyncExecutor, "executorService", this);
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownAsyncExecutor && asyncExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
+        }
+        states.clear();
+        super.doShutdown();
+    }
+
+    protected class ThrottlingState {
+        private final String key;
+        private final AtomicReference<ScheduledFuture<?>> cleanFuture = new AtomicReference<>();
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final WrappedSemaphore semaphore = new WrappedSemaphore();
+        private volatile int maxLimit;
+        private volatile int limit;
+        // the following are guarded by synchronizing on this state
+        private double estimatedLimit;
+        private long rttNoLoad;
+        private long probeCount;
+
+        ThrottlingState(String key) {
+            this.key = key;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public int getInflight() {
+            return inflight.get();
+        }
+
+        public void clean() {
+            states.remove(key);
+        }
+
+        public boolean tryAcquire(Exchange exchange) {
+            boolean acquired = semaphore.tryAcquire();
+            if (acquired) {
+                addSynchronization(exchange);
+            }
+            return acquired;
+        }
+
+        public void acquire(Exchange exchange) throws InterruptedException {
+            semaphore.acquire();
+            addSynchronization(exchange);
+        }
+
+        private void addSynchronization(final Exchange exchange) {
+            final int concurrency = inflight.incrementAndGet();
+            final long start = System.nanoTime();
+            exchange.getExchangeExtension().addOnCompletion(new Synchronization() {
+                @Override
+                public void onComplete(Exchange exchange) {
+                    release(exchange, System.nanoTime() - start, concurrency, false);
+                }
+
+                @Override
+                public void onFailure(Exchange exchange) {
+                    release(exchange, System.nanoTime() - start, concurrency, true);
+                }
+            });
+        }
+
+        /**
+         * Returns a permit, and adjusts the limit from the round-trip time of the exchange.
+         */
+        public void release(final Exchange exchange, long rtt, int concurrency, boolean failed) {
+            inflight.decrementAndGet();
+            semaphore.release();
+            onSample(rtt, concurrency, failed);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Permit released after {}ms, for exchangeId: {}", Duration.ofNanos(rtt).toMillis(),
+                        exchange.getExchangeId());
+            }
+            if (correlationExpression == null) {
+                // keep the learned limit as there is only a single state
+                return;
+            }
+            try {
+                ScheduledFuture<?> next = asyncExecutor.schedule(this::clean, CLEAN_PERIOD, TimeUnit.MILLISECONDS);
+                ScheduledFuture<?> prev = cleanFuture.getAndSet(next);
+                if (prev != null) {
+                    prev.cancel(false);
+                }
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Throttle cleaning rejected", e);
+            }
+        }
+
+        /**
+         * Adjusts the limit using the Vegas algorithm.
+         *
+         * @param rtt         the round-trip time in nanos
+         * @param concurrency the number of in-flight exchanges when the exchange was started
+         * @param failed      whether the exchange failed, which is regarded as the downstream system being overloaded
+         */
+        synchronized void onSample(long rtt, int concurrency, boolean failed) {
+            if (rtt <= 0 || maxLimit == 0) {
+                return;
+            }
+
+            double current = estimatedLimit;
+            double log = Math.max(1, Math.log10(current));
+            double newLimit;
+            if (failed) {
+                // the round-trip time of a failed exchange is not representative
+                newLimit = current - log;
+            } else if (++probeCount >= (long) PROBE_MULTIPLIER * limit) {
+                // probe for a new lowest round-trip time periodically, as the downstream system may have changed
+                probeCount = 0;
+                rttNoLoad = rtt;
+                return;
+            } else if (rttNoLoad == 0 || rtt < rttNoLoad) {
+                rttNoLoad = rtt;
+                return;
+            } else if (concurrency * 2 < current) {
+                // the limit is not being used, so there is nothing to learn
+                return;
+            } else {
+                // the estimated number of requests queued in the downstream system
+                int queue = (int) Math.ceil(current * (1 - (double) rttNoLoad / rtt));
+                if (queue <= log) {
+                    newLimit = current + 6 * log;
+                } else if (queue < 3 * log) {
+                    newLimit = current + log;
+                } else if (queue > 6 * log) {
+                    newLimit = current - log;
+                } else {
+                    return;
+                }
+            }
+            estimatedLimit = Math.max(1, Math.min(maxLimit, newLimit));
+            updateLimit((int) estimatedLimit);
+        }
+
+        private void updateLimit(int newLimit) {
+            int delta = newLimit - limit;
+            if (delta > 0) {
+                semaphore.increasePermits(delta);
+            } else if (delta < 0) {
+                // discard any permits that are needed to decrease the limit
+                semaphore.reducePermits(-delta);
+            }
+            if (delta != 0 && LOG.isDebugEnabled()) {
+                LOG.debug("Adaptive concurrency limit changed from {} to {}", limit, newLimit);
+            }
+            limit = newLimit;
+        }
+
+        /**
+         * Evaluates the maxConcurrentRequestsExpression and adjusts the upper bound of the limit.
+         */
+        public synchronized void calculateAndSetMaxConcurrentRequestsExpression(final Exchange exchange) throws Exception {
+            Integer newMax = getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+
+            if (newMax != null && newMax <= 0) {
+                throw new IllegalStateException(
+                        "The maximumConcurrentRequests must be a positive number, was: " + newMax);
+            }
+
+            if (newMax == null && maxLimit == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxConcurrentRequestsExpression was evaluated as null: " + getMaximumRequestsExpression(),
+                        exchange);
+            }
+
+            if (newMax != null && newMax != maxLimit) {
+                if (maxLimit == 0) {
+                    estimatedLimit = Math.min(INITIAL_LIMIT, newMax);
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Initial adaptive concurrency limit set to {} with maximum {}, triggered by ExchangeId: {}",
+                                (int) estimatedLimit, newMax, exchange.getExchangeId());
+                    }
+                } else {
+                    estimatedLimit = Math.min(estimatedLimit, newMax);
+                }
+                maxLimit = newMax;
+                updateLimit((int) estimatedLimit);
+            }
+        }
+    }
+
+    // extend Semaphore so we can reduce permits if required
+    private static class WrappedSemaphore extends Semaphore {
+        public WrappedSemaphore() {
+            super(0, true);
+        }
+
+        public boolean tryAcquire() {
+            try {
+                // honours fairness setting
+                return super.tryAcquire(0L, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        // decrease the limit
+        public void reducePermits(int n) {
+            super.reducePermits(n);
+        }
+
+        // increase the limit
+        public void increasePermits(int n) {
+            super.release(n);
+        }
+    }
+
+    @Override
+    public String getMode() {
+        return "AdaptiveConcurrency";
+    }
+
+    /**
+     * Gets the current concurrency limit. If it is grouped throttling applied with correlationExpression then the
+     * highest limit within the groups will return
+     */
+    @Override
+    public int getCurrentMaximumRequests() {
+        return states.values().stream().mapToInt(ThrottlingState::getLimit).max().orElse(0);
+    }
+
+    /**
+     * Gets the upper bound of the concurrency limit, as evaluated from the maximum requests expression
+     */
+    public int getMaximumLimit() {
+        return states.values().stream().mapToInt(ThrottlingState::getMaxLimit).max().orElse(0);
+    }
+
+    /**
+     * Gets the number of exchanges currently in-flight (within all the groups)
+     */
+    public int getInflightRequests() {
+        return states.values().stream().mapToInt(ThrottlingState::getInflight).sum();
+    }
+
+    /**
+     * Gets the number of exchanges which have been rejected because the concurrency limit was exceeded
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Resets the number of rejected exchanges
+     */
+    public void resetRejectedCount() {
+        rejected.reset();
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[adaptive " + getMaximumRequestsExpression() + "]";
+    }
+
+    @Override
+    public String toString() {
+        return getId();
+    }
+}
@@ -19,10 +19,12 @@ package org.apache.camel.processor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
@@ -30,6 +32,7 @@ import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +42,11 @@ import static org.apache.camel.processor.PipelineHelper.continueProcessing;
 /**
  * Implements a Choice structure where one or more predicates are used which if they are true their processors are used,
  * with a default otherwise clause used if none match.
+ * <p/>
+ * When all the predicates compare the same expression for equality with different constant values, then an index can
+ * be set which maps the constant values to the first filter using the value. The expression is then evaluated once
+ * and the index is used to jump directly to the filter that can match, instead of evaluating the predicates one by
+ * one.
  */
 public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<Processor>, Traceable, IdAware, RouteIdAware {
 
@@ -50,6 +58,8 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
     private final FilterProcessor[] filters;
     private final int len;
     private final AsyncProcessor otherwise;
+    private Expression indexExpression;
+    private Map<String, Integer> index;
     private transient long notFiltered;
 
     public ChoiceProcessor(List<FilterProcessor> filters, Processor otherwise) {
@@ -60,8 +70,21 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        int start = 0;
+        if (index != null) {
+            try {
+                start = indexOf(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            if (!continueProcessing(exchange, "so breaking out of choice", LOG)) {
+                callback.done(true);
+                return true;
+            }
+        }
+
         // find the first matching filter and process the exchange using it
-        for (int i = 0; i < len; i++) {
+        for (int i = start; i < len; i++) {
             FilterProcessor filter = filters[i];
             // evaluate the predicate on filter predicate early to be faster
             // and avoid issues when having nested choices
@@ -100,6 +123,21 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
         }
     }
 
+    /**
+     * Finds the position of the first filter that can match the exchange by looking up the value of the index
+     * expression in the index, or the length of the filters if no filter can match.
+     */
+    private int indexOf(Exchange exchange) {
+        Object value = indexExpression.evaluate(exchange, Object.class);
+        // only non numeric strings are compared as-is, as other values may be equal by type coercion
+        // (such as numeric strings 1 and 01), so these must be matched by the predicates one by one
+        if (value instanceof String && !ObjectHelper.isNumber((String) value)) {
+            Integer pos = index.get(value);
+            return pos != null ? pos : len;
+        }
+        return 0;
+    }
+
     @Override
     public String toString() {
         return id;
@@ -118,6 +156,26 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
         return otherwise;
     }
 
+    public Expression getIndexExpression() {
+        return indexExpression;
+    }
+
+    public Map<String, Integer> getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets an index to quickly find the filter to use, when all the filters have a predicate which compares the given
+     * expression for equality with a constant value.
+     *
+     * @param indexExpression the expression that all the predicates compare
+     * @param index           the constant values mapped to the position of the first filter comparing to the value
+     */
+    public void setIndex(Expression indexExpression, Map<String, Integer> index) {
+        this.indexExpression = indexExpression;
+        this.index = index;
+    }
+
     /**
      * Gets the number of Exchanges that did not match any predicate and are routed using otherwise
      */
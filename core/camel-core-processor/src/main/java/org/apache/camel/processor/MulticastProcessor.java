@@ -161,6 +161,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
     private boolean synchronous;
+    private int windowSize;
     private final boolean streaming;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
@@ -262,6 +263,26 @@ public class MulticastProcessor extends AsyncProcessorSupport
         this.synchronous = synchronous;
     }
 
+    /**
+     * The maximum number of sub exchanges being processed or waiting to be aggregated at the same time when using
+     * parallel processing (0 or negative for unlimited)
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Sets the maximum number of sub exchanges being processed or waiting to be aggregated at the same time when using
+     * parallel processing. When the window is full then no more sub exchanges are created (for example read from the
+     * streaming iterator) until the oldest sub exchange has been aggregated. The sub exchanges are aggregated in the
+     * same order as they were created, also in streaming mode.
+     * <p/>
+     * This bounds the memory used when splitting big messages with parallel processing.
+     */
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -403,6 +424,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean suspended = new AtomicBoolean();
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
 
@@ -424,10 +446,15 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
+            // when using a window then aggregate in order, as the window bounds how many are waiting to be aggregated
+            boolean ordered = !isStreaming() || windowSize > 0;
+            if (windowSize > 0) {
+                capacity = capacity > 0 ? Math.min(capacity, windowSize) : windowSize;
+            }
             if (capacity > 0) {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock, capacity);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock);
             }
         }
 
@@ -461,6 +488,33 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 } finally {
                     lock.unlock();
                 }
+                // aggregating has freed up the window
+                resume();
+            }
+        }
+
+        /**
+         * Whether the window is full, and no more sub exchanges should be sent until some have been aggregated.
+         */
+        protected boolean isWindowFull() {
+            return windowSize > 0 && nbExchangeSent.get() - nbAggregated.get() >= windowSize;
+        }
+
+        /**
+         * Suspends sending more sub exchanges because the window is full.
+         */
+        protected void suspend() {
+            suspended.set(true);
+            // aggregation may have happened in the meantime so check again
+            resume();
+        }
+
+        /**
+         * Resumes sending sub exchanges if suspended and the window is no longer full.
+         */
+        protected void resume() {
+            if (suspended.get() && !done.get() && !isWindowFull() && suspended.compareAndSet(true, false)) {
+                schedule(this);
             }
         }
 
@@ -596,7 +650,12 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    if (isWindowFull()) {
+                        // back-pressure so the next pair is first sent when the window is no longer full
+                        suspend();
+                    } else {
+                        schedule(this);
+                    }
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which uses a token bucket to limit the number of
+ * message exchanges which can be sent to a processor within a specific time period.
+ * <p/>
+ * The token bucket is implemented with the generic cell rate algorithm (GCRA), where the state of each bucket is a
+ * single atomic long holding the theoretical arrival time of the next exchange. An exchange is allowed when the
+ * theoretical arrival time is at most one time period ahead of now, and acquiring a token is a compare-and-set which
+ * moves the theoretical arrival time one emission interval (time period divided by the maximum requests) ahead. This
+ * allows bursts of up to the maximum requests, and a steady rate of maximum requests per time period, without any
+ * locks, queues or background tasks per bucket.
+ * <p/>
+ * When an exchange is throttled then it reserves the next free slot up front, and is released when the slot is due.
+ * With asyncDelayed enabled, the delayed exchanges of all the buckets are released from the shared scheduled thread
+ * pool of the throttler (not a delay queue per bucket).
+ * <p/>
+ * The buckets are kept in shards by the hash of the correlation key. A bucket which has been idle for a full time
+ * period is full again, and is equal to a new bucket, so such buckets are evicted by a periodic task which sweeps one
+ * shard at a time. This keeps the memory footprint bounded by the number of active keys when throttling by a high
+ * cardinality correlationExpression.
+ */
+public class TokenBucketThrottler extends AbstractThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    // marks a bucket which has been evicted and must no longer be used
+    private static final long EVICTED = Long.MIN_VALUE;
+    private static final int SHARDS = 16;
+
+    private final Map<String, Bucket>[] shards;
+    private volatile long timePeriodMillis;
+    private volatile ScheduledFuture<?> evictionTask;
+    private int nextShard;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(asyncExecutor, shutdownAsyncExecutor, camelContext, rejectExecution, correlation, maxRequestsExpression);
+
+        if (timePeriodMillis <= 0) {
+            throw new IllegalArgumentException("TimePeriodMillis should be a positive number, was: " + timePeriodMillis);
+        }
+        this.timePeriodMillis = timePeriodMillis;
+        this.shards = new Map[SHARDS];
+        for (int i = 0; i < SHARDS; i++) {
+            this.shards[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        State state = exchange.getProperty(PROPERTY_EXCHANGE_STATE, State.SYNC, State.class);
+        exchange.removeProperty(PROPERTY_EXCHANGE_STATE);
+        boolean doneSync = state == State.SYNC || state == State.ASYNC_REJECTED;
+
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            // the exchange has already acquired its slot before it was delayed
+            if (state == State.SYNC) {
+                long delay = acquire(exchange);
+                if (delay > 0) {
+                    if (isAsyncDelayed() && !exchange.isTransacted()) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug(
+                                    "Throttle rate exceeded but AsyncDelayed enabled, so scheduling for async processing, exchangeId: {}",
+                                    exchange.getExchangeId());
+                        }
+                        return processAsynchronously(exchange, callback, delay);
+                    }
+                    await(delay);
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay),
+                                exchange.getExchangeId());
+                    }
+                } else if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+            }
+
+            callback.done(doneSync);
+            return doneSync;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return handleInterrupt(exchange, callback, e, doneSync);
+        } catch (Exception e) {
+            return handleException(exchange, callback, e, doneSync);
+        }
+    }
+
+    /**
+     * Acquires a token from the bucket of the exchange.
+     *
+     * @return the time in nanos the exchange must be delayed, or <tt>0</tt> if the exchange can continue at once
+     */
+    protected long acquire(Exchange exchange) throws Exception {
+        String key = DEFAULT_KEY;
+        if (correlationExpression != null) {
+            key = correlationExpression.evaluate(exchange, String.class);
+        }
+        Map<String, Bucket> shard = shard(key);
+
+        long period = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+        while (true) {
+            Bucket bucket = shard.computeIfAbsent(key, k -> new Bucket());
+            int rate = bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+            long interval = Math.max(1, period / rate);
+
+            long now = System.nanoTime();
+            long tat = bucket.get();
+            if (tat == EVICTED) {
+                // the bucket was evicted concurrently so try again with a new bucket
+                shard.remove(key, bucket);
+                continue;
+            }
+            // the bucket is full when it has been idle for a while
+            long start = tat - now < 0 ? now : tat;
+            long allowAt = start + interval - period;
+            long delay = allowAt - now;
+            if (delay > 0 && isRejectExecution()) {
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the max throttle rate of " + rate + " within " + timePeriodMillis + "ms");
+            }
+            // reserve the slot (when delayed then the exchange is released when its slot is due)
+            if (bucket.compareAndSet(tat, start + interval)) {
+                return Math.max(0, delay);
+            }
+        }
+    }
+
+    /**
+     * Schedules the exchange on the asyncExecutor to be released when its slot is due. Except if the executor rejects
+     * the submission and isCallerRunsWhenRejected() is enabled, then the current thread waits instead.
+     */
+    protected boolean processAsynchronously(final Exchange exchange, final AsyncCallback callback, long delay)
+            throws InterruptedException {
+        try {
+            exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC);
+            asyncExecutor.schedule(() -> process(exchange, callback), delay, TimeUnit.NANOSECONDS);
+            return false;
+        } catch (final RejectedExecutionException e) {
+            exchange.removeProperty(PROPERTY_EXCHANGE_STATE);
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                // the slot is already reserved so wait for it in the current thread
+                await(delay);
+                exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC_REJECTED);
+                return process(exchange, callback);
+            }
+            throw e;
+        }
+    }
+
+    private static void await(long delay) throws InterruptedException {
+        long deadline = System.nanoTime() + delay;
+        long remaining = delay;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    private Map<String, Bucket> shard(String key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return shards[h & (SHARDS - 1)];
+    }
+
+    /**
+     * Evicts the idle buckets of the next shard. A bucket which has been idle for a full time period is full, and is
+     * equal to a new bucket, so it can be evicted without affecting the throttling.
+     */
+    protected void evictIdleBuckets() {
+        Map<String, Bucket> shard = shards[nextShard];
+        nextShard = (nextShard + 1) & (SHARDS - 1);
+
+        long now = System.nanoTime();
+        long period = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+        int evicted = 0;
+        for (Map.Entry<String, Bucket> entry : shard.entrySet()) {
+            Bucket bucket = entry.getValue();
+            long tat = bucket.get();
+            if (tat != EVICTED && now - tat > period && bucket.compareAndSet(tat, EVICTED)) {
+                shard.remove(entry.getKey(), bucket);
+                evicted++;
+            }
+        }
+        if (evicted > 0 && LOG.isTraceEnabled()) {
+            LOG.trace("Evicted {} idle throttling buckets", evicted);
+        }
+    }
+
+    /**
+     * Number of buckets currently in use (one per correlation key)
+     */
+    public int getBucketCount() {
+        int answer = 0;
+        for (Map<String, Bucket> shard : shards) {
+            answer += shard.size();
+        }
+        return answer;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (isAsyncDelayed()) {
+            ObjectHelper.notNull(asyncExecutor, "executorService", this);
+        }
+        if (correlationExpression != null && asyncExecutor != null) {
+            // sweep every shard once per 10 time periods
+            long interval = Math.max(1, timePeriodMillis * 10 / SHARDS);
+            evictionTask = asyncExecutor.scheduleWithFixedDelay(this::evictIdleBuckets, interval, interval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ScheduledFuture<?> task = evictionTask;
+        if (task != null) {
+            task.cancel(false);
+            evictionTask = null;
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownAsyncExecutor && asyncExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
+        }
+        for (Map<String, Bucket> shard : shards) {
+            shard.clear();
+        }
+        super.doShutdown();
+    }
+
+    /**
+     * The state of a token bucket, which is the theoretical arrival time (in nanos) of the next exchange.
+     */
+    private final class Bucket extends AtomicLong {
+        private volatile int throttleRate;
+
+        Bucket() {
+            super(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(timePeriodMillis));
+        }
+
+        /**
+         * Evaluates the maxRequestsExpression, and returns the throttle rate to use
+         */
+        int calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) {
+            Integer newThrottle = TokenBucketThrottler.this.getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle <= 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+            if (newThrottle == null) {
+                if (throttleRate == 0) {
+                    throw new RuntimeExchangeException(
+                            "The maxRequestsPerPeriodExpression was evaluated as null: "
+                                                       + TokenBucketThrottler.this.getMaximumRequestsExpression(),
+                            exchange);
+                }
+                return throttleRate;
+            }
+            if (newThrottle != throttleRate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                            newThrottle, exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+            }
+            return newThrottle;
+        }
+    }
+
+    @Override
+    public String getMode() {
+        return "TokenBucket";
+    }
+
+    /**
+     * Gets the current maximum request per period value. If it is grouped throttling applied with correlationExpression
+     * than the max per period within the group will return
+     */
+    @Override
+    public int getCurrentMaximumRequests() {
+        int answer = 0;
+        for (Map<String, Bucket> shard : shards) {
+            for (Bucket bucket : shard.values()) {
+                answer = Math.max(answer, bucket.throttleRate);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Sets the time period during which the maximum number of requests apply
+     */
+    public void setTimePeriodMillis(final long timePeriodMillis) {
+        this.timePeriodMillis = timePeriodMillis;
+    }
+
+    public long getTimePeriodMillis() {
+        return timePeriodMillis;
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + this.getMaximumRequestsExpression() + " per: " + timePeriodMillis + "]";
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.LoggingLevel;
@@ -53,6 +54,7 @@ import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.HashedWheelScheduledExecutorService;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.service.ServiceHelper;
@@ -766,8 +768,14 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                             LOG.trace("Scheduling redelivery task to run in {} millis for exchangeId: {}", redeliveryDelay,
                                     exchange.getExchangeId());
                         }
-                        executorService.schedule(() -> reactiveExecutor.schedule(this::redeliver), redeliveryDelay,
-                                TimeUnit.MILLISECONDS);
+                        if (executorService instanceof HashedWheelScheduledExecutorService wheel) {
+                            // keep track of the pending redeliveries per route
+                            wheel.schedule(() -> reactiveExecutor.schedule(this::redeliver), redeliveryDelay,
+                                    TimeUnit.MILLISECONDS, ExchangeHelper.getRouteId(exchange));
+                        } else {
+                            executorService.schedule(() -> reactiveExecutor.schedule(this::redeliver), redeliveryDelay,
+                                    TimeUnit.MILLISECONDS);
+                        }
 
                     } else {
                         // async delayed redelivery was disabled or we are transacted so we must be synchronous
@@ -1629,6 +1637,10 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
                 // use default shared executor service
                 executorService = PluginHelper.getErrorHandlerExecutorService(camelContext);
             }
+            if (executorService instanceof HashedWheelScheduledExecutorService wheel) {
+                // the timer is shared by error handlers, so let CamelContext manage its lifecycle
+                startSharedService(wheel);
+            }
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Using ExecutorService: {} for redeliveries on error handler: {}", executorService, this);
             }
@@ -1668,6 +1680,15 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
         ServiceHelper.startService(taskFactory, output, outputAsync, deadLetter);
     }
 
+    private void startSharedService(HashedWheelScheduledExecutorService wheel) throws Exception {
+        synchronized (wheel) {
+            CamelContextAware.trySetCamelContext(wheel, camelContext);
+            if (!camelContext.hasService(wheel)) {
+                camelContext.addService(wheel, true, true);
+            }
+        }
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         ServiceHelper.stopAndShutdownServices(deadLetter, output, outputAsync, taskFactory);
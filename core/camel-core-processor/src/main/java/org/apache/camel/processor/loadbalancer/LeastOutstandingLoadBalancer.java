@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Implements the least outstanding requests load balancing policy, where the processor with the fewest exchanges
+ * currently in-flight is chosen. When several processors have the same number of in-flight exchanges, then those are
+ * chosen in a round-robin fashion.
+ * <p/>
+ * A processor which is slow to respond has more exchanges in-flight, and receives less new exchanges than the other
+ * processors.
+ */
+public class LeastOutstandingLoadBalancer extends LoadTrackingLoadBalancer {
+    private final AtomicInteger counter = new AtomicInteger(-1);
+
+    @Override
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = processors.length;
+        // start from the next processor in round-robin order so ties are spread evenly
+        int offset = counter.updateAndGet(x -> ++x < size ? x : 0);
+
+        AsyncProcessor answer = null;
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            AsyncProcessor processor = processors[(offset + i) % size];
+            int outstanding = getLoad(processor).outstanding.get();
+            if (outstanding < min) {
+                min = outstanding;
+                answer = processor;
+                if (outstanding == 0) {
+                    break;
+                }
+            }
+        }
+        return answer;
+    }
+
+}
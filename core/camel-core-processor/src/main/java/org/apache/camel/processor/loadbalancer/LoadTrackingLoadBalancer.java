@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * A base class for {@link LoadBalancer} implementations which choose a single destination for each exchange based on
+ * the current load of the destinations. The number of in-flight exchanges and the response time of each destination is
+ * tracked with lock-free counters.
+ */
+public abstract class LoadTrackingLoadBalancer extends QueueLoadBalancer {
+
+    private final Map<AsyncProcessor, ProcessorLoad> loads = new ConcurrentHashMap<>();
+
+    @Override
+    public void addProcessor(AsyncProcessor processor) {
+        super.addProcessor(processor);
+        loads.computeIfAbsent(processor, p -> new ProcessorLoad());
+    }
+
+    @Override
+    public void removeProcessor(AsyncProcessor processor) {
+        super.removeProcessor(processor);
+        loads.remove(processor);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        AsyncProcessor[] list = doGetProcessors();
+        if (list.length > 0) {
+            AsyncProcessor processor = chooseProcessor(list, exchange);
+            if (processor == null) {
+                Exception e = new IllegalStateException("No processors could be chosen to process " + exchange);
+                exchange.setException(e);
+            } else {
+                ProcessorLoad load = getLoad(processor);
+                long start = load.begin();
+                processor.process(exchange, doneSync -> {
+                    load.end(start);
+                    callback.done(doneSync);
+                });
+                return false;
+            }
+        }
+        // no processors but indicate we are done
+        callback.done(false);
+        return false;
+    }
+
+    /**
+     * Gets the load of the given processor
+     */
+    ProcessorLoad getLoad(AsyncProcessor processor) {
+        // the processor may have been removed concurrently
+        return loads.computeIfAbsent(processor, p -> new ProcessorLoad());
+    }
+
+    /**
+     * Number of exchanges currently being processed by the given processor
+     */
+    public int getOutstandingRequests(AsyncProcessor processor) {
+        ProcessorLoad load = loads.get(processor);
+        return load != null ? load.outstanding.get() : 0;
+    }
+
+    /**
+     * Called when an exchange has been processed by a processor
+     *
+     * @param load    the load of the processor
+     * @param elapsed the time in nanos the exchange took
+     */
+    void onResponse(ProcessorLoad load, long elapsed) {
+        // noop
+    }
+
+    /**
+     * The load of a processor
+     */
+    final class ProcessorLoad {
+        final AtomicInteger outstanding = new AtomicInteger();
+        // the cost is a double stored as long bits, so it can be updated with compare-and-set
+        final AtomicLong cost = new AtomicLong(Double.doubleToRawLongBits(0));
+        final AtomicLong stamp = new AtomicLong(System.nanoTime());
+
+        long begin() {
+            outstanding.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        void end(long start) {
+            outstanding.decrementAndGet();
+            onResponse(this, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+
+/**
+ * Implements the peak EWMA (exponentially weighted moving average) load balancing policy, which prefers the processors
+ * with the least response time.
+ * <p/>
+ * Each processor has a cost which is the moving average of its response times, which decays over the decay time. When
+ * a response is slower than the average, then the cost is set to that response time at once (the peak), so a slow
+ * processor is avoided quickly, and is used again gradually as the cost decays. The cost is multiplied by the number of
+ * in-flight exchanges of the processor plus one, so the load is taken into account as well.
+ * <p/>
+ * For each exchange two random processors are picked and the one with the lowest cost is chosen (power of two
+ * choices), which avoids that all the exchanges are sent to the same processor before its cost is updated.
+ */
+public class PeakEwmaLoadBalancer extends LoadTrackingLoadBalancer {
+
+    // the cost of a processor which has exchanges in-flight but no response time yet
+    private static final double PENALTY = Long.MAX_VALUE >> 16;
+
+    private final long decayTime;
+
+    public PeakEwmaLoadBalancer() {
+        this(10000);
+    }
+
+    /**
+     * @param decayTime the time in millis which it takes for the moving average to decay
+     */
+    public PeakEwmaLoadBalancer(long decayTime) {
+        if (decayTime <= 0) {
+            throw new IllegalArgumentException("DecayTime should be a positive number, was: " + decayTime);
+        }
+        this.decayTime = TimeUnit.MILLISECONDS.toNanos(decayTime);
+    }
+
+    public long getDecayTime() {
+        return TimeUnit.NANOSECONDS.toMillis(decayTime);
+    }
+
+    @Override
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = processors.length;
+        if (size == 1) {
+            return processors[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int a = random.nextInt(size);
+        // pick a different processor for the second choice
+        int b = random.nextInt(size - 1);
+        if (b >= a) {
+            b++;
+        }
+        AsyncProcessor pa = processors[a];
+        AsyncProcessor pb = processors[b];
+        return cost(getLoad(pa)) <= cost(getLoad(pb)) ? pa : pb;
+    }
+
+    /**
+     * Gets the current cost of the given processor
+     */
+    public double getCost(AsyncProcessor processor) {
+        return cost(getLoad(processor));
+    }
+
+    private double cost(ProcessorLoad load) {
+        // decay the cost as if a response time of zero was observed now
+        double ewma = observe(load, 0);
+        int outstanding = load.outstanding.get();
+        if (ewma == 0 && outstanding > 0) {
+            return PENALTY + outstanding;
+        }
+        return ewma * (outstanding + 1);
+    }
+
+    @Override
+    void onResponse(ProcessorLoad load, long elapsed) {
+        observe(load, elapsed);
+    }
+
+    private double observe(ProcessorLoad load, double responseTime) {
+        long now = System.nanoTime();
+        // each update decays the cost by the time since the previous update
+        long elapsed = Math.max(0, now - load.stamp.getAndSet(now));
+        double weight = Math.exp(-(double) elapsed / decayTime);
+        while (true) {
+            long bits = load.cost.get();
+            double cost = Double.longBitsToDouble(bits);
+            double update;
+            if (responseTime > cost) {
+                // use the peak at once
+                update = responseTime;
+            } else {
+                update = cost * weight + responseTime * (1 - weight);
+            }
+            if (update == cost || load.cost.compareAndSet(bits, Double.doubleToRawLongBits(update))) {
+                return update;
+            }
+        }
+    }
+
+}
@@ -17,9 +17,14 @@
 package org.apache.camel.reifier;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
 import org.apache.camel.ExpressionFactory;
 import org.apache.camel.Predicate;
 import org.apache.camel.Processor;
@@ -28,6 +33,7 @@ import org.apache.camel.model.ChoiceDefinition;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.WhenDefinition;
 import org.apache.camel.model.language.ExpressionDefinition;
+import org.apache.camel.model.language.SimpleExpression;
 import org.apache.camel.processor.ChoiceProcessor;
 import org.apache.camel.processor.FilterProcessor;
 import org.apache.camel.spi.ExpressionFactoryAware;
@@ -42,6 +48,14 @@ public class ChoiceReifier extends ProcessorReifier<ChoiceDefinition> {
      */
     private static final Logger LOG = LoggerFactory.getLogger(ChoiceReifier.class);
 
+    /**
+     * Simple predicates which compares a header, exchange property, variable or the message body with a constant value,
+     * such as <tt>${header.type} == 'foo'</tt>
+     */
+    private static final Pattern INDEXABLE_PREDICATE = Pattern.compile(
+            "\\$\\{((?:in\\.)?headers?\\.[\\w-]+|exchangeProperty\\.[\\w-]+|variable\\.[\\w-]+|(?:in\\.)?body)}"
+            + "\\s*==\\s*(?:'([^'$\\\\]+)'|\"([^\"$\\\\]+)\")");
+
     public ChoiceReifier(Route route, ProcessorDefinition<?> definition) {
         super(route, ChoiceDefinition.class.cast(definition));
     }
@@ -63,7 +77,57 @@ public class ChoiceReifier extends ProcessorReifier<ChoiceDefinition> {
         if (definition.getOtherwise() != null) {
             otherwiseProcessor = createProcessor(definition.getOtherwise());
         }
-        return new ChoiceProcessor(filters, otherwiseProcessor);
+        ChoiceProcessor answer = new ChoiceProcessor(filters, otherwiseProcessor);
+        initIndex(answer);
+        return answer;
+    }
+
+    /**
+     * Initializes an index on the choice processor if all the when predicates compare the same expression with
+     * different constant values (such as <tt>${header.type} == 'foo'</tt>), which allows to find the branch by a lookup
+     * instead of evaluating the predicates one by one.
+     */
+    private void initIndex(ChoiceProcessor choice) throws Exception {
+        List<WhenDefinition> whenClauses = definition.getWhenClauses();
+        if (whenClauses.size() < 2) {
+            return;
+        }
+
+        String key = null;
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < whenClauses.size(); i++) {
+            ExpressionDefinition exp = whenClauses.get(i).getExpression();
+            if (exp.getExpressionType() != null) {
+                exp = exp.getExpressionType();
+            }
+            if (!(exp instanceof SimpleExpression) || exp.getExpressionValue() != null
+                    || ((SimpleExpression) exp).getResultType() != null
+                    || ((SimpleExpression) exp).getResultTypeName() != null) {
+                return;
+            }
+            String text = parseString(exp.getExpression());
+            if (text == null) {
+                return;
+            }
+            Matcher matcher = INDEXABLE_PREDICATE.matcher(text.trim());
+            if (!matcher.matches()) {
+                return;
+            }
+            // the in prefix and headers are aliases, so remove those to compare the expressions
+            String name = matcher.group(1).replaceFirst("^in\\.", "").replaceFirst("^headers\\.", "header.");
+            String value = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+            if ((key != null && !key.equals(name)) || "null".equals(value)) {
+                return;
+            }
+            key = name;
+            // first match wins so keep the first position for duplicate values
+            index.putIfAbsent(value, i);
+        }
+
+        Expression expression = camelContext.resolveLanguage("simple").createExpression("${" + key + "}");
+        expression.init(camelContext);
+        choice.setIndex(expression, index);
+        LOG.debug("Choice using index on ${{}} with {} values", key, index.size());
     }
 
     /**
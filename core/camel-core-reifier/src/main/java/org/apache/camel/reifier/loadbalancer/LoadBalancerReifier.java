@@ -24,6 +24,8 @@ import org.apache.camel.Route;
 import org.apache.camel.model.LoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastOutstandingLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.PeakEwmaLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.StickyLoadBalancerDefinition;
@@ -83,6 +85,10 @@ public class LoadBalancerReifier<T extends LoadBalancerDefinition> extends Abstr
             return new CustomLoadBalancerReifier(route, definition);
         } else if (definition instanceof FailoverLoadBalancerDefinition) {
             return new FailoverLoadBalancerReifier(route, definition);
+        } else if (definition instanceof LeastOutstandingLoadBalancerDefinition) {
+            return new LeastOutstandingLoadBalancerReifier(route, definition);
+        } else if (definition instanceof PeakEwmaLoadBalancerDefinition) {
+            return new PeakEwmaLoadBalancerReifier(route, definition);
         } else if (definition instanceof RandomLoadBalancerDefinition) {
             return new RandomLoadBalancerReifier(route, definition);
         } else if (definition instanceof RoundRobinLoadBalancerDefinition) {
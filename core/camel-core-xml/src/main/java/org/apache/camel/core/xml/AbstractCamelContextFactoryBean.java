@@ -898,6 +898,16 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         if (spoolCipher != null) {
             getContext().getStreamCachingStrategy().setSpoolCipher(spoolCipher);
         }
+        String spoolMode = CamelContextHelper.parseText(getContext(), streamCaching.getSpoolMode());
+        if (spoolMode != null) {
+            StreamCachingStrategy.SpoolMode mode = CamelContextHelper.mandatoryConvertTo(getContext(),
+                    StreamCachingStrategy.SpoolMode.class, spoolMode);
+            getContext().getStreamCachingStrategy().setSpoolMode(mode);
+        }
+        Long poolSize = CamelContextHelper.parseLong(getContext(), streamCaching.getSpoolOffHeapPoolSize());
+        if (poolSize != null) {
+            getContext().getStreamCachingStrategy().setSpoolOffHeapPoolSize(poolSize);
+        }
         Boolean remove = CamelContextHelper.parseBoolean(getContext(), streamCaching.getRemoveSpoolDirectoryWhenStopping());
         if (remove != null) {
             getContext().getStreamCachingStrategy().setRemoveSpoolDirectoryWhenStopping(remove);
@@ -49,6 +49,12 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     @XmlAttribute
     private String spoolCipher;
     @XmlAttribute
+    @Metadata(defaultValue = "File", enums = "File,MemoryMapped,OffHeap")
+    private String spoolMode;
+    @XmlAttribute
+    @Metadata(defaultValue = "67108864")
+    private String spoolOffHeapPoolSize;
+    @XmlAttribute
     @Metadata(defaultValue = "" + StreamCache.DEFAULT_SPOOL_THRESHOLD)
     private String spoolThreshold;
     @XmlAttribute
@@ -159,6 +165,33 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.spoolCipher = spoolCipher;
     }
 
+    public String getSpoolMode() {
+        return spoolMode;
+    }
+
+    /**
+     * Sets how stream caches are spooled when overflow to disk is activated.
+     * <p/>
+     * File spools to temporary files. MemoryMapped spools to temporary files which are read back as memory mapped
+     * files. OffHeap spools to a bounded pool of off-heap memory, and to temporary files when the pool is full.
+     */
+    public void setSpoolMode(String spoolMode) {
+        this.spoolMode = spoolMode;
+    }
+
+    public String getSpoolOffHeapPoolSize() {
+        return spoolOffHeapPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory to use when spool mode is OffHeap.
+     * <p/>
+     * The default size is 64mb.
+     */
+    public void setSpoolOffHeapPoolSize(String spoolOffHeapPoolSize) {
+        this.spoolOffHeapPoolSize = spoolOffHeapPoolSize;
+    }
+
     public String getSpoolThreshold() {
         return spoolThreshold;
     }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileConsumerParallelProcessingTest extends ContextTestSupport {
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @Test
+    public void testParallelProcessing() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            template.sendBodyAndHeader(fileUri("parallel"), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+
+        context.getRouteController().startRoute("parallel");
+        mock.assertIsSatisfied();
+
+        // the files are processed concurrently, but no more than maxConcurrentFiles at the same time
+        assertTrue(maxActive.get() > 1, "Should process files concurrently, was: " + maxActive.get());
+        assertTrue(maxActive.get() <= 4, "Should process at most 4 files concurrently, was: " + maxActive.get());
+
+        // and each file is committed on its own
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            for (int i = 0; i < 20; i++) {
+                assertFalse(Files.exists(testFile("parallel/hello" + i + ".txt")));
+                assertFileExists(testFile("parallel/.camel/hello" + i + ".txt"));
+            }
+        });
+    }
+
+    @Test
+    public void testParallelProcessingRollback() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            template.sendBodyAndHeader(fileUri("failed"), i % 2 == 0 ? "Kaboom" : "Hello", Exchange.FILE_NAME,
+                    "file" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello", "Hello", "Hello");
+
+        context.getRouteController().startRoute("failed");
+        mock.assertIsSatisfied();
+
+        // the failed files are rolled back and the other files are committed
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            for (int i = 0; i < 6; i++) {
+                String name = "file" + i + ".txt";
+                assertFileExists(testFile(i % 2 == 0 ? "failed/error/" + name : "failed/.camel/" + name));
+            }
+        });
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testOverriddenProcessExchange() throws Exception {
+        AtomicInteger processed = new AtomicInteger();
+        FileEndpoint endpoint = new FileEndpoint() {
+            @Override
+            protected FileConsumer newFileConsumer(Processor processor, GenericFileOperations<File> operations) {
+                return new FileConsumer(this, processor, operations, createGenericFileStrategy()) {
+                    @Override
+                    protected boolean processExchange(Exchange exchange) {
+                        processed.incrementAndGet();
+                        return super.processExchange(exchange);
+                    }
+                };
+            }
+        };
+        endpoint.setCamelContext(context);
+        endpoint.setFile(testDirectory("custom").toFile());
+        endpoint.setInitialDelay(0);
+        endpoint.setDelay(10);
+        endpoint.setParallelProcessing(true);
+
+        for (int i = 0; i < 3; i++) {
+            template.sendBodyAndHeader(fileUri("custom"), "Hello " + i, Exchange.FILE_NAME, "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:custom");
+        mock.expectedMessageCount(3);
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(endpoint).to("mock:custom");
+            }
+        });
+        mock.assertIsSatisfied();
+
+        // the overridden method is still used, so the files are processed one by one
+        assertEquals(3, processed.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("parallel?initialDelay=0&delay=10&parallelProcessing=true&maxConcurrentFiles=4"))
+                        .routeId("parallel").noAutoStartup()
+                        .process(e -> {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            Thread.sleep(50);
+                            active.decrementAndGet();
+                        })
+                        .to("mock:result");
+
+                from(fileUri("failed?initialDelay=0&delay=10&parallelProcessing=true&moveFailed=error"))
+                        .routeId("failed").noAutoStartup()
+                        .convertBodyTo(String.class)
+                        .filter(body().isEqualTo("Kaboom")).throwException(new IllegalArgumentException("Forced")).end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class FileConsumerWatchDirectoryTest extends ContextTestSupport {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    public void testWatchDirectory() throws Exception {
+        template.sendBodyAndHeader(fileUri("watch"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("watch/foo"), "b", Exchange.FILE_NAME, "b.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("a", "b");
+
+        context.getRouteController().startRoute("watch");
+        mock.assertIsSatisfied();
+
+        // new files are picked up from the events, also in new sub directories
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("c", "d", "e");
+
+        template.sendBodyAndHeader(fileUri("watch"), "c", Exchange.FILE_NAME, "c.txt");
+        template.sendBodyAndHeader(fileUri("watch/foo"), "d", Exchange.FILE_NAME, "d.txt");
+        template.sendBodyAndHeader(fileUri("watch/bar/baz"), "e", Exchange.FILE_NAME, "e.txt");
+
+        mock.assertIsSatisfied();
+
+        // the files are moved as usual
+        assertFalse(Files.exists(testFile("watch/c.txt")));
+        assertFileExists(testFile("watch/.camel/c.txt"));
+        assertFileExists(testFile("watch/bar/baz/.camel/e.txt"));
+    }
+
+    @Test
+    public void testWatchDirectoryNoop() throws Exception {
+        template.sendBodyAndHeader(fileUri("noop"), "a", Exchange.FILE_NAME, "a.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("a");
+
+        context.getRouteController().startRoute("noop");
+        mock.assertIsSatisfied();
+
+        // the files which stay in the directory are only consumed once
+        mock.reset();
+        mock.expectedBodiesReceived("b");
+
+        template.sendBodyAndHeader(fileUri("noop"), "b", Exchange.FILE_NAME, "b.txt");
+
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testWatchDirectoryRetryRollback() throws Exception {
+        template.sendBodyAndHeader(fileUri("rollback"), "a", Exchange.FILE_NAME, "a.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("a");
+
+        // the file is not changed after the rollback, but is polled again
+        context.getRouteController().startRoute("rollback");
+        mock.assertIsSatisfied();
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testWatchDirectoryMaxMessagesPerPoll() throws Exception {
+        template.sendBodyAndHeader(fileUri("max"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("max/foo"), "b", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader(fileUri("max"), "c", Exchange.FILE_NAME, "c.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("a", "c", "b");
+
+        // the files which are over the limit are polled by the next polls
+        context.getRouteController().startRoute("max");
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void testWatchDirectoryDoneFile() throws Exception {
+        template.sendBodyAndHeader(fileUri("done"), "a", Exchange.FILE_NAME, "a.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(0);
+        mock.setAssertPeriod(50);
+
+        context.getRouteController().startRoute("done");
+        mock.assertIsSatisfied();
+
+        // the file is polled again when its done file has been written
+        mock.reset();
+        mock.expectedBodiesReceived("a");
+        template.sendBodyAndHeader(fileUri("done"), "", Exchange.FILE_NAME, "a.txt.done");
+        mock.assertIsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from(fileUri("watch?initialDelay=0&delay=10&recursive=true&watchDirectory=true"))
+                        .routeId("watch").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("noop?initialDelay=0&delay=10&noop=true&watchDirectory=true&watchReconcileInterval=0"))
+                        .routeId("noop").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("rollback?initialDelay=0&delay=10&watchDirectory=true&watchReconcileInterval=0"))
+                        .routeId("rollback").noAutoStartup()
+                        .process(e -> {
+                            if (attempts.incrementAndGet() == 1) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("max?initialDelay=0&delay=10&recursive=true&maxMessagesPerPoll=1"
+                             + "&watchDirectory=true&watchReconcileInterval=0"))
+                        .routeId("max").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("done?initialDelay=0&delay=10&doneFileName=${file:name}.done"
+                             + "&watchDirectory=true&watchReconcileInterval=0"))
+                        .routeId("done").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
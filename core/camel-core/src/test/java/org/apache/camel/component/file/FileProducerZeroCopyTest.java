@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.FileInputStreamCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class FileProducerZeroCopyTest extends ContextTestSupport {
+
+    @Test
+    public void testFileBody() throws Exception {
+        Path source = testFile("source.txt");
+        Files.writeString(source, "Hello World");
+
+        template.sendBodyAndHeader(fileUri("out"), source.toFile(), Exchange.FILE_NAME, "hello.txt");
+
+        assertEquals("Hello World", Files.readString(testFile("out/hello.txt")));
+        assertEquals("Hello World", Files.readString(source));
+    }
+
+    @Test
+    public void testFileBodyAppend() throws Exception {
+        Path source = testFile("source.txt");
+        Files.writeString(source, "Hello");
+
+        String uri = fileUri("out?fileExist=Append&appendChars=\\n");
+        template.sendBodyAndHeader(uri, source.toFile(), Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(uri, source.toFile(), Exchange.FILE_NAME, "hello.txt");
+
+        assertEquals("Hello\nHello\n", Files.readString(testFile("out/hello.txt")));
+    }
+
+    @Test
+    public void testLocalWorkFileBody() throws Exception {
+        Path work = testFile("work/hello.txt");
+        Files.createDirectories(work.getParent());
+        Files.writeString(work, "Hello World");
+
+        template.send(fileUri("out"), e -> {
+            e.getMessage().setBody(work.toFile());
+            e.getMessage().setHeader(Exchange.FILE_NAME, "hello.txt");
+            e.getMessage().setHeader(Exchange.FILE_LOCAL_WORK_PATH, work.toString());
+        });
+
+        // the local work file is renamed to the target file
+        assertEquals("Hello World", Files.readString(testFile("out/hello.txt")));
+        assertFalse(Files.exists(work));
+    }
+
+    @Test
+    public void testByteBufferBody() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        buffer.put("Bye Hello World".getBytes(StandardCharsets.UTF_8)).flip().position(4);
+
+        template.sendBodyAndHeader(fileUri("out"), buffer, Exchange.FILE_NAME, "hello.txt");
+
+        // only the remaining bytes are written, and the position of the buffer is kept
+        assertEquals("Hello World", Files.readString(testFile("out/hello.txt")));
+        assertEquals(4, buffer.position());
+    }
+
+    @Test
+    public void testFileInputStreamCacheBody() throws Exception {
+        File spool = testFile("spool.tmp").toFile();
+        Files.writeString(spool.toPath(), "Hello World");
+        FileInputStreamCache cache = new FileInputStreamCache(spool);
+
+        template.sendBodyAndHeader(fileUri("out?fileExist=Append"), cache, Exchange.FILE_NAME, "hello.txt");
+        cache.reset();
+        template.sendBodyAndHeader(fileUri("out?fileExist=Append"), cache, Exchange.FILE_NAME, "hello.txt");
+
+        assertEquals("Hello WorldHello World", Files.readString(testFile("out/hello.txt")));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.stress;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the throughput of the file producer when writing file and byte buffer bodies.
+ */
+@Disabled("Manual test")
+public class FileProducerZeroCopyManualTest extends ContextTestSupport {
+
+    private static final int SIZE = 64 * 1024 * 1024;
+    private static final int FILES = 50;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        // create a big file
+        byte[] line = ("Hello World this is a long line" + LS).getBytes();
+        try (OutputStream fos = Files.newOutputStream(testFile("data.txt"))) {
+            for (int written = 0; written < SIZE; written += line.length) {
+                fos.write(line);
+            }
+        }
+    }
+
+    @Test
+    public void testFileBody() throws Exception {
+        Path source = testFile("data.txt");
+        produce("file", source.toFile(), Files.size(source));
+    }
+
+    @Test
+    public void testByteBufferBody() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(SIZE);
+        buffer.put(Files.readAllBytes(testFile("data.txt")), 0, SIZE).flip();
+        produce("buffer", buffer, SIZE);
+    }
+
+    private void produce(String name, Object body, long size) throws Exception {
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < FILES; i++) {
+            template.sendBodyAndHeader(fileUri("out"), body, Exchange.FILE_NAME, name + i + ".txt");
+        }
+        long taken = watch.taken();
+
+        log.info("Wrote {} files of {} bytes from {} bodies in {} ({} MB/s)", FILES, size, name,
+                TimeUtils.printDuration(taken, true), FILES * size * 1000 / (Math.max(taken, 1) * 1024 * 1024));
+    }
+}
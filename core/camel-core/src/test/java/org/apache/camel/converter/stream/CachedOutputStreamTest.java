@@ -31,6 +31,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.IOConverter;
 import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy.SpoolMode;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.util.IOHelper;
@@ -38,6 +39,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -315,6 +317,163 @@ public class CachedOutputStreamTest extends ContextTestSupport {
         IOHelper.close(cos);
     }
 
+    @Test
+    public void testCacheStreamToMemoryMappedFile() throws Exception {
+        context.getStreamCachingStrategy().setSpoolMode(SpoolMode.MemoryMapped);
+
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(1, files.length, "we should have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache, "Should get the FileInputStreamCache");
+        assertEquals(TEST_STRING, toString((InputStream) cache), "Cached a wrong file");
+        cache.reset();
+        assertEquals(TEST_STRING, toString((InputStream) cache), "Cached a wrong file");
+
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8), "Cached a wrong file");
+
+        exchange.getUnitOfWork().done(exchange);
+        files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(0, files.length, "we should have no temp file");
+        // the mapping has been released, so the closed stream must not read from it
+        assertThrows(IOException.class, () -> ((InputStream) cache).read());
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamToOffHeap() throws Exception {
+        context.getStreamCachingStrategy().setSpoolMode(SpoolMode.OffHeap);
+
+        context.start();
+
+        OffHeapBufferPool pool = context.getCamelContextExtension().getContextPlugin(OffHeapBufferPool.class);
+        assertNotNull(pool, "Should have an off-heap pool");
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(0, files.length, "we should have no temp file");
+        assertEquals(OffHeapBufferPool.CHUNK_SIZE, pool.getUsed());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(OffHeapInputStreamCache.class, cache, "Should get the OffHeapInputStreamCache");
+        assertTrue(cache.inMemory());
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(TEST_STRING, toString((InputStream) cache), "Cached a wrong content");
+        cache.reset();
+        assertEquals(TEST_STRING, toString((InputStream) cache), "Cached a wrong content");
+
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8), "Cached a wrong content");
+
+        // the memory is released back to the pool when the exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, pool.getUsed());
+        assertEquals(OffHeapBufferPool.CHUNK_SIZE, pool.getAllocated());
+        assertEquals(0, pool.getSpillCounter());
+        assertThrows(Exception.class, cache::reset, "We expect the exception here");
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamToOffHeapCopyAfterDone() throws Exception {
+        context.getStreamCachingStrategy().setSpoolMode(SpoolMode.OffHeap);
+
+        context.start();
+
+        OffHeapBufferPool pool = context.getCamelContextExtension().getContextPlugin(OffHeapBufferPool.class);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+
+        Exchange exchange2 = new DefaultExchange(context);
+        exchange2.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(exchange2));
+        StreamCache copy = cache.copy(exchange2);
+
+        // the copy can be read after the original exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(OffHeapBufferPool.CHUNK_SIZE, pool.getUsed());
+        assertEquals(TEST_STRING, toString((InputStream) copy), "Cached a wrong content");
+
+        // but not when all the exchanges are done, as the memory is released back to the pool
+        copy.reset();
+        exchange2.getUnitOfWork().done(exchange2);
+        assertEquals(0, pool.getUsed());
+        assertThrows(IOException.class, () -> ((InputStream) copy).read(), "We expect the exception here");
+        assertThrows(IOException.class, () -> copy.writeTo(new ByteArrayOutputStream()),
+                "We expect the exception here");
+        assertThrows(IOException.class, () -> copy.copy(exchange2), "We expect the exception here");
+
+        // and the memory reused by another stream cache must not be read from the released cache
+        Exchange exchange3 = new DefaultExchange(context);
+        exchange3.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(exchange3));
+        CachedOutputStream cos3 = new CachedOutputStream(exchange3);
+        cos3.write("Another exchange".getBytes(StandardCharsets.UTF_8));
+        StreamCache cache3 = cos3.newStreamCache();
+        assertEquals(OffHeapBufferPool.CHUNK_SIZE, pool.getAllocated());
+        assertThrows(IOException.class, () -> ((InputStream) cache).read(new byte[16]), "We expect the exception here");
+        assertEquals("Another exchange", toString((InputStream) cache3), "Cached a wrong content");
+
+        exchange3.getUnitOfWork().done(exchange3);
+        IOHelper.close(cos, cos3);
+    }
+
+    @Test
+    public void testCacheStreamToOffHeapSpillToFile() throws Exception {
+        context.getStreamCachingStrategy().setSpoolMode(SpoolMode.OffHeap);
+        context.getStreamCachingStrategy().setSpoolOffHeapPoolSize(OffHeapBufferPool.CHUNK_SIZE);
+
+        context.start();
+
+        OffHeapBufferPool pool = context.getCamelContextExtension().getContextPlugin(OffHeapBufferPool.class);
+
+        // write more than the pool can hold
+        byte[] data = TEST_STRING.repeat(2000).getBytes(StandardCharsets.UTF_8);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+        }
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(1, files.length, "we should have a temp file");
+        assertEquals(0, pool.getUsed());
+        assertEquals(1, pool.getSpillCounter());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache, "Should get the FileInputStreamCache");
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(TEST_STRING.repeat(2000), bos.toString(StandardCharsets.UTF_8), "Cached a wrong file");
+
+        exchange.getUnitOfWork().done(exchange);
+        files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(0, files.length, "we should have no temp file");
+
+        IOHelper.close(cos);
+    }
+
     @Test
     public void testCachedOutputStreamEmptyInput() throws Exception {
         context.start();
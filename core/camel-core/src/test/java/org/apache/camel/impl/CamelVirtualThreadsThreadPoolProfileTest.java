@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.impl.engine.DefaultExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CamelVirtualThreadsThreadPoolProfileTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camel = super.createCamelContext();
+
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("virtual").poolSize(5).maxPoolSize(10).maxQueueSize(100)
+                .virtualThreads(true).build();
+
+        DefaultExecutorServiceManager executorServiceManager = new DefaultExecutorServiceManager(camel);
+        executorServiceManager.setDefaultThreadPoolProfile(profile);
+        camel.setExecutorServiceManager(executorServiceManager);
+
+        return camel;
+    }
+
+    @Test
+    public void testVirtualThreadsProfile() {
+        ThreadPoolProfile profile = context.getExecutorServiceManager().getDefaultThreadPoolProfile();
+        assertTrue(profile.isVirtualThreads());
+        assertEquals(10, profile.getMaxPoolSize().intValue());
+
+        // virtual threads is inherited from the default profile
+        ThreadPoolProfile custom = new ThreadPoolProfile("custom");
+        custom.addDefaults(profile);
+        assertTrue(custom.isVirtualThreads());
+
+        // but can be turned off
+        ThreadPoolProfile platform = new ThreadPoolProfileBuilder("platform").virtualThreads(false).build();
+        platform.addDefaults(profile);
+        assertFalse(platform.isVirtualThreads());
+        assertFalse(platform.clone().isVirtualThreads());
+    }
+
+    @Test
+    public void testVirtualThreadsThreadPool() throws Exception {
+        ExecutorService pool = context.getExecutorServiceManager().newDefaultThreadPool(this, "test");
+        assertNotNull(pool);
+        assertEquals("OK", pool.submit(() -> "OK").get());
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
+    @Test
+    public void testSingleAndFixedThreadPoolNotVirtual() throws Exception {
+        // single and fixed thread pools must execute the tasks in order, so they do not inherit virtual threads
+        ExecutorService single = context.getExecutorServiceManager().newSingleThreadExecutor(this, "single");
+        ExecutorService fixed = context.getExecutorServiceManager().newFixedThreadPool(this, "fixed", 3);
+        assertTrue(single instanceof ThreadPoolExecutor, "Should be a ThreadPoolExecutor, was: " + single);
+        assertTrue(fixed instanceof ThreadPoolExecutor, "Should be a ThreadPoolExecutor, was: " + fixed);
+        assertEquals(3, ((ThreadPoolExecutor) fixed).getMaximumPoolSize());
+        context.getExecutorServiceManager().shutdown(single);
+        context.getExecutorServiceManager().shutdown(fixed);
+    }
+
+    @Test
+    public void testVirtualThreadsRoute() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(50);
+
+        for (int i = 0; i < 50; i++) {
+            template.sendBody("seda:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start").threads().to("mock:result");
+            }
+        };
+    }
+}
@@ -112,6 +112,44 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         assertEquals(8, stopCounter.get());
     }
 
+    @Test
+    public void testCacheStatistics() {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.start();
+
+        for (int n = 0; n < 2; n++) {
+            for (int i = 0; i < 5; i++) {
+                Endpoint e = newEndpoint(true, i);
+                e.setCamelContext(context);
+                AsyncProducer p = cache.acquireProducer(e);
+                cache.releaseProducer(e, p);
+            }
+        }
+        assertEquals(5, cache.getMisses());
+        assertEquals(5, cache.getHits());
+
+        for (int i = 5; i < 8; i++) {
+            Endpoint e = newEndpoint(true, i);
+            e.setCamelContext(context);
+            AsyncProducer p = cache.acquireProducer(e);
+            cache.releaseProducer(e, p);
+        }
+        assertEquals(8, cache.getMisses());
+
+        await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> {
+            // the eviction is async so force cleanup
+            cache.cleanUp();
+            assertEquals(3, cache.getEvicted());
+        });
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getEvicted());
+
+        cache.stop();
+    }
+
     @Test
     public void testExtendedStatistics() {
         DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
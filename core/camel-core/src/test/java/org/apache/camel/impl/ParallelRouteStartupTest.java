@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.FailedToStartRouteException;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.Service;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelRouteStartupTest extends ContextTestSupport {
+
+    private static final int ROUTES = 50;
+
+    private final List<String> started = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setParallelRouteStartup(true);
+        context.getCamelContextExtension().setStartupStepRecorder(new BacklogStartupStepRecorder());
+        return context;
+    }
+
+    @Test
+    public void testStartRoutes() throws Exception {
+        assertEquals(ROUTES + 4, context.getRoutesSize());
+        for (Route route : context.getRoutes()) {
+            assertTrue(context.getRouteController().getRouteStatus(route.getRouteId()).isStarted());
+        }
+
+        // the routes are started in their startup order
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals("first", order.get(0).getRoute().getRouteId());
+        assertEquals("second", order.get(1).getRoute().getRouteId());
+
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+        template.sendBody("direct:0", "Hello World");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testWarmUpAfterDependencies() {
+        // a route is warmed up after the routes it sends to
+        for (int i = 0; i < ROUTES - 1; i++) {
+            assertTrue(started.indexOf("route" + (i + 1)) < started.indexOf("route" + i), "Wrong order: " + started);
+        }
+        // and after the routes with a lower startup order
+        assertTrue(started.indexOf("first") < started.indexOf("second"), "Wrong order: " + started);
+    }
+
+    @Test
+    public void testStartupSteps() {
+        List<StartupStep> steps = context.getCamelContextExtension().getStartupStepRecorder().steps().toList();
+        Optional<StartupStep> warmup = steps.stream()
+                .filter(s -> "Warmup Routes".equals(s.getDescription())).findFirst();
+        assertTrue(warmup.isPresent());
+
+        List<StartupStep> routes = steps.stream()
+                .filter(s -> "Warmup Route Services".equals(s.getDescription())).toList();
+        assertEquals(ROUTES + 4, routes.size());
+        for (StartupStep step : routes) {
+            assertEquals(warmup.get().getId(), step.getParentId());
+            assertEquals(warmup.get().getLevel() + 1, step.getLevel());
+        }
+    }
+
+    @Test
+    public void testFailToStartRoute() throws Exception {
+        CamelContext other = new DefaultCamelContext();
+        other.setParallelRouteStartup(true);
+        other.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:a").routeId("a").to("direct:b");
+                from("direct:b").routeId("b").process(new StartupRecorder("b") {
+                    @Override
+                    public void start() {
+                        throw new IllegalStateException("Forced");
+                    }
+                });
+            }
+        });
+
+        Exception e = assertThrows(Exception.class, other::start);
+        FailedToStartRouteException fe = assertInstanceOf(FailedToStartRouteException.class, e);
+        assertEquals("b", fe.getRouteId());
+        other.close();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (int i = 0; i < ROUTES - 1; i++) {
+                    from("direct:" + i).routeId("route" + i)
+                            .process(new StartupRecorder("route" + i)).to("direct:" + (i + 1));
+                }
+                from("direct:" + (ROUTES - 1)).routeId("route" + (ROUTES - 1))
+                        .process(new StartupRecorder("route" + (ROUTES - 1))).to("mock:result");
+
+                from("direct:second").routeId("second").startupOrder(2)
+                        .process(new StartupRecorder("second"));
+                from("direct:first").routeId("first").startupOrder(1)
+                        .process(new StartupRecorder("first"));
+
+                // routes which depend on each other should not block the startup
+                from("direct:x").routeId("x").to("direct:y");
+                from("direct:y").routeId("y").filter(constant(false)).to("direct:x");
+            }
+        };
+    }
+
+    private class StartupRecorder implements Processor, Service {
+
+        private final String name;
+
+        StartupRecorder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void process(Exchange exchange) {
+            // noop
+        }
+
+        @Override
+        public void start() {
+            started.add(name);
+        }
+
+        @Override
+        public void stop() {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.StripedInflightRepository;
+import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StripedInflightRepositoryTest extends ContextTestSupport {
+
+    @Test
+    public void testSize() {
+        InflightRepository repo = new StripedInflightRepository();
+        repo.addRoute("foo");
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        repo.add(e1, "foo");
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        assertEquals(2, repo.size());
+        assertEquals(1, repo.size("foo"));
+        assertEquals(0, repo.browse().size());
+
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        repo.remove(e2);
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.size("foo"));
+    }
+
+    @Test
+    public void testBrowse() throws Exception {
+        InflightRepository repo = new StripedInflightRepository();
+        repo.setInflightBrowseEnabled(true);
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        Thread.sleep(10);
+        List<Exchange> exchanges = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Exchange e = new DefaultExchange(context);
+            exchanges.add(e);
+            repo.add(e);
+        }
+
+        assertEquals(101, repo.browse().size());
+        assertSame(e1, repo.oldest(null).getExchange());
+
+        Collection<InflightRepository.InflightExchange> top = repo.browse(5, true);
+        assertEquals(5, top.size());
+        assertSame(e1, top.iterator().next().getExchange());
+
+        repo.remove(e1);
+        exchanges.forEach(repo::remove);
+        assertEquals(0, repo.browse().size());
+        assertNull(repo.oldest(null));
+    }
+
+    @Test
+    public void testSampling() {
+        StripedInflightRepository repo = new StripedInflightRepository(64);
+        repo.setInflightBrowseEnabled(true);
+
+        List<Exchange> exchanges = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Exchange e = new DefaultExchange(context);
+            exchanges.add(e);
+            repo.add(e);
+        }
+
+        // the table only holds a sample of the exchanges, but the size is accurate
+        assertEquals(1000, repo.size());
+        int sampled = repo.browse().size();
+        assertTrue(sampled <= 64, "Should be bounded by the capacity, was: " + sampled);
+        assertEquals(1000 - sampled, repo.getUnsampledCount());
+
+        exchanges.forEach(repo::remove);
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.browse().size());
+    }
+}
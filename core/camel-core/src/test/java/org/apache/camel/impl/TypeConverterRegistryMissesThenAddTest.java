@@ -17,6 +17,7 @@
 package org.apache.camel.impl;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
 import org.apache.camel.support.TypeConverterSupport;
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +41,44 @@ public class TypeConverterRegistryMissesThenAddTest {
         assertEquals(123, order.getId());
     }
 
+    @Test
+    public void testMissesAreBounded() {
+        DefaultCamelContext context = new DefaultCamelContext();
+        CoreTypeConverterRegistry registry = (CoreTypeConverterRegistry) context.getTypeConverterRegistry();
+        registry.setMaxCachedMisses(2);
+
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, "123"));
+        assertNotNull(registry.getTypeConverter(MyOrder.class, String.class));
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, 123));
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, 123L));
+
+        // the oldest miss should be evicted
+        assertNull(registry.getTypeConverter(MyOrder.class, String.class));
+        assertNotNull(registry.getTypeConverter(MyOrder.class, Integer.class));
+        assertNotNull(registry.getTypeConverter(MyOrder.class, Long.class));
+
+        // and it should still not be possible to convert
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, "123"));
+    }
+
+    @Test
+    public void testUsedMissesAreKept() {
+        DefaultCamelContext context = new DefaultCamelContext();
+        CoreTypeConverterRegistry registry = (CoreTypeConverterRegistry) context.getTypeConverterRegistry();
+        registry.setMaxCachedMisses(2);
+
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, "123"));
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, 123));
+        // use the oldest miss again
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, "456"));
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, 123L));
+
+        // the miss which has not been used since is evicted instead of the oldest miss
+        assertNotNull(registry.getTypeConverter(MyOrder.class, String.class));
+        assertNull(registry.getTypeConverter(MyOrder.class, Integer.class));
+        assertNotNull(registry.getTypeConverter(MyOrder.class, Long.class));
+    }
+
     private static class MyOrder {
         private int id;
 
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.CamelInternalProcessorAdvice;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CamelInternalProcessorLeanTest extends ContextTestSupport {
+
+    @Test
+    public void testLeanAdvices() throws Exception {
+        List<String> events = new ArrayList<>();
+
+        CamelInternalProcessor internal = new CamelInternalProcessor(context, e -> events.add("process"));
+        assertTrue(internal.isLean());
+        internal.addAdvice(new MyAdvice(events, "a", false));
+        internal.addAdvice(new MyAdvice(events, "b", false));
+        assertTrue(internal.isLean());
+        internal.start();
+
+        for (int i = 0; i < 3; i++) {
+            events.clear();
+            Exchange exchange = new DefaultExchange(context);
+            internal.process(exchange);
+            assertEquals(List.of("before-a", "before-b", "process", "after-b-null", "after-a-null"), events);
+        }
+
+        internal.stop();
+    }
+
+    @Test
+    public void testStatefulAdvice() throws Exception {
+        List<String> events = new ArrayList<>();
+
+        CamelInternalProcessor internal = new CamelInternalProcessor(context, e -> events.add("process"));
+        internal.addAdvice(new MyAdvice(events, "a", false));
+        internal.addAdvice(new MyAdvice(events, "b", true));
+        assertFalse(internal.isLean());
+        internal.start();
+
+        Exchange exchange = new DefaultExchange(context);
+        internal.process(exchange);
+        assertEquals(List.of("before-a", "before-b", "process", "after-b-b", "after-a-null"), events);
+
+        internal.stop();
+    }
+
+    @Test
+    public void testStatefulAdviceAddedWhenPooled() throws Exception {
+        context.getCamelContextExtension().setExchangeFactory(new PooledExchangeFactory());
+        List<String> events = new ArrayList<>();
+
+        CamelInternalProcessor internal = new CamelInternalProcessor(context, e -> events.add("process"));
+        internal.addAdvice(new MyAdvice(events, "a", false));
+        internal.start();
+
+        // the lean tasks are released to the pool
+        for (int i = 0; i < 3; i++) {
+            internal.process(new DefaultExchange(context));
+        }
+
+        // and must not be used when the advices keep state
+        internal.addAdvice(new MyAdvice(events, "b", true));
+        assertFalse(internal.isLean());
+        for (int i = 0; i < 3; i++) {
+            events.clear();
+            internal.process(new DefaultExchange(context));
+            assertEquals(List.of("before-a", "before-b", "process", "after-b-b", "after-a-null"), events);
+        }
+
+        internal.stop();
+    }
+
+    @Test
+    public void testLeanBeforeFailure() throws Exception {
+        List<String> events = new ArrayList<>();
+
+        CamelInternalProcessor internal = new CamelInternalProcessor(context, e -> events.add("process"));
+        internal.addAdvice(new MyAdvice(events, "a", false) {
+            @Override
+            public Object before(Exchange exchange) throws Exception {
+                throw new IllegalArgumentException("Forced");
+            }
+        });
+        internal.start();
+
+        for (int i = 0; i < 3; i++) {
+            events.clear();
+            Exchange exchange = new DefaultExchange(context);
+            internal.process(exchange);
+            assertTrue(events.isEmpty());
+            assertEquals("Forced", exchange.getException().getMessage());
+        }
+
+        internal.stop();
+    }
+
+    @Test
+    public void testLeanRouteConcurrent() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(200);
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBody("seda:start", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?concurrentConsumers=10")
+                        .setHeader("foo", constant("bar"))
+                        .delay(1)
+                        .to("log:lean?level=OFF")
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static class MyAdvice implements CamelInternalProcessorAdvice<Object> {
+
+        private final List<String> events;
+        private final String name;
+        private final boolean state;
+
+        MyAdvice(List<String> events, String name, boolean state) {
+            this.events = events;
+            this.name = name;
+            this.state = state;
+        }
+
+        @Override
+        public Object before(Exchange exchange) throws Exception {
+            events.add("before-" + name);
+            return state ? name : null;
+        }
+
+        @Override
+        public void after(Exchange exchange, Object data) throws Exception {
+            events.add("after-" + name + "-" + data);
+        }
+
+        @Override
+        public boolean hasState() {
+            return state;
+        }
+    }
+}
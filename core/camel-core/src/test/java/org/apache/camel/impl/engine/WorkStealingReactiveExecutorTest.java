@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private final WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        executor.setStatisticsEnabled(true);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testStealTasks() throws Exception {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch queued = new CountDownLatch(1);
+        CountDownLatch stolen = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(10);
+
+        Thread owner = new Thread(() -> executor.schedule(() -> {
+            // queue up tasks which cannot run until this task is complete
+            for (int i = 0; i < 10; i++) {
+                executor.schedule(() -> {
+                    threads.add(Thread.currentThread());
+                    if (Thread.currentThread().getName().equals("thief")) {
+                        stolen.countDown();
+                    }
+                    done.countDown();
+                });
+            }
+            queued.countDown();
+            try {
+                // block until another thread has stolen some of the tasks
+                stolen.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }), "owner");
+        owner.start();
+        assertTrue(queued.await(10, TimeUnit.SECONDS));
+
+        Thread thief = new Thread(() -> executor.schedule(() -> {
+            // noop
+        }), "thief");
+        thief.start();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        owner.join(10000);
+        thief.join(10000);
+
+        assertEquals(2, threads.size());
+        assertTrue(executor.getStolenTasks() > 0);
+        assertTrue(executor.getMaxQueueDepth() >= 10);
+        assertTrue(executor.getMaxChainLength() > 1);
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+        getMockEndpoint("mock:split").expectedMessageCount(300);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:start", "A,B,C");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?concurrentConsumers=4")
+                        .split(body().tokenize(","), new GroupedBodyAggregationStrategy())
+                            .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -23,11 +23,14 @@ import java.util.Map;
 
 import org.apache.camel.ExchangeTestSupport;
 import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
 import org.apache.camel.spi.Registry;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -322,4 +325,53 @@ public class SimpleParserPredicateTest extends ExchangeTestSupport {
         Predicate predicate = simplePredicateParser.parsePredicate();
         assertNotNull(predicate);
     }
+
+    @Test
+    public void testSimpleLiteralOperandResolvedOnce() {
+        exchange.getIn().setBody("123");
+        exchange.getIn().setHeader("pattern", "\\d+");
+        exchange.getIn().setHeader("values", "gold,123");
+        exchange.getIn().setHeader("range", "100..200");
+        exchange.getIn().setHeader("type", "String");
+
+        assertMatches(true, "${body} regex '\\d+'");
+        assertMatches(true, "${body} regex ${header.pattern}");
+        assertMatches(false, "${body} !regex '\\d+'");
+        assertMatches(true, "${body} in 'gold,123'");
+        assertMatches(true, "${body} in ${header.values}");
+        assertMatches(false, "${body} !in 'gold,123'");
+        assertMatches(true, "${body} range '100..200'");
+        assertMatches(true, "${body} range ${header.range}");
+        assertMatches(false, "${body} !range '100..200'");
+        assertMatches(true, "${body} is 'String'");
+        assertMatches(true, "${body} is ${header.type}");
+        assertMatches(false, "${body} !is 'String'");
+        assertMatches(true, "${body} is 'String' && ${body} range '100..200' || ${body} == 'foo'");
+    }
+
+    @Test
+    public void testSimpleInvalidLiteralOperandFailsWhenEvaluating() {
+        exchange.getIn().setBody("123");
+
+        SimplePredicateParser parser = new SimplePredicateParser(context, "${body} range 'abc'", true, null);
+        Predicate pre = parser.parsePredicate();
+        assertThrows(SimpleIllegalSyntaxException.class, () -> pre.matches(exchange));
+
+        parser = new SimplePredicateParser(context, "${body} is 'com.foo.Unknown'", true, null);
+        Predicate pre2 = parser.parsePredicate();
+        assertThrows(SimpleIllegalSyntaxException.class, () -> pre2.matches(exchange));
+    }
+
+    @Test
+    public void testSimplePredicateToString() {
+        SimplePredicateParser parser = new SimplePredicateParser(context, "${body} == 'foo' && ${header.bar} > 123", true, null);
+        Predicate pre = parser.parsePredicate();
+        assertEquals("${body} == 'foo' && ${header.bar} > 123", pre.toString());
+    }
+
+    private void assertMatches(boolean expected, String expression) {
+        SimplePredicateParser parser = new SimplePredicateParser(context, expression, true, null);
+        Predicate pre = parser.parsePredicate();
+        assertEquals(expected, pre.matches(exchange), expression);
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ChoiceIndexTest extends ContextTestSupport {
+
+    @Test
+    public void testIndexCreated() {
+        ChoiceProcessor choice = context.getProcessor("indexed", ChoiceProcessor.class);
+        assertNotNull(choice.getIndex());
+        assertEquals(4, choice.getIndex().size());
+        assertEquals(0, (int) choice.getIndex().get("foo"));
+        // the first branch wins for duplicate values
+        assertEquals(1, (int) choice.getIndex().get("bar"));
+
+        assertNull(context.getProcessor("mixed", ChoiceProcessor.class).getIndex());
+    }
+
+    @Test
+    public void testIndexedChoice() throws Exception {
+        getMockEndpoint("mock:foo").expectedBodiesReceived("A");
+        getMockEndpoint("mock:bar").expectedBodiesReceived("B", "C");
+        getMockEndpoint("mock:bar2").expectedMessageCount(0);
+        getMockEndpoint("mock:baz").expectedBodiesReceived("D");
+        getMockEndpoint("mock:number").expectedBodiesReceived("E", "F", "G");
+        getMockEndpoint("mock:otherwise").expectedBodiesReceived("H", "I");
+
+        template.sendBodyAndHeader("direct:start", "A", "type", "foo");
+        template.sendBodyAndHeader("direct:start", "B", "type", "bar");
+        template.sendBodyAndHeader("direct:start", "C", "TYPE", "bar");
+        template.sendBodyAndHeader("direct:start", "D", "type", "baz");
+        // numbers are compared by type coercion so they must still match
+        template.sendBodyAndHeader("direct:start", "E", "type", "123");
+        template.sendBodyAndHeader("direct:start", "F", "type", "0123");
+        template.sendBodyAndHeader("direct:start", "G", "type", 123);
+        template.sendBodyAndHeader("direct:start", "H", "type", "unknown");
+        template.sendBody("direct:start", "I");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMixedChoice() throws Exception {
+        getMockEndpoint("mock:foo").expectedBodiesReceived("A");
+        getMockEndpoint("mock:bar").expectedBodiesReceived("B");
+        getMockEndpoint("mock:otherwise").expectedBodiesReceived("C");
+
+        template.sendBodyAndHeader("direct:mixed", "A", "type", "foo");
+        template.sendBodyAndHeader("direct:mixed", "B", "type", "x");
+        template.sendBodyAndHeader("direct:mixed", "C", "type", "y");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                    .choice().id("indexed")
+                        .when(simple("${header.type} == 'foo'")).to("mock:foo")
+                        .when(simple("${in.header.type} == \"bar\"")).to("mock:bar")
+                        .when().simple("${header.type} == 'bar'").to("mock:bar2")
+                        .when(simple("${headers.type} == 'baz'")).to("mock:baz")
+                        .when(simple("${header.type} == '123'")).to("mock:number")
+                    .otherwise()
+                        .to("mock:otherwise");
+
+                from("direct:mixed")
+                    .choice().id("mixed")
+                        .when(simple("${header.type} == 'foo'")).to("mock:foo")
+                        .when(simple("${header.type} != 'y'")).to("mock:bar")
+                    .otherwise()
+                        .to("mock:otherwise");
+            }
+        };
+    }
+}
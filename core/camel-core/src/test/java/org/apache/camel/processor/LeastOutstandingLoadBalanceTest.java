@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LeastOutstandingLoadBalanceTest extends ContextTestSupport {
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").loadBalance().leastOutstanding().to("mock:x", "mock:y", "mock:z");
+
+                from("direct:slow").loadBalance().leastOutstanding().to("direct:x", "direct:y");
+                from("direct:x").delay(500).to("mock:x");
+                from("direct:y").to("mock:y");
+            }
+        };
+    }
+
+    @Test
+    public void testRoundRobinWhenIdle() throws Exception {
+        getMockEndpoint("mock:x").expectedBodiesReceived("a", "d");
+        getMockEndpoint("mock:y").expectedBodiesReceived("b", "e");
+        getMockEndpoint("mock:z").expectedBodiesReceived("c", "f");
+
+        for (String body : new String[] { "a", "b", "c", "d", "e", "f" }) {
+            template.sendBody("direct:start", body);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAvoidSlowProcessor() throws Exception {
+        MockEndpoint x = getMockEndpoint("mock:x");
+        MockEndpoint y = getMockEndpoint("mock:y");
+        x.expectedMinimumMessageCount(1);
+        y.expectedMinimumMessageCount(15);
+
+        // the slow processor keeps its messages in-flight, so the fast processor gets the rest
+        template.asyncSendBody("direct:slow", "first");
+        for (int i = 0; i < 19; i++) {
+            Thread.sleep(10);
+            template.asyncSendBody("direct:slow", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertTrue(x.getReceivedCounter() < 5,
+                "Slow processor should receive few messages, was: " + x.getReceivedCounter());
+    }
+}
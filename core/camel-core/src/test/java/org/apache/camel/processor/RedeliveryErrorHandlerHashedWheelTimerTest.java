@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.HashedWheelScheduledExecutorService;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RedeliveryErrorHandlerHashedWheelTimerTest extends ContextTestSupport {
+
+    private final LongAdder attempt = new LongAdder();
+    private final HashedWheelScheduledExecutorService timer = new HashedWheelScheduledExecutorService();
+
+    @Override
+    protected Registry createCamelRegistry() throws Exception {
+        Registry registry = super.createCamelRegistry();
+        registry.bind("myTimer", timer);
+        return registry;
+    }
+
+    @Test
+    public void testRedelivery() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceived("Hello World");
+
+        template.sendBody("seda:start", "World");
+
+        // the redelivery is pending in the timer
+        await().atMost(5, TimeUnit.SECONDS).until(() -> timer.getPendingTaskCount("foo") == 1);
+        assertEquals(1, timer.getPendingTaskCount());
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(3, attempt.intValue());
+        assertEquals(0, timer.getPendingTaskCount("foo"));
+        // the timer is managed by CamelContext
+        assertTrue(context.hasService(timer));
+        assertTrue(timer.isStarted());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                errorHandler(defaultErrorHandler().maximumRedeliveries(5).redeliveryDelay(200).asyncDelayedRedelivery()
+                        .executorServiceRef("myTimer"));
+
+                from("seda:start").routeId("foo")
+                        .process(exchange -> {
+                            attempt.increment();
+                            if (attempt.intValue() <= 2) {
+                                throw new IllegalArgumentException("Damn");
+                            }
+                            exchange.getIn().setBody("Hello " + exchange.getIn().getBody(String.class));
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.SplitDefinition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterStreamingParallelWindowTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+    private static final int WINDOW = 5;
+
+    private final AtomicInteger read = new AtomicInteger();
+    private final AtomicInteger maxPending = new AtomicInteger();
+    private final List<Integer> aggregated = new ArrayList<>();
+
+    @Test
+    public void testWindow() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(SIZE);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", new CountingIterator());
+
+        assertMockEndpointsSatisfied();
+
+        // the window bounds how many split messages are in flight or waiting to be aggregated
+        assertTrue(maxPending.get() <= WINDOW, "Should not exceed window, was " + maxPending.get());
+        // and the split messages are aggregated in the same order as they were split
+        assertEquals(SIZE, aggregated.size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i, (int) aggregated.get(i));
+        }
+    }
+
+    @Test
+    public void testWindowRequiresParallelProcessing() throws Exception {
+        Exception e = assertThrows(Exception.class, () -> context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:bad").split(body()).streaming().windowSize(10).to("mock:bad");
+            }
+        }));
+        assertTrue(e.getMessage().contains("WindowSize is used but ParallelProcessing has not been enabled"), e.getMessage());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                SplitDefinition split = from("direct:start")
+                        .split(body(), new OrderAggregationStrategy()).streaming().parallelProcessing().windowSize(WINDOW);
+                split.process(e -> Thread.sleep(ThreadLocalRandom.current().nextInt(5)))
+                        .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private class CountingIterator implements Iterator<Integer> {
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < SIZE;
+        }
+
+        @Override
+        public Integer next() {
+            int pending;
+            synchronized (aggregated) {
+                pending = read.incrementAndGet() - aggregated.size();
+            }
+            maxPending.accumulateAndGet(pending, Math::max);
+            return index++;
+        }
+    }
+
+    private class OrderAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            synchronized (aggregated) {
+                aggregated.add(newExchange.getIn().getBody(Integer.class));
+            }
+            return newExchange;
+        }
+    }
+}
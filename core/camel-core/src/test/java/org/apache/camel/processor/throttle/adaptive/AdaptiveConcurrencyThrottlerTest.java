@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.adaptive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.AdaptiveConcurrencyThrottler;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Isolated
+public class AdaptiveConcurrencyThrottlerTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Test
+    public void testRejectAboveLimit() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        AdaptiveConcurrencyThrottler throttler = context.getProcessor("reject", AdaptiveConcurrencyThrottler.class);
+
+        List<Future<Object>> replies = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            replies.add(template.asyncRequestBody("direct:reject", "Message " + i));
+        }
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(2, throttler.getInflightRequests()));
+
+        Exchange out = template.send("direct:reject", e -> e.getMessage().setBody("Message 3"));
+        assertTrue(out.getException() instanceof ThrottlerRejectedExecutionException);
+        assertEquals(1, throttler.getRejectedCount());
+        assertEquals(2, throttler.getCurrentMaximumRequests());
+
+        latch.countDown();
+        for (Future<Object> reply : replies) {
+            reply.get(5, TimeUnit.SECONDS);
+        }
+        assertMockEndpointsSatisfied();
+        assertEquals(0, throttler.getInflightRequests());
+    }
+
+    @Test
+    public void testDecreaseOnFailure() throws Exception {
+        AdaptiveConcurrencyThrottler throttler = context.getProcessor("failure", AdaptiveConcurrencyThrottler.class);
+
+        for (int i = 0; i < 6; i++) {
+            Exchange out = template.send("direct:failure", e -> e.getMessage().setBody("Kaboom"));
+            assertTrue(out.isFailed());
+        }
+
+        // each failure decreases the limit
+        assertEquals(4, throttler.getCurrentMaximumRequests());
+        assertEquals(10, throttler.getMaximumLimit());
+        assertEquals(0, throttler.getInflightRequests());
+    }
+
+    @Test
+    public void testIncreaseWhenNotQueuing() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(400);
+
+        AdaptiveConcurrencyThrottler throttler = context.getProcessor("increase", AdaptiveConcurrencyThrottler.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(40);
+        try {
+            for (int i = 0; i < 400; i++) {
+                executor.submit(() -> template.sendBody("direct:increase", "Hello World"));
+            }
+            assertMockEndpointsSatisfied();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the round-trip time does not increase with the load, so the limit should be raised
+        int limit = throttler.getCurrentMaximumRequests();
+        assertTrue(limit > 20, "Limit should be increased, was: " + limit);
+        assertTrue(limit <= 100, "Limit should not exceed the maximum, was: " + limit);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:reject").throttle(2).adaptiveConcurrencyMode().rejectExecution(true).id("reject")
+                        .process(e -> latch.await(10, TimeUnit.SECONDS)).to("mock:result");
+
+                from("direct:failure").throttle(10).adaptiveConcurrencyMode().id("failure")
+                        .delay(10).throwException(new IllegalArgumentException("Forced"));
+
+                from("direct:increase").throttle(100).adaptiveConcurrencyMode().id("increase")
+                        .delay(50).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.tokenbucket;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.apache.camel.processor.TokenBucketThrottler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Isolated
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+
+    @Test
+    public void testBurstThenThrottle() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(6);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:a", "Message " + i);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertMockEndpointsSatisfied();
+        // the first 3 messages are a burst, and then there is one message every 1000 / 3 millis
+        assertTrue(elapsed >= 900, "Should take at least 900ms, was: " + elapsed);
+    }
+
+    @Test
+    public void testRejectPerKey() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(4);
+
+        for (int i = 0; i < 3; i++) {
+            template.sendBodyAndHeader("direct:b", "Message " + i, "tenant", "foo");
+        }
+        Exchange out = template.send("direct:b", e -> e.getMessage().setHeader("tenant", "foo"));
+        assertTrue(out.getException() instanceof ThrottlerRejectedExecutionException);
+
+        // other tenants have their own bucket
+        template.sendBodyAndHeader("direct:b", "Bye World", "tenant", "bar");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAsyncDelayed() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("direct:c", "Message " + i, "tenant", i % 2);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testEvictIdleBuckets() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBodyAndHeader("direct:d", "Message " + i, "tenant", "tenant-" + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        TokenBucketThrottler throttler = context.getProcessor("throttler", TokenBucketThrottler.class);
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, throttler.getBucketCount()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:a").throttle(3).tokenBucketMode().timePeriodMillis(1000).to("mock:result");
+
+                from("direct:b").throttle(3).tokenBucketMode().timePeriodMillis(10000).rejectExecution(true)
+                        .correlationExpression(header("tenant")).to("mock:result");
+
+                from("direct:c").throttle(2).tokenBucketMode().timePeriodMillis(100).asyncDelayed()
+                        .correlationExpression(header("tenant")).to("mock:result");
+
+                from("direct:d").throttle(5).tokenBucketMode().timePeriodMillis(20)
+                        .correlationExpression(header("tenant")).id("throttler").to("mock:result");
+            }
+        };
+    }
+}
@@ -88,6 +88,24 @@ public class DefaultTimeoutMapTest {
         assertEquals(0, map.size());
     }
 
+    @Test
+    public void testDefaultTimeoutMapContainsKeyDoesNotRefresh() throws Exception {
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
+        // map.start(); // Do not start background purge
+
+        map.put("A", 123, 100);
+        assertTrue(map.containsKey("A"));
+        assertFalse(map.containsKey("B"));
+
+        Thread.sleep(60);
+        assertTrue(map.containsKey("A"));
+        Thread.sleep(60);
+
+        // the entry has expired as containsKey did not update its expire time
+        map.purge();
+        assertFalse(map.containsKey("A"));
+    }
+
     @Test
     public void testDefaultTimeoutMapGetRemove() {
         DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
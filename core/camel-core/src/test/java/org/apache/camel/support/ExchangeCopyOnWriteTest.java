@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that copies of exchanges and messages share the headers, properties and variables until changed.
+ */
+public class ExchangeCopyOnWriteTest extends ContextTestSupport {
+
+    @Test
+    public void testHeaders() {
+        Exchange parent = new DefaultExchange(context);
+        parent.getMessage().setHeader("foo", "123");
+        parent.getMessage().setHeader("bar", "456");
+
+        Exchange copy = parent.copy();
+        Exchange copy2 = parent.copy();
+        assertEquals("123", copy.getMessage().getHeader("foo"));
+
+        copy.getMessage().setHeader("foo", "changed");
+        copy.getMessage().removeHeader("bar");
+        assertEquals("changed", copy.getMessage().getHeader("foo"));
+        assertNull(copy.getMessage().getHeader("bar"));
+        assertEquals("123", parent.getMessage().getHeader("foo"));
+        assertEquals("456", parent.getMessage().getHeader("bar"));
+        assertEquals("456", copy2.getMessage().getHeader("bar"));
+
+        parent.getMessage().setHeader("baz", "789");
+        assertNull(copy2.getMessage().getHeader("baz"));
+
+        // changing via the map is also copy-on-write
+        copy2.getMessage().getHeaders().put("foo", "map");
+        assertEquals("map", copy2.getMessage().getHeader("foo"));
+        assertEquals("123", parent.getMessage().getHeader("foo"));
+
+        Exchange copy3 = parent.copy();
+        copy3.getMessage().removeHeaders("*");
+        assertFalse(copy3.getMessage().hasHeaders());
+        assertEquals(3, parent.getMessage().getHeaders().size());
+
+        Exchange copy4 = parent.copy();
+        copy4.getMessage().reset();
+        assertEquals(3, parent.getMessage().getHeaders().size());
+    }
+
+    @Test
+    public void testProperties() {
+        Exchange parent = new DefaultExchange(context);
+        parent.setProperty("foo", "123");
+        parent.setProperty("bar", "456");
+
+        AbstractExchange copy = (AbstractExchange) parent.copy();
+        AbstractExchange copy2 = (AbstractExchange) parent.copy();
+        assertSame(copy.properties, copy2.properties);
+        assertEquals("123", copy.getProperty("foo"));
+
+        copy.setProperty("foo", "changed");
+        assertNotSame(copy.properties, copy2.properties);
+        assertEquals("changed", copy.getProperty("foo"));
+        assertEquals("123", parent.getProperty("foo"));
+        assertEquals("123", copy2.getProperty("foo"));
+
+        parent.removeProperty("bar");
+        assertEquals("456", copy2.getProperty("bar"));
+
+        copy2.getProperties().put("baz", "789");
+        assertNull(parent.getProperty("baz"));
+
+        Exchange copy3 = parent.copy();
+        copy3.removeProperties("*");
+        assertFalse(copy3.hasProperties());
+        assertEquals("123", parent.getProperty("foo"));
+    }
+
+    @Test
+    public void testVariables() {
+        Exchange parent = new DefaultExchange(context);
+        parent.setVariable("foo", "123");
+
+        Exchange copy = parent.copy();
+        Exchange copy2 = parent.copy();
+        assertEquals("123", copy.getVariable("foo"));
+
+        copy.setVariable("foo", "changed");
+        assertEquals("changed", copy.getVariable("foo"));
+        assertEquals("123", parent.getVariable("foo"));
+        assertEquals("123", copy2.getVariable("foo"));
+
+        parent.setVariable("bar", "456");
+        assertNull(copy2.getVariable("bar"));
+
+        Map<String, Object> variables = copy2.getVariables();
+        variables.put("baz", "789");
+        assertNull(parent.getVariable("baz"));
+
+        Exchange copy3 = parent.copy();
+        copy3.removeVariable("*");
+        assertFalse(copy3.hasVariables());
+        assertTrue(parent.hasVariables());
+    }
+
+    @Test
+    public void testReadingDoesNotCopy() {
+        Exchange parent = new DefaultExchange(context);
+        parent.setProperty("foo", "123");
+        parent.getMessage().setHeader("foo", "123");
+
+        AbstractExchange copy = (AbstractExchange) parent.copy();
+        AbstractExchange copy2 = (AbstractExchange) parent.copy();
+
+        assertEquals("123", copy.getProperty("foo"));
+        assertEquals("123", copy.getMessage().getHeader("FOO"));
+        assertTrue(copy.getMessage().hasHeaders());
+        assertNull(copy.removeProperty("unknown"));
+        assertNull(copy.getMessage().removeHeader("unknown"));
+        assertSame(copy.properties, copy2.properties);
+
+        // the maps handed out are private to the exchange, and of the configured type
+        Map<String, Object> headers = copy.getMessage().getHeaders();
+        assertInstanceOf(CaseInsensitiveMap.class, headers);
+        headers.put("bar", "456");
+        copy.getProperties().put("bar", "456");
+        assertNotSame(copy.properties, copy2.properties);
+        assertNull(parent.getProperty("bar"));
+        assertNull(parent.getMessage().getHeader("bar"));
+        assertNull(copy2.getMessage().getHeader("bar"));
+    }
+
+    @Test
+    public void testMapsHandedOutBeforeCopyAreNotShared() {
+        Exchange parent = new DefaultExchange(context);
+        parent.setProperty("foo", "123");
+        parent.setVariable("foo", "123");
+        parent.getMessage().setHeader("foo", "123");
+
+        Map<String, Object> properties = parent.getProperties();
+        Map<String, Object> variables = parent.getVariables();
+        Map<String, Object> headers = parent.getMessage().getHeaders();
+
+        Exchange copy = parent.copy();
+
+        // the maps can still be changed by the caller, which must not affect the copy
+        properties.put("foo", "changed");
+        variables.put("foo", "changed");
+        headers.put("foo", "changed");
+        assertEquals("123", copy.getProperty("foo"));
+        assertEquals("123", copy.getVariable("foo"));
+        assertEquals("123", copy.getMessage().getHeader("foo"));
+        assertEquals("changed", parent.getProperty("foo"));
+        assertEquals("changed", parent.getVariable("foo"));
+        assertEquals("changed", parent.getMessage().getHeader("foo"));
+    }
+
+    @Test
+    public void testPooledExchangeDone() {
+        DefaultPooledExchange parent = new DefaultPooledExchange(context);
+        parent.setProperty("foo", "123");
+        parent.getMessage().setHeader("foo", "123");
+
+        Exchange copy = parent.copy();
+        parent.done();
+
+        assertEquals("123", copy.getProperty("foo"));
+        assertEquals("123", copy.getMessage().getHeader("foo"));
+    }
+}
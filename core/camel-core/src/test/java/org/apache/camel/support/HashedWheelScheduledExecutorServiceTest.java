@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HashedWheelScheduledExecutorServiceTest {
+
+    private ExecutorService pool;
+    private HashedWheelScheduledExecutorService timer;
+
+    @BeforeEach
+    public void setUp() {
+        pool = Executors.newFixedThreadPool(2);
+        // use a small wheel so tasks are delayed for several rounds of the wheel
+        timer = new HashedWheelScheduledExecutorService(pool, 5, 8);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        timer.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        ScheduledFuture<String> future = timer.schedule(() -> {
+            latch.countDown();
+            return "Bye";
+        }, 200, TimeUnit.MILLISECONDS);
+
+        assertEquals(1, timer.getPendingTaskCount());
+        assertEquals("Bye", future.get(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200, "Should be delayed");
+        assertEquals(0, timer.getPendingTaskCount());
+    }
+
+    @Test
+    public void testPendingPerGroup() {
+        AtomicInteger counter = new AtomicInteger();
+        timer.schedule(counter::incrementAndGet, 100, TimeUnit.MILLISECONDS, "foo");
+        timer.schedule(counter::incrementAndGet, 100, TimeUnit.MILLISECONDS, "foo");
+        timer.schedule(counter::incrementAndGet, 100, TimeUnit.MILLISECONDS, "bar");
+
+        assertEquals(3, timer.getPendingTaskCount());
+        assertEquals(2, timer.getPendingTaskCount("foo"));
+        assertEquals(1, timer.getPendingTaskCount("bar"));
+        assertEquals(2, timer.getPendingTaskCounts().get("foo").intValue());
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> counter.get() == 3);
+        assertEquals(0, timer.getPendingTaskCount("foo"));
+        assertTrue(timer.getPendingTaskCounts().isEmpty());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> future = timer.schedule(counter::incrementAndGet, 100, TimeUnit.MILLISECONDS, "foo");
+        timer.schedule(counter::incrementAndGet, 100, TimeUnit.MILLISECONDS, "foo");
+
+        assertTrue(future.cancel(false));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> counter.get() == 1);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> timer.getPendingTaskCount("foo") == 0);
+        Thread.sleep(100);
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void testFixedRate() {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> future = timer.scheduleAtFixedRate(counter::incrementAndGet, 10, 20, TimeUnit.MILLISECONDS);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> counter.get() >= 5);
+        future.cancel(false);
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void testShutdownNow() {
+        timer.schedule(() -> {
+        }, 1, TimeUnit.HOURS);
+        timer.schedule(() -> {
+        }, 2, TimeUnit.HOURS);
+
+        List<Runnable> pending = timer.shutdownNow();
+        assertEquals(2, pending.size());
+        assertTrue(timer.isShutdown());
+        assertEquals(0, timer.getPendingTaskCount());
+
+        assertThrows(RejectedExecutionException.class, () -> timer.schedule(() -> {
+        }, 1, TimeUnit.SECONDS));
+        assertFalse(timer.isStarted());
+    }
+}
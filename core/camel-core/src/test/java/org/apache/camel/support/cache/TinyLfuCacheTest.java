@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for {@link TinyLfuCache}.
+ */
+class TinyLfuCacheTest {
+
+    private final List<String> consumed = new ArrayList<>();
+
+    @Test
+    void putGetRemove() {
+        TinyLfuCache<String, String> map = new TinyLfuCache<>(3, consumed::add);
+
+        assertNull(map.put("1", "One"));
+        assertEquals("One", map.put("1", "Uno"));
+        assertEquals("Uno", map.putIfAbsent("1", "One"));
+        assertEquals("Uno", map.get("1"));
+        assertNull(map.get("2"));
+        assertEquals("Two", map.computeIfAbsent("2", k -> "Two"));
+        assertTrue(map.replace("2", "Two", "Dos"));
+        assertFalse(map.remove("2", "Two"));
+        assertTrue(map.remove("2", "Dos"));
+        assertNull(map.remove("2"));
+        assertEquals(1, map.size());
+        assertThrows(NullPointerException.class, () -> map.put("3", null));
+
+        assertEquals(3, map.getHits());
+        assertEquals(3, map.getMisses());
+        map.resetStatistics();
+        assertEquals(0, map.getHits());
+        assertEquals(0, map.getMisses());
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertTrue(consumed.isEmpty());
+    }
+
+    @Test
+    void evictWhenFull() {
+        TinyLfuCache<String, String> map = new TinyLfuCache<>(3, consumed::add);
+
+        for (int i = 0; i < 10; i++) {
+            map.put("key-" + i, "value-" + i);
+        }
+        map.cleanUp();
+
+        assertEquals(3, map.size());
+        assertEquals(7, consumed.size());
+        assertEquals(7, map.getEvicted());
+        for (String value : consumed) {
+            assertFalse(map.containsValue(value));
+        }
+    }
+
+    @Test
+    void keepFrequentlyUsedEntries() {
+        TinyLfuCache<String, String> map = new TinyLfuCache<>(100, consumed::add);
+
+        // the hot keys are used many times
+        for (int n = 0; n < 10; n++) {
+            for (int i = 0; i < 50; i++) {
+                map.computeIfAbsent("hot-" + i, k -> "hot");
+            }
+            map.cleanUp();
+        }
+
+        // and then there are many keys which are only used once
+        for (int i = 0; i < 10000; i++) {
+            map.put("cold-" + i, "cold");
+            if (i % 100 == 0) {
+                for (int j = 0; j < 50; j++) {
+                    map.get("hot-" + j);
+                }
+            }
+        }
+        map.cleanUp();
+
+        assertEquals(100, map.size());
+        int hot = 0;
+        for (int i = 0; i < 50; i++) {
+            if (map.containsKey("hot-" + i)) {
+                hot++;
+            }
+        }
+        assertTrue(hot >= 45, "Should keep the hot keys, but kept: " + hot);
+    }
+
+    @Test
+    void evictAsynchronously() {
+        List<Runnable> tasks = new ArrayList<>();
+        TinyLfuCache<String, String> map = new TinyLfuCache<>(16, 2, consumed::add, tasks::add);
+
+        map.put("1", "One");
+        map.put("2", "Two");
+        map.put("3", "Three");
+
+        assertEquals(2, map.size());
+        assertEquals(1, tasks.size());
+        assertTrue(consumed.isEmpty());
+
+        tasks.forEach(Runnable::run);
+        assertEquals(1, consumed.size());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentRepositoryTest extends TestSupport {
+
+    private File fileStore;
+    private BloomFilterIdempotentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        fileStore = testDirectory().resolve("store").toFile();
+        repository = new BloomFilterIdempotentRepository(fileStore);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        repository.start();
+
+        assertTrue(repository.add("foo"));
+        assertFalse(repository.add("foo"));
+        assertTrue(repository.contains("foo"));
+        assertFalse(repository.contains("bar"));
+
+        assertTrue(repository.remove("foo"));
+        assertFalse(repository.remove("foo"));
+        assertFalse(repository.contains("foo"));
+        assertTrue(repository.add("foo"));
+        assertEquals(1, repository.getSize());
+    }
+
+    @Test
+    public void testLoadStore() {
+        repository.start();
+        repository.add("foo");
+        repository.add("bar");
+        repository.add("baz");
+        repository.remove("bar");
+        repository.stop();
+
+        repository = new BloomFilterIdempotentRepository(fileStore);
+        repository.start();
+
+        assertEquals(2, repository.getSize());
+        assertTrue(repository.contains("foo"));
+        assertFalse(repository.contains("bar"));
+        assertTrue(repository.contains("baz"));
+    }
+
+    @Test
+    public void testGrowBeyondCapacity() {
+        repository.setBloomFilterCapacity(100);
+        repository.start();
+
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(repository.add("key-" + i));
+        }
+        assertEquals(10000, repository.getSize());
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(repository.contains("key-" + i));
+            assertFalse(repository.contains("other-" + i));
+        }
+        // the bloom filter rules out most of the keys which are not in the store
+        assertTrue(repository.getFalsePositiveCounter() < 500, "Too many false positives");
+        // the index files which have been resized are deleted
+        assertEquals(1, indexFiles().length);
+
+        repository.stop();
+        assertEquals(0, indexFiles().length);
+    }
+
+    @Test
+    public void testCompaction() {
+        repository.setMaxSegmentSize(1024);
+        repository.start();
+
+        for (int i = 0; i < 1000; i++) {
+            repository.add("key-" + i);
+        }
+        int segments = repository.getSegmentCount();
+        assertTrue(segments > 10, "Should roll segments");
+
+        // remove all but every 10th key
+        for (int i = 0; i < 1000; i++) {
+            if (i % 10 != 0) {
+                repository.remove("key-" + i);
+            }
+        }
+        assertTrue(repository.getSegmentCount() < segments, "Should compact segments");
+        assertEquals(100, repository.getSize());
+
+        repository.stop();
+        repository = new BloomFilterIdempotentRepository(fileStore);
+        repository.start();
+
+        assertEquals(100, repository.getSize());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 10 == 0, repository.contains("key-" + i));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        repository.start();
+        repository.add("foo");
+        repository.add("bar");
+
+        repository.clear();
+
+        assertEquals(0, repository.getSize());
+        assertEquals(1, indexFiles().length);
+        assertFalse(repository.contains("foo"));
+        assertTrue(repository.add("foo"));
+    }
+
+    private File[] indexFiles() {
+        return fileStore.listFiles((dir, name) -> name.endsWith(".idx"));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactCaseInsensitiveMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertNull(map.get("unknown"));
+    }
+
+    @Test
+    public void testSetWithDifferentCase() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("Foo", "bar");
+
+        assertEquals(1, map.size());
+        assertEquals("bar", map.get("FOO"));
+        // the original key case is preserved
+        assertEquals("foo", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testRemoveWithDifferentCase() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+
+        assertEquals("cheese", map.remove("FOO"));
+        assertNull(map.remove("FOO"));
+        assertEquals(1, map.size());
+        assertNull(map.get("foo"));
+        assertEquals("beer", map.get("Bar"));
+    }
+
+    @Test
+    public void testManyHeaders() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        for (int i = 0; i < 100; i++) {
+            map.put("header" + i, i);
+        }
+        assertEquals(100, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, map.get("HEADER" + i));
+        }
+
+        // remove every other and add new to force compacting
+        for (int i = 0; i < 100; i += 2) {
+            map.remove("Header" + i);
+        }
+        for (int i = 100; i < 150; i++) {
+            map.put("header" + i, i);
+        }
+        assertEquals(100, map.size());
+        for (int i = 0; i < 150; i++) {
+            if (i < 100 && i % 2 == 0) {
+                assertNull(map.get("header" + i));
+            } else {
+                assertEquals(i, map.get("header" + i));
+            }
+        }
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("zebra", 1);
+        map.put("Apple", 2);
+        map.put("mango", 3);
+        map.remove("APPLE");
+        map.put("banana", 4);
+
+        List<String> keys = new ArrayList<>(map.keySet());
+        assertEquals(List.of("zebra", "mango", "banana"), keys);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+        map.put("baz", "wine");
+
+        Iterator<String> it = map.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().startsWith("ba")) {
+                it.remove();
+            }
+        }
+        assertEquals(1, map.size());
+        assertEquals("cheese", map.get("FOO"));
+
+        map.keySet().removeIf(k -> k.equals("foo"));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+
+        Map<String, Object> copy = new CompactCaseInsensitiveMap(map);
+        Map<String, Object> copy2 = new CompactCaseInsensitiveMap();
+        copy2.putAll(map);
+
+        copy.put("FOO", "changed");
+        copy.put("baz", "wine");
+        copy2.remove("bar");
+
+        assertEquals(2, map.size());
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("beer", map.get("bar"));
+        assertNull(map.get("baz"));
+
+        assertEquals(3, copy.size());
+        assertEquals("changed", copy.get("foo"));
+        assertEquals("beer", copy.get("bar"));
+
+        assertEquals(1, copy2.size());
+        assertEquals("cheese", copy2.get("foo"));
+
+        map.put("foo", "original");
+        assertEquals("changed", copy.get("foo"));
+        assertEquals("cheese", copy2.get("foo"));
+
+        // entry set value changes are also copy-on-write
+        Map<String, Object> copy3 = new CompactCaseInsensitiveMap(map);
+        copy3.entrySet().iterator().next().setValue("entry");
+        assertEquals("entry", copy3.get("foo"));
+        assertEquals("original", map.get("foo"));
+    }
+
+    @Test
+    public void testKnownKeys() {
+        CompactCaseInsensitiveMap.registerKnownKeys(Exchange.class);
+
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        map.put(Exchange.HTTP_METHOD, "GET");
+
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals("GET", map.get("CAMELHTTPMETHOD"));
+        assertEquals(CompactCaseInsensitiveMap.caseInsensitiveHash("camelFileName"),
+                CompactCaseInsensitiveMap.caseInsensitiveHash(Exchange.FILE_NAME));
+    }
+
+    @Test
+    public void testEquals() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> other = new HashMap<>();
+        other.put("foo", "cheese");
+        other.put("bar", 123);
+
+        assertEquals(other, map);
+        assertEquals(map, other);
+        assertEquals(other.hashCode(), map.hashCode());
+    }
+}
@@ -146,6 +146,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageHistory": target.setMessageHistory(property(camelContext, boolean.class, value)); return true;
         case "modeline": target.setModeline(property(camelContext, boolean.class, value)); return true;
         case "name": target.setName(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelroutestartup":
+        case "parallelRouteStartup": target.setParallelRouteStartup(property(camelContext, boolean.class, value)); return true;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
@@ -221,6 +223,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": target.setStreamCachingSpoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspoolmode":
+        case "streamCachingSpoolMode": target.setStreamCachingSpoolMode(property(camelContext, java.lang.String.class, value)); return true;
+        case "streamcachingspooloffheappoolsize":
+        case "streamCachingSpoolOffHeapPoolSize": target.setStreamCachingSpoolOffHeapPoolSize(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -240,6 +246,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "tracingStandby": target.setTracingStandby(property(camelContext, boolean.class, value)); return true;
         case "tracingtemplates":
         case "tracingTemplates": target.setTracingTemplates(property(camelContext, boolean.class, value)); return true;
+        case "typeconvertermaxcachedmisses":
+        case "typeConverterMaxCachedMisses": target.setTypeConverterMaxCachedMisses(property(camelContext, int.class, value)); return true;
         case "typeconverterstatisticsenabled":
         case "typeConverterStatisticsEnabled": target.setTypeConverterStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
         case "usebreadcrumb":
@@ -380,6 +388,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageHistory": return boolean.class;
         case "modeline": return boolean.class;
         case "name": return java.lang.String.class;
+        case "parallelroutestartup":
+        case "parallelRouteStartup": return boolean.class;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
@@ -455,6 +465,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return boolean.class;
+        case "streamcachingspoolmode":
+        case "streamCachingSpoolMode": return java.lang.String.class;
+        case "streamcachingspooloffheappoolsize":
+        case "streamCachingSpoolOffHeapPoolSize": return long.class;
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": return long.class;
         case "streamcachingspoolusedheapmemorylimit":
@@ -474,6 +488,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "tracingStandby": return boolean.class;
         case "tracingtemplates":
         case "tracingTemplates": return boolean.class;
+        case "typeconvertermaxcachedmisses":
+        case "typeConverterMaxCachedMisses": return int.class;
         case "typeconverterstatisticsenabled":
         case "typeConverterStatisticsEnabled": return boolean.class;
         case "usebreadcrumb":
@@ -615,6 +631,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageHistory": return target.isMessageHistory();
         case "modeline": return target.isModeline();
         case "name": return target.getName();
+        case "parallelroutestartup":
+        case "parallelRouteStartup": return target.isParallelRouteStartup();
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
@@ -690,6 +708,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return target.isStreamCachingSpoolEnabled();
+        case "streamcachingspoolmode":
+        case "streamCachingSpoolMode": return target.getStreamCachingSpoolMode();
+        case "streamcachingspooloffheappoolsize":
+        case "streamCachingSpoolOffHeapPoolSize": return target.getStreamCachingSpoolOffHeapPoolSize();
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
@@ -709,6 +731,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "tracingStandby": return target.isTracingStandby();
         case "tracingtemplates":
         case "tracingTemplates": return target.isTracingTemplates();
+        case "typeconvertermaxcachedmisses":
+        case "typeConverterMaxCachedMisses": return target.getTypeConverterMaxCachedMisses();
         case "typeconverterstatisticsenabled":
         case "typeConverterStatisticsEnabled": return target.isTypeConverterStatisticsEnabled();
         case "usebreadcrumb":
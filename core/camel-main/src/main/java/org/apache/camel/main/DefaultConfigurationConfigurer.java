@@ -35,6 +35,7 @@ import org.apache.camel.console.DevConsole;
 import org.apache.camel.console.DevConsoleRegistry;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
 import org.apache.camel.impl.debugger.BacklogTracer;
 import org.apache.camel.impl.engine.DefaultCompileStrategy;
 import org.apache.camel.impl.engine.PooledExchangeFactory;
@@ -210,6 +211,12 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        if (config.getStreamCachingSpoolMode() != null) {
+            camelContext.getStreamCachingStrategy().setSpoolMode(
+                    camelContext.getTypeConverter().convertTo(StreamCachingStrategy.SpoolMode.class,
+                            config.getStreamCachingSpoolMode()));
+        }
+        camelContext.getStreamCachingStrategy().setSpoolOffHeapPoolSize(config.getStreamCachingSpoolOffHeapPoolSize());
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
@@ -260,9 +267,13 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setMDCLoggingKeysPattern(config.getMdcLoggingKeysPattern());
         camelContext.setLoadTypeConverters(config.isLoadTypeConverters());
         camelContext.setTypeConverterStatisticsEnabled(config.isTypeConverterStatisticsEnabled());
+        if (camelContext.getTypeConverterRegistry() instanceof CoreTypeConverterRegistry registry) {
+            registry.setMaxCachedMisses(config.getTypeConverterMaxCachedMisses());
+        }
         camelContext.setLoadHealthChecks(config.isLoadHealthChecks());
         camelContext.setDevConsole(config.isDevConsoleEnabled());
         camelContext.setModeline(config.isModeline());
+        camelContext.setParallelRouteStartup(config.isParallelRouteStartup());
         if (config.isRoutesReloadEnabled()) {
             RouteWatcherReloadStrategy reloader = new RouteWatcherReloadStrategy(
                     config.getRoutesReloadDirectory(), config.isRoutesReloadDirectoryRecursive());
@@ -57,11 +57,16 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean loadHealthChecks;
     private boolean devConsoleEnabled;
     private boolean modeline;
+    private boolean parallelRouteStartup;
     private int logDebugMaxChars;
     private boolean streamCachingEnabled = true;
     private String streamCachingAllowClasses;
     private String streamCachingDenyClasses;
     private boolean streamCachingSpoolEnabled;
+    @Metadata(defaultValue = "File", enums = "File,MemoryMapped,OffHeap")
+    private String streamCachingSpoolMode = "File";
+    @Metadata(defaultValue = "67108864")
+    private long streamCachingSpoolOffHeapPoolSize = 64 * 1024 * 1024;
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
     private long streamCachingSpoolThreshold;
@@ -72,6 +77,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
     private boolean typeConverterStatisticsEnabled;
+    @Metadata(defaultValue = "10000")
+    private int typeConverterMaxCachedMisses = 10000;
     private boolean tracing;
     private boolean tracingStandby;
     private boolean tracingTemplates;
@@ -423,6 +430,22 @@ public abstract class DefaultConfigurationProperties<T> {
         this.modeline = modeline;
     }
 
+    public boolean isParallelRouteStartup() {
+        return parallelRouteStartup;
+    }
+
+    /**
+     * Whether to warm up the routes in parallel when starting CamelContext, which can reduce the startup time when
+     * there are many routes.
+     *
+     * The routes are warmed up (starting their endpoints, producers and processors) concurrently while respecting the
+     * startup order of the routes, and routes which send to the endpoint of another route (such as direct and seda) are
+     * warmed up after the other route. The route consumers are still started one by one in the startup order.
+     */
+    public void setParallelRouteStartup(boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
     public int getLogDebugMaxChars() {
         return logDebugMaxChars;
     }
@@ -512,6 +535,35 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolDirectory = streamCachingSpoolDirectory;
     }
 
+    public String getStreamCachingSpoolMode() {
+        return streamCachingSpoolMode;
+    }
+
+    /**
+     * Sets where the stream caches are spooled when the spool rules determine to spool. File spools to a temporary
+     * file. MemoryMapped spools to a temporary file which is memory mapped when read. OffHeap spools to off-heap memory
+     * from a bounded pool (see streamCachingSpoolOffHeapPoolSize), and to a temporary file when the pool is full.
+     *
+     * The default mode is File.
+     */
+    public void setStreamCachingSpoolMode(String streamCachingSpoolMode) {
+        this.streamCachingSpoolMode = streamCachingSpoolMode;
+    }
+
+    public long getStreamCachingSpoolOffHeapPoolSize() {
+        return streamCachingSpoolOffHeapPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory which can be used for stream caching spooling, when using
+     * OffHeap spool mode.
+     *
+     * The default size is 64mb.
+     */
+    public void setStreamCachingSpoolOffHeapPoolSize(long streamCachingSpoolOffHeapPoolSize) {
+        this.streamCachingSpoolOffHeapPoolSize = streamCachingSpoolOffHeapPoolSize;
+    }
+
     public String getStreamCachingSpoolCipher() {
         return streamCachingSpoolCipher;
     }
@@ -622,6 +674,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.typeConverterStatisticsEnabled = typeConverterStatisticsEnabled;
     }
 
+    public int getTypeConverterMaxCachedMisses() {
+        return typeConverterMaxCachedMisses;
+    }
+
+    /**
+     * Sets the maximum number of conversions that could not be converted, which are cached as misses to avoid looking
+     * for a suitable type converter over and over again.
+     *
+     * When the limit is hit, then the oldest miss which has not been used recently is evicted. The misses can be many
+     * when converting dynamic classes such as proxies or lambdas. Use 0 or negative value for unbounded.
+     */
+    public void setTypeConverterMaxCachedMisses(int typeConverterMaxCachedMisses) {
+        this.typeConverterMaxCachedMisses = typeConverterMaxCachedMisses;
+    }
+
     public boolean isTracing() {
         return tracing;
     }
@@ -1765,6 +1832,19 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether to warm up the routes in parallel when starting CamelContext, which can reduce the startup time when
+     * there are many routes.
+     *
+     * The routes are warmed up (starting their endpoints, producers and processors) concurrently while respecting the
+     * startup order of the routes, and routes which send to the endpoint of another route (such as direct and seda) are
+     * warmed up after the other route. The route consumers are still started one by one in the startup order.
+     */
+    public T withParallelRouteStartup(boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+        return (T) this;
+    }
+
     /**
      * Whether to enable developer console (requires camel-console on classpath).
      *
@@ -1846,6 +1926,29 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets where the stream caches are spooled when the spool rules determine to spool. File spools to a temporary
+     * file. MemoryMapped spools to a temporary file which is memory mapped when read. OffHeap spools to off-heap memory
+     * from a bounded pool (see streamCachingSpoolOffHeapPoolSize), and to a temporary file when the pool is full.
+     *
+     * The default mode is File.
+     */
+    public T withStreamCachingSpoolMode(String streamCachingSpoolMode) {
+        this.streamCachingSpoolMode = streamCachingSpoolMode;
+        return (T) this;
+    }
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory which can be used for stream caching spooling, when using
+     * OffHeap spool mode.
+     *
+     * The default size is 64mb.
+     */
+    public T withStreamCachingSpoolOffHeapPoolSize(long streamCachingSpoolOffHeapPoolSize) {
+        this.streamCachingSpoolOffHeapPoolSize = streamCachingSpoolOffHeapPoolSize;
+        return (T) this;
+    }
+
     /**
      * Sets a stream caching cipher name to use when spooling to disk to write with encryption. By default the data is
      * not encrypted.
@@ -1929,6 +2032,18 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the maximum number of conversions that could not be converted, which are cached as misses to avoid looking
+     * for a suitable type converter over and over again.
+     *
+     * When the limit is hit, then the oldest miss which has not been used recently is evicted. The misses can be many
+     * when converting dynamic classes such as proxies or lambdas. Use 0 or negative value for unbounded.
+     */
+    public T withTypeConverterMaxCachedMisses(int typeConverterMaxCachedMisses) {
+        this.typeConverterMaxCachedMisses = typeConverterMaxCachedMisses;
+        return (T) this;
+    }
+
     /**
      * Sets whether tracing is enabled or not.
      *
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MainTypeConverterMaxCachedMissesTest {
+
+    @Test
+    public void testMain() {
+        Main main = new Main();
+        main.addInitialProperty("camel.main.typeConverterMaxCachedMisses", "50");
+        main.start();
+
+        CamelContext context = main.getCamelContext();
+        CoreTypeConverterRegistry registry = (CoreTypeConverterRegistry) context.getTypeConverterRegistry();
+        assertEquals(50, registry.getMaxCachedMisses());
+
+        main.stop();
+    }
+
+    @Test
+    public void testDefault() {
+        Main main = new Main();
+        main.start();
+
+        CamelContext context = main.getCamelContext();
+        CoreTypeConverterRegistry registry = (CoreTypeConverterRegistry) context.getTypeConverterRegistry();
+        assertEquals(10000, registry.getMaxCachedMisses());
+
+        main.stop();
+    }
+
+}
@@ -326,4 +326,17 @@ public final class CamelOpenMBeanTypes {
         return new TabularType("variables", "Variables", ct, new String[] { "id", "key" });
     }
 
+    public static TabularType listPendingTasksTabularType() throws OpenDataException {
+        CompositeType ct = listPendingTasksCompositeType();
+        return new TabularType("listPendingTasks", "Lists the pending tasks per group", ct, new String[] { "group" });
+    }
+
+    public static CompositeType listPendingTasksCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "tasks", "Tasks",
+                new String[] { "group", "pending" },
+                new String[] { "Group", "Pending" },
+                new OpenType[] { SimpleType.STRING, SimpleType.INTEGER });
+    }
+
 }
@@ -24,12 +24,27 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Source")
     String getSource();
 
+    @ManagedAttribute(description = "Route ID of the source")
+    String getRouteId();
+
     @ManagedAttribute(description = "Number of elements cached")
     Integer getSize();
 
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of times an existing producer was acquired from the cache")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of times a new producer was created as there was none in the cache")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Number of producers evicted from the cache")
+    Long getEvicted();
+
+    @ManagedOperation(description = "Reset the hits, misses and evicted statistics")
+    void resetStatistics();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
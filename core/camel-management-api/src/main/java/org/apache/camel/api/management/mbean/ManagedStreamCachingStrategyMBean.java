@@ -47,6 +47,21 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Cipher used if writing with encryption")
     String getSpoolCipher();
 
+    @ManagedAttribute(description = "Where stream caches are spooled (File, MemoryMapped or OffHeap)")
+    String getSpoolMode();
+
+    @ManagedAttribute(description = "Maximum number of bytes of off-heap memory used for spooling in OffHeap spool mode")
+    long getSpoolOffHeapPoolSize();
+
+    @ManagedAttribute(description = "Number of bytes of off-heap memory allocated by the pool for spooling")
+    long getSpoolOffHeapPoolAllocated();
+
+    @ManagedAttribute(description = "Number of bytes of off-heap memory currently in use by spooled stream caches")
+    long getSpoolOffHeapPoolUsed();
+
+    @ManagedAttribute(description = "Number of stream caches spooled to disk because the off-heap memory pool was full")
+    long getSpoolOffHeapSpillCounter();
+
     @ManagedAttribute(description = "Threshold in bytes when overflow and spooling to disk instead of keeping in memory")
     void setSpoolThreshold(long threshold);
 
@@ -32,6 +32,7 @@ import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.component.bean.BeanProcessor;
 import org.apache.camel.component.log.LogEndpoint;
 import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.management.mbean.ManagedAdaptiveConcurrencyThrottler;
 import org.apache.camel.management.mbean.ManagedAggregateProcessor;
 import org.apache.camel.management.mbean.ManagedBeanProcessor;
 import org.apache.camel.management.mbean.ManagedBrowsableEndpoint;
@@ -117,6 +118,7 @@ import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.RecipientListDefinition;
 import org.apache.camel.model.TransformDefinition;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
+import org.apache.camel.processor.AdaptiveConcurrencyThrottler;
 import org.apache.camel.processor.CatchProcessor;
 import org.apache.camel.processor.ChoiceProcessor;
 import org.apache.camel.processor.ClaimCheckProcessor;
@@ -356,6 +358,8 @@ public class DefaultManagementObjectStrategy implements ManagementObjectStrategy
                 answer = new ManagedDoCatch(context, (CatchProcessor) target, cast(definition));
             } else if (target instanceof FinallyProcessor) {
                 answer = new ManagedDoFinally(context, (FinallyProcessor) target, cast(definition));
+            } else if (target instanceof AdaptiveConcurrencyThrottler act) {
+                answer = new ManagedAdaptiveConcurrencyThrottler(context, act, definition);
             } else if (target instanceof Throttler) {
                 answer = new ManagedThrottler(context, (Throttler) target, definition);
             } else if (target instanceof DynamicRouter) {
@@ -20,6 +20,8 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedProducerCacheMBean;
 import org.apache.camel.spi.ProducerCache;
+import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.support.cache.DefaultProducerCache;
 
 @ManagedResource(description = "Managed ProducerCache")
 public class ManagedProducerCache extends ManagedService implements ManagedProducerCacheMBean {
@@ -42,6 +44,14 @@ public class ManagedProducerCache extends ManagedService implements ManagedProdu
         return null;
     }
 
+    @Override
+    public String getRouteId() {
+        if (producerCache.getSource() instanceof RouteIdAware rid) {
+            return rid.getRouteId();
+        }
+        return null;
+    }
+
     @Override
     public Integer getSize() {
         return producerCache.size();
@@ -52,6 +62,37 @@ public class ManagedProducerCache extends ManagedService implements ManagedProdu
         return producerCache.getCapacity();
     }
 
+    @Override
+    public Long getHits() {
+        if (producerCache instanceof DefaultProducerCache dpc) {
+            return dpc.getHits();
+        }
+        return null;
+    }
+
+    @Override
+    public Long getMisses() {
+        if (producerCache instanceof DefaultProducerCache dpc) {
+            return dpc.getMisses();
+        }
+        return null;
+    }
+
+    @Override
+    public Long getEvicted() {
+        if (producerCache instanceof DefaultProducerCache dpc) {
+            return dpc.getEvicted();
+        }
+        return null;
+    }
+
+    @Override
+    public void resetStatistics() {
+        if (producerCache instanceof DefaultProducerCache dpc) {
+            dpc.resetStatistics();
+        }
+    }
+
     @Override
     public void purge() {
         producerCache.purge();
@@ -19,6 +19,7 @@ package org.apache.camel.management.mbean;
 import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedStreamCachingStrategyMBean;
+import org.apache.camel.converter.stream.OffHeapBufferPool;
 import org.apache.camel.spi.StreamCachingStrategy;
 
 @ManagedResource(description = "Managed StreamCachingStrategy")
@@ -91,6 +92,39 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getSpoolCipher();
     }
 
+    @Override
+    public String getSpoolMode() {
+        StreamCachingStrategy.SpoolMode mode = streamCachingStrategy.getSpoolMode();
+        return mode != null ? mode.name() : null;
+    }
+
+    @Override
+    public long getSpoolOffHeapPoolSize() {
+        return streamCachingStrategy.getSpoolOffHeapPoolSize();
+    }
+
+    @Override
+    public long getSpoolOffHeapPoolAllocated() {
+        OffHeapBufferPool pool = getOffHeapBufferPool();
+        return pool != null ? pool.getAllocated() : 0;
+    }
+
+    @Override
+    public long getSpoolOffHeapPoolUsed() {
+        OffHeapBufferPool pool = getOffHeapBufferPool();
+        return pool != null ? pool.getUsed() : 0;
+    }
+
+    @Override
+    public long getSpoolOffHeapSpillCounter() {
+        OffHeapBufferPool pool = getOffHeapBufferPool();
+        return pool != null ? pool.getSpillCounter() : 0;
+    }
+
+    private OffHeapBufferPool getOffHeapBufferPool() {
+        return camelContext.getCamelContextExtension().getContextPlugin(OffHeapBufferPool.class);
+    }
+
     @Override
     public void setSpoolThreshold(long threshold) {
         streamCachingStrategy.setSpoolThreshold(threshold);
@@ -211,6 +245,10 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
     @Override
     public void resetStatistics() {
         streamCachingStrategy.getStatistics().reset();
+        OffHeapBufferPool pool = getOffHeapBufferPool();
+        if (pool != null) {
+            pool.resetStatistics();
+        }
     }
 
 }
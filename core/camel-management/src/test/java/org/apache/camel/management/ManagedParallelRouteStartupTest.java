@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_THREAD_POOL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the routes, processors and thread pools are enlisted in JMX when the routes are warmed up in parallel.
+ */
+@DisabledOnOs(OS.AIX)
+public class ManagedParallelRouteStartupTest extends ManagementTestSupport {
+
+    private static final int ROUTES = 50;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setParallelRouteStartup(true);
+        return context;
+    }
+
+    @Test
+    public void testManagedParallelRouteStartup() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> routes = mbeanServer.queryNames(getCamelObjectName(TYPE_ROUTE, "*"), null);
+        assertEquals(ROUTES, routes.size());
+
+        for (int i = 0; i < ROUTES; i++) {
+            assertTrue(mbeanServer.isRegistered(getCamelObjectName(TYPE_ROUTE, "route" + i)), "route" + i);
+            assertTrue(mbeanServer.isRegistered(getCamelObjectName(TYPE_PROCESSOR, "threads" + i)), "threads" + i);
+            assertTrue(mbeanServer.isRegistered(getCamelObjectName(TYPE_THREAD_POOL, "threads" + i + "(threads)")),
+                    "threads" + i + "(threads)");
+        }
+
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+        template.sendBody("direct:0", "Hello World");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (int i = 0; i < ROUTES; i++) {
+                    String next = i < ROUTES - 1 ? "direct:" + (i + 1) : "mock:result";
+                    from("direct:" + i).routeId("route" + i)
+                            .threads(1).id("threads" + i)
+                            .to(next);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * An {@link InputStream} which reads from views of {@link ByteBuffer}s (such as memory mapped files or off-heap
+ * memory), without copying the buffers.
+ * <p/>
+ * The stream is synchronized, so the buffers can safely be released (such as unmapped) once the stream is closed, as
+ * reading after closing throws an {@link IOException}.
+ */
+final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer[] buffers;
+    private int index;
+    private long position;
+    private boolean closed;
+
+    /**
+     * Creates the stream
+     *
+     * @param buffers the buffers to read from, which must be views that are not shared with other streams
+     */
+    ByteBufferInputStream(ByteBuffer... buffers) {
+        this.buffers = buffers;
+    }
+
+    synchronized long position() {
+        return position;
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        ByteBuffer buffer = current();
+        if (buffer == null) {
+            return -1;
+        }
+        position++;
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        ByteBuffer buffer = current();
+        while (buffer != null && len > 0) {
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            off += n;
+            len -= n;
+            total += n;
+            buffer = current();
+        }
+        position += total;
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public synchronized long skip(long n) throws IOException {
+        long total = 0;
+        ByteBuffer buffer = current();
+        while (buffer != null && n > 0) {
+            int skip = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skip);
+            n -= skip;
+            total += skip;
+            buffer = current();
+        }
+        position += total;
+        return total;
+    }
+
+    @Override
+    public synchronized int available() throws IOException {
+        ensureOpen();
+        long total = 0;
+        for (int i = index; i < buffers.length; i++) {
+            total += buffers[i].remaining();
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized long transferTo(OutputStream out) throws IOException {
+        long total = 0;
+        WritableByteChannel channel = Channels.newChannel(out);
+        ByteBuffer buffer = current();
+        while (buffer != null) {
+            total += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer = current();
+        }
+        position += total;
+        return total;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private ByteBuffer current() throws IOException {
+        ensureOpen();
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+}
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
@@ -37,9 +38,13 @@ import org.apache.camel.util.IOHelper;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * When the stream caching strategy uses {@link StreamCachingStrategy.SpoolMode#OffHeap} then the content is spooled to
+ * off-heap memory instead of a temp file, for as long as there is room in the {@link OffHeapBufferPool}.
  */
 public class CachedOutputStream extends OutputStream {
 
+    private final CamelContext camelContext;
     private final StreamCachingStrategy strategy;
     private OutputStream currentStream;
     private boolean inMemory = true;
@@ -55,7 +60,8 @@ public class CachedOutputStream extends OutputStream {
         this.closedOnCompletion = closedOnCompletion;
         this.tempFileManager = new TempFileManager(closedOnCompletion);
         this.tempFileManager.addExchange(exchange);
-        this.strategy = exchange.getContext().getStreamCachingStrategy();
+        this.camelContext = exchange.getContext();
+        this.strategy = camelContext.getStreamCachingStrategy();
         this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
     }
 
@@ -101,7 +107,9 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToFileStream(len);
+        } else if (currentStream instanceof OffHeapOutputStream offHeap && !offHeap.ensureCapacity(len)) {
+            pageOffHeapToFileStream();
         }
         currentStream.write(b, off, len);
     }
@@ -110,7 +118,9 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToFileStream(b.length);
+        } else if (currentStream instanceof OffHeapOutputStream offHeap && !offHeap.ensureCapacity(b.length)) {
+            pageOffHeapToFileStream();
         }
         currentStream.write(b);
     }
@@ -119,7 +129,9 @@ public class CachedOutputStream extends OutputStream {
     public void write(int b) throws IOException {
         this.totalLength++;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToFileStream(1);
+        } else if (currentStream instanceof OffHeapOutputStream offHeap && !offHeap.ensureCapacity(1)) {
+            pageOffHeapToFileStream();
         }
         currentStream.write(b);
     }
@@ -147,24 +159,42 @@ public class CachedOutputStream extends OutputStream {
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
                                                 + currentStream.getClass().getName());
             }
+        } else if (currentStream instanceof OffHeapOutputStream) {
+            return tempFileManager.newOffHeapStreamCache();
         } else {
             return tempFileManager.newStreamCache();
         }
     }
 
-    private void pageToFileStream() throws IOException {
+    private void pageToFileStream(int len) throws IOException {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
         try {
-            // creates a tmp file and a file output stream
-            currentStream = tempFileManager.createOutputStream(strategy);
+            OutputStream out = null;
+            if (strategy.getSpoolMode() == StreamCachingStrategy.SpoolMode.OffHeap) {
+                OffHeapBufferPool pool = camelContext.getCamelContextExtension().getContextPlugin(OffHeapBufferPool.class);
+                if (pool != null) {
+                    // spool to off-heap memory if there is room for what is in-memory and what is being written
+                    out = tempFileManager.createOffHeapOutputStream(pool, (long) bout.size() + len);
+                }
+            }
+            if (out == null) {
+                // creates a tmp file and a file output stream
+                out = tempFileManager.createOutputStream(strategy);
+            }
+            currentStream = out;
             bout.writeTo(currentStream);
         } finally {
-            // ensure flag is flipped to file based
+            // ensure flag is flipped to spooled
             inMemory = false;
         }
     }
 
+    private void pageOffHeapToFileStream() throws IOException {
+        // the off-heap pool is full so spool to a tmp file instead
+        currentStream = tempFileManager.spoolOffHeapToFile(strategy);
+    }
+
     public int getStrategyBufferSize() {
         return strategy.getBufferSize();
     }
@@ -212,7 +242,7 @@ public class CachedOutputStream extends OutputStream {
 
         @Override
         public boolean inMemory() {
-            return cachedOutputStream.inMemory;
+            return cachedOutputStream.inMemory || cachedOutputStream.currentStream instanceof OffHeapOutputStream;
         }
 
         @Override
@@ -22,6 +22,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -37,6 +41,7 @@ import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.StreamCachingStrategy.SpoolMode;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.SynchronizationAdapter;
@@ -102,6 +107,23 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         }
     }
 
+    /**
+     * Writes the content to the given channel. When the temporary file is not encrypted then the bytes are transferred
+     * from the file (zero-copy), such as when the file producer writes the cached content to a file.
+     *
+     * @param  out         the channel to write to
+     * @throws IOException is thrown if error writing
+     */
+    public void writeTo(WritableByteChannel out) throws IOException {
+        if (stream == null && ciphers == null) {
+            try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                IOHelper.transferTo(in, out);
+            }
+        } else {
+            IOHelper.copy(getInputStream(), Channels.newOutputStream(out));
+        }
+    }
+
     @Override
     public StreamCache copy(Exchange exchange) throws IOException {
         tempFileManager.addExchange(exchange);
@@ -176,6 +198,11 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     }
 
     private InputStream createInputStream(File file) throws IOException {
+        ByteBuffer mapped = tempFileManager.getMappedBuffer();
+        if (mapped != null) {
+            // read from a view of the memory mapped file
+            return new ByteBufferInputStream(mapped.duplicate());
+        }
         InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
         if (ciphers != null) {
             in = new CipherInputStream(in, ciphers.createDecryptor()) {
@@ -212,6 +239,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private boolean memoryMapped;
+        private ByteBuffer mappedBuffer;
+        private OffHeapBufferPool offHeapPool;
+        private OffHeapOutputStream offHeapOutputStream;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -256,6 +287,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             } catch (Exception e) {
                                 LOG.warn("Error closing streams. This exception will be ignored.", e);
                             }
+                            releaseOffHeap();
                             try {
                                 cleanUpTempFile();
                             } catch (Exception e) {
@@ -331,14 +363,86 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                     }
                 };
             }
+            // memory mapping is only possible when the file is not encrypted
+            memoryMapped = ciphers == null && strategy.getSpoolMode() == SpoolMode.MemoryMapped;
             outputStream = out;
             return out;
         }
 
+        /**
+         * Creates an output stream to off-heap memory from the pool, with room for the given number of bytes.
+         *
+         * @return the output stream, or <tt>null</tt> if the pool is full, and the stream must be spooled to a file
+         *         instead
+         */
+        OutputStream createOffHeapOutputStream(OffHeapBufferPool pool, long capacity) {
+            if (!closedOnCompletion || exchangeCounter.get() == 0) {
+                // the memory can only be released back to the pool when the exchanges are done
+                return null;
+            }
+            OffHeapOutputStream out = new OffHeapOutputStream(pool);
+            if (!out.ensureCapacity(capacity)) {
+                out.release();
+                pool.spilled();
+                return null;
+            }
+            offHeapPool = pool;
+            offHeapOutputStream = out;
+            return out;
+        }
+
+        /**
+         * Spools the off-heap memory to a temporary file (as the pool is full), and releases the off-heap memory.
+         *
+         * @return the output stream for the temporary file
+         */
+        OutputStream spoolOffHeapToFile(StreamCachingStrategy strategy) throws IOException {
+            OutputStream out = createOutputStream(strategy);
+            offHeapOutputStream.newInputStream().transferTo(out);
+            offHeapPool.spilled();
+            releaseOffHeap();
+            return out;
+        }
+
         FileInputStreamCache newStreamCache() {
             return new FileInputStreamCache(this);
         }
 
+        OffHeapInputStreamCache newOffHeapStreamCache() throws IOException {
+            return new OffHeapInputStreamCache(this);
+        }
+
+        OffHeapOutputStream getOffHeapOutputStream() {
+            return offHeapOutputStream;
+        }
+
+        /**
+         * Gets the memory mapped temporary file, which is mapped on first use.
+         *
+         * @return the mapped file, or <tt>null</tt> if not using memory mapping
+         */
+        synchronized ByteBuffer getMappedBuffer() throws IOException {
+            if (mappedBuffer == null && memoryMapped && tempFile != null) {
+                long size = tempFile.length();
+                if (size > Integer.MAX_VALUE) {
+                    // too large to be mapped as a single buffer
+                    memoryMapped = false;
+                    return null;
+                }
+                try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.READ)) {
+                    mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                }
+            }
+            return mappedBuffer;
+        }
+
+        void releaseOffHeap() {
+            if (offHeapOutputStream != null) {
+                offHeapOutputStream.release();
+                offHeapOutputStream = null;
+            }
+        }
+
         void closeFileInputStreams() {
             if (fileInputStreamCaches != null) {
                 for (FileInputStreamCache fileInputStreamCache : fileInputStreamCaches) {
@@ -348,10 +452,16 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
-        void cleanUpTempFile() {
+        synchronized void cleanUpTempFile() {
             // cleanup temporary file
             try {
                 if (tempFile != null) {
+                    if (mappedBuffer != null) {
+                        // the input streams are closed, so the mapping can be released now, as otherwise the file
+                        // cannot be deleted (on Windows) until the buffer is garbage collected
+                        IOHelper.unmap(mappedBuffer);
+                        mappedBuffer = null;
+                    }
                     FileUtil.deleteFile(tempFile);
                     tempFile = null;
                 }
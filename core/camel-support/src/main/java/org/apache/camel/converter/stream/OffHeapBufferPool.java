@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of off-heap (direct) memory chunks, which is used for spooling stream caches to off-heap memory
+ * instead of to temporary files.
+ * <p/>
+ * The chunks are allocated on demand up till the capacity of the pool, and are recycled when the stream caches using
+ * them are done. When there are no more chunks available then the stream caches are spooled to temporary files
+ * instead, which is counted as a spill.
+ *
+ * @see org.apache.camel.spi.StreamCachingStrategy.SpoolMode#OffHeap
+ */
+public final class OffHeapBufferPool {
+
+    /**
+     * The size of the chunks in bytes
+     */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    private final long capacity;
+    private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+    private final AtomicLong allocated = new AtomicLong();
+    private final AtomicLong used = new AtomicLong();
+    private final LongAdder spills = new LongAdder();
+
+    /**
+     * Creates a new pool
+     *
+     * @param capacity the maximum number of bytes of off-heap memory to allocate
+     */
+    public OffHeapBufferPool(long capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Acquires a chunk from the pool.
+     *
+     * @return the chunk, or <tt>null</tt> if the pool is full
+     */
+    ByteBuffer acquire() {
+        ByteBuffer answer = free.poll();
+        if (answer == null) {
+            long current;
+            do {
+                current = allocated.get();
+                if (current + CHUNK_SIZE > capacity) {
+                    return null;
+                }
+            } while (!allocated.compareAndSet(current, current + CHUNK_SIZE));
+            answer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        }
+        used.addAndGet(CHUNK_SIZE);
+        answer.clear();
+        return answer;
+    }
+
+    /**
+     * Releases the chunk back to the pool, so it can be recycled.
+     */
+    void release(ByteBuffer chunk) {
+        used.addAndGet(-CHUNK_SIZE);
+        free.add(chunk);
+    }
+
+    /**
+     * Records that a stream cache could not be kept in off-heap memory and was spooled to a temporary file instead
+     */
+    void spilled() {
+        spills.increment();
+    }
+
+    /**
+     * Clears the recycled chunks which are not in use, so the memory can be reclaimed.
+     */
+    public void clear() {
+        ByteBuffer chunk = free.poll();
+        while (chunk != null) {
+            allocated.addAndGet(-CHUNK_SIZE);
+            chunk = free.poll();
+        }
+    }
+
+    /**
+     * The maximum number of bytes of off-heap memory the pool can allocate
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of bytes of off-heap memory which has been allocated (both in use and recycled)
+     */
+    public long getAllocated() {
+        return allocated.get();
+    }
+
+    /**
+     * Number of bytes of off-heap memory which is in use by stream caches
+     */
+    public long getUsed() {
+        return used.get();
+    }
+
+    /**
+     * Number of stream caches which was spooled to a temporary file because the pool was full
+     */
+    public long getSpillCounter() {
+        return spills.sum();
+    }
+
+    /**
+     * Resets the spill counter
+     */
+    public void resetStatistics() {
+        spills.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapBufferPool[capacity=" + capacity + ", allocated=" + allocated.get() + ", used=" + used.get()
+               + ", spills=" + spills.sum() + "]";
+    }
+}
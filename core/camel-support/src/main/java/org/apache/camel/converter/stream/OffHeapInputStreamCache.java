@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * A {@link StreamCache} for caching using off-heap memory from a {@link OffHeapBufferPool}.
+ * <p/>
+ * The off-heap memory is shared by the copies of the cache, and resetting or copying the cache does not copy the
+ * memory.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final TempFileManager tempFileManager;
+    private final OffHeapOutputStream out;
+    private final long length;
+    private ByteBufferInputStream stream;
+
+    OffHeapInputStreamCache(TempFileManager tempFileManager) throws IOException {
+        this(tempFileManager, tempFileManager.getOffHeapOutputStream());
+    }
+
+    private OffHeapInputStreamCache(TempFileManager tempFileManager, OffHeapOutputStream out) throws IOException {
+        if (out == null || out.isReleased()) {
+            throw new IOException("Cannot read stream cache as the off-heap memory has been released");
+        }
+        this.tempFileManager = tempFileManager;
+        this.out = out;
+        this.length = out.length();
+        this.stream = out.newInputStream();
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (out.isReleased()) {
+            throw new RuntimeCamelException("Cannot reset stream as the off-heap memory has been released");
+        }
+        // reset by creating a new view of the off-heap memory
+        stream = out.newInputStream();
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        transferTo(os);
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        checkReleased();
+        tempFileManager.addExchange(exchange);
+        // the memory may have been released by the other exchanges completing in the meantime
+        return new OffHeapInputStreamCache(tempFileManager, out);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long position() {
+        return stream.position();
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkReleased();
+        return stream.available();
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkReleased();
+        int answer = stream.read();
+        // the chunks may have been reused by another stream while reading
+        checkReleased();
+        return answer;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkReleased();
+        int answer = stream.read(b, off, len);
+        checkReleased();
+        return answer;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        checkReleased();
+        return stream.skip(n);
+    }
+
+    @Override
+    public long transferTo(OutputStream os) throws IOException {
+        checkReleased();
+        long answer = stream.transferTo(os);
+        checkReleased();
+        return answer;
+    }
+
+    /**
+     * The views of the off-heap memory must not be read after the memory has been released back to the pool (when the
+     * exchanges using this cache are done), as the memory may be reused by other stream caches.
+     */
+    private void checkReleased() throws IOException {
+        if (out.isReleased()) {
+            throw new IOException("Cannot read stream cache as the off-heap memory has been released");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapInputStreamCache[length=" + length + "]";
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.apache.camel.converter.stream.OffHeapBufferPool.CHUNK_SIZE;
+
+/**
+ * An {@link OutputStream} which writes to off-heap memory using chunks from a {@link OffHeapBufferPool}.
+ * <p/>
+ * The chunks must be released back to the pool when the stream caches reading from this stream are done.
+ */
+final class OffHeapOutputStream extends OutputStream {
+
+    private final OffHeapBufferPool pool;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long length;
+    private volatile boolean released;
+
+    OffHeapOutputStream(OffHeapBufferPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Ensures there is room for writing the given number of bytes, by acquiring chunks from the pool.
+     *
+     * @return <tt>true</tt> if there is room, or <tt>false</tt> if the pool is full
+     */
+    boolean ensureCapacity(long len) {
+        long capacity = (long) chunks.size() * CHUNK_SIZE - length;
+        while (capacity < len) {
+            ByteBuffer chunk = pool.acquire();
+            if (chunk == null) {
+                return false;
+            }
+            chunks.add(chunk);
+            capacity += CHUNK_SIZE;
+        }
+        return true;
+    }
+
+    long length() {
+        return length;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!ensureCapacity(1)) {
+            throw new IOException("Cannot acquire off-heap memory for stream caching as the pool is full: " + pool);
+        }
+        chunks.get((int) (length / CHUNK_SIZE)).put((int) (length % CHUNK_SIZE), (byte) b);
+        length++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (!ensureCapacity(len)) {
+            throw new IOException("Cannot acquire off-heap memory for stream caching as the pool is full: " + pool);
+        }
+        while (len > 0) {
+            int offset = (int) (length % CHUNK_SIZE);
+            int n = Math.min(len, CHUNK_SIZE - offset);
+            chunks.get((int) (length / CHUNK_SIZE)).put(offset, b, off, n);
+            off += n;
+            len -= n;
+            length += n;
+        }
+    }
+
+    /**
+     * Creates a new stream which reads the written bytes, using views of the chunks (no copying).
+     */
+    ByteBufferInputStream newInputStream() {
+        int count = (int) ((length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        ByteBuffer[] views = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            ByteBuffer view = chunks.get(i).duplicate();
+            view.clear();
+            view.limit((int) Math.min(CHUNK_SIZE, length - (long) i * CHUNK_SIZE));
+            views[i] = view;
+        }
+        return new ByteBufferInputStream(views);
+    }
+
+    /**
+     * Whether the chunks have been released back to the pool, after which the views of the chunks must no longer be
+     * read, as the chunks may be reused by other streams.
+     */
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Releases the chunks back to the pool
+     */
+    void release() {
+        // flag as released before the chunks can be reused, so the views can detect the chunks may have been changed
+        released = true;
+        for (ByteBuffer chunk : chunks) {
+            pool.release(chunk);
+        }
+        chunks.clear();
+        length = 0;
+    }
+}
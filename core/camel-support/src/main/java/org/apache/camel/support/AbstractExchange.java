@@ -63,6 +63,12 @@ abstract class AbstractExchange implements Exchange {
     protected boolean rollbackOnlyLast;
     protected Map<String, SafeCopyProperty> safeCopyProperties;
     protected ExchangeVariableRepository variableRepository;
+    // whether the properties and variables are shared with another exchange (copy-on-write)
+    private volatile boolean propertiesShared;
+    private volatile boolean variablesShared;
+    // whether the properties and variables maps have been handed out, and can therefore be changed by the caller
+    private boolean propertiesExposed;
+    private boolean variablesExposed;
     private final ExtendedExchangeExtension privateExtension;
     private RedeliveryTraitPayload externalRedelivered = RedeliveryTraitPayload.UNDEFINED_REDELIVERY;
 
@@ -126,14 +132,26 @@ abstract class AbstractExchange implements Exchange {
         privateExtension.setErrorHandlerHandled(parent.getExchangeExtension().getErrorHandlerHandled());
         privateExtension.setStreamCacheDisabled(parent.getExchangeExtension().isStreamCacheDisabled());
 
+        // the properties and variables are copy-on-write, so share them until either exchange changes them,
+        // unless the maps have been handed out, as the caller may still change them
         if (parent.hasVariables()) {
-            if (this.variableRepository == null) {
+            if (parent.variablesExposed) {
                 this.variableRepository = new ExchangeVariableRepository(getContext());
+                this.variableRepository.copyFrom(parent.variableRepository);
+            } else {
+                parent.variablesShared = true;
+                this.variableRepository = parent.variableRepository;
+                this.variablesShared = true;
             }
-            this.variableRepository.copyFrom(parent.variableRepository);
         }
         if (parent.hasProperties()) {
-            this.properties = safeCopyProperties(parent.properties);
+            if (parent.propertiesExposed) {
+                this.properties = safeCopyProperties(parent.properties);
+            } else {
+                parent.propertiesShared = true;
+                this.properties = parent.properties;
+                this.propertiesShared = true;
+            }
         }
         if (parent.hasSafeCopyProperties()) {
             this.safeCopyProperties = parent.copySafeCopyProperties();
@@ -266,35 +284,66 @@ abstract class AbstractExchange implements Exchange {
             setProperty(key, value);
         } else if (value != null) {
             // avoid the NullPointException
-            if (properties == null) {
-                this.properties = new ConcurrentHashMap<>(8);
-            }
-            properties.put(name, value);
+            writableProperties().put(name, value);
         } else if (properties != null) {
             // if the value is null, we just remove the key from the map
-            properties.remove(name);
+            writableProperties().remove(name);
         }
     }
 
     void setProperties(Map<String, Object> properties) {
-        if (this.properties == null) {
+        if (this.properties == null || propertiesShared) {
             this.properties = new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
+            this.propertiesExposed = false;
         } else {
             this.properties.clear();
         }
         this.properties.putAll(properties);
     }
 
+    /**
+     * Clears the properties (without affecting other exchanges which may share the properties)
+     */
+    void clearProperties() {
+        if (propertiesShared) {
+            this.properties = new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
+            this.propertiesExposed = false;
+        } else if (properties != null) {
+            properties.clear();
+        }
+    }
+
+    /**
+     * Gets the properties which are safe to change, which creates the properties, or copies the properties if they are
+     * shared with another exchange.
+     */
+    private Map<String, Object> writableProperties() {
+        if (propertiesShared) {
+            synchronized (this) {
+                if (propertiesShared) {
+                    this.properties = new ConcurrentHashMap<>(properties);
+                    this.propertiesShared = false;
+                    this.propertiesExposed = false;
+                }
+            }
+        } else if (properties == null) {
+            this.properties = new ConcurrentHashMap<>(8);
+        }
+        return properties;
+    }
+
     @Override
     public Object removeProperty(String name) {
         ExchangePropertyKey key = ExchangePropertyKey.asExchangePropertyKey(name);
         if (key != null) {
             return removeProperty(key);
         }
-        if (!hasProperties()) {
+        if (!hasProperties() || propertiesShared && !properties.containsKey(name)) {
             return null;
         }
-        return properties.remove(name);
+        return writableProperties().remove(name);
     }
 
     @Override
@@ -306,9 +355,7 @@ abstract class AbstractExchange implements Exchange {
     public boolean removeProperties(String pattern, String... excludePatterns) {
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            if (properties != null) {
-                properties.clear();
-            }
+            clearProperties();
             internalProperties.clear();
             return true;
         }
@@ -333,10 +380,11 @@ abstract class AbstractExchange implements Exchange {
                 matches = true;
                 if (toBeRemoved.size() == properties.size()) {
                     // special optimization when all should be removed
-                    properties.clear();
+                    clearProperties();
                 } else {
+                    Map<String, Object> map = writableProperties();
                     for (String key : toBeRemoved) {
-                        properties.remove(key);
+                        map.remove(key);
                     }
                 }
             }
@@ -347,10 +395,10 @@ abstract class AbstractExchange implements Exchange {
 
     @Override
     public Map<String, Object> getProperties() {
-        if (properties == null) {
-            this.properties = new ConcurrentHashMap<>(8);
-        }
-        return properties;
+        Map<String, Object> answer = writableProperties();
+        // the caller may change the map at any time, so it must no longer be shared when copying this exchange
+        propertiesExposed = true;
+        return answer;
     }
 
     private Map<String, SafeCopyProperty> copySafeCopyProperties() {
@@ -420,10 +468,7 @@ abstract class AbstractExchange implements Exchange {
         if (repo != null) {
             repo.setVariable(name, value);
         } else {
-            if (variableRepository == null) {
-                variableRepository = new ExchangeVariableRepository(getContext());
-            }
-            variableRepository.setVariable(name, value);
+            writableVariables().setVariable(name, value);
         }
     }
 
@@ -439,21 +484,55 @@ abstract class AbstractExchange implements Exchange {
             return repo.removeVariable(name);
         } else if (variableRepository != null) {
             if ("*".equals(name)) {
-                variableRepository.clear();
+                clearVariables();
                 return null;
             }
-            return variableRepository.removeVariable(name);
+            return writableVariables().removeVariable(name);
         }
         return null;
     }
 
     @Override
     public Map<String, Object> getVariables() {
-        if (variableRepository == null) {
-            // force creating variables
-            variableRepository = new ExchangeVariableRepository(getContext());
+        // force creating variables
+        Map<String, Object> answer = writableVariables().getVariables();
+        // the caller may change the map at any time, so it must no longer be shared when copying this exchange
+        variablesExposed = true;
+        return answer;
+    }
+
+    /**
+     * Clears the variables (without affecting other exchanges which may share the variables)
+     */
+    void clearVariables() {
+        if (variablesShared) {
+            this.variableRepository = null;
+            this.variablesShared = false;
+            this.variablesExposed = false;
+        } else if (variableRepository != null) {
+            variableRepository.clear();
+        }
+    }
+
+    /**
+     * Gets the variables which are safe to change, which creates the variables, or copies the variables if they are
+     * shared with another exchange.
+     */
+    private ExchangeVariableRepository writableVariables() {
+        if (variablesShared) {
+            synchronized (this) {
+                if (variablesShared) {
+                    ExchangeVariableRepository copy = new ExchangeVariableRepository(getContext());
+                    copy.copyFrom(variableRepository);
+                    this.variableRepository = copy;
+                    this.variablesShared = false;
+                    this.variablesExposed = false;
+                }
+            }
+        } else if (variableRepository == null) {
+            this.variableRepository = new ExchangeVariableRepository(getContext());
         }
-        return variableRepository.getVariables();
+        return variableRepository;
     }
 
     @Override
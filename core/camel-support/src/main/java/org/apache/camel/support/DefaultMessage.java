@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 
 /**
@@ -33,9 +34,30 @@ import org.apache.camel.spi.HeadersMapFactory;
  * about using exact keys. See more details at {@link org.apache.camel.util.CaseInsensitiveMap}. The implementation of
  * the map can be configured by the {@link HeadersMapFactory} which can be set on the {@link CamelContext}. The default
  * implementation uses the {@link org.apache.camel.util.CaseInsensitiveMap CaseInsensitiveMap}.
+ * <p/>
+ * When copying a message the headers are copy-on-write, meaning that the headers map is shared between the messages
+ * until either message changes its headers. The headers are only shared when the map has not been handed out by
+ * {@link #getHeaders()} (or set by {@link #setHeaders(Map)}), as the caller may still change that map.
  */
 public class DefaultMessage extends MessageSupport {
+
+    // message types which lazy populate headers (by overriding getHeaders) cannot share their headers
+    private static final ClassValue<Boolean> SHAREABLE_HEADERS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getHeaders").getDeclaringClass() == DefaultMessage.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private Map<String, Object> headers;
+    // whether the headers map is shared with another message (copy-on-write)
+    private volatile boolean headersShared;
+    // whether the headers map has been handed out, and can therefore be changed by the caller at any time
+    private boolean headersExposed;
 
     public DefaultMessage(Exchange exchange) {
         setExchange(exchange);
@@ -52,7 +74,11 @@ public class DefaultMessage extends MessageSupport {
     @Override
     public void reset() {
         super.reset();
-        if (headers != null) {
+        if (headersShared) {
+            headers = null;
+            headersShared = false;
+            headersExposed = false;
+        } else if (headers != null) {
             headers.clear();
         }
     }
@@ -202,10 +228,7 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public void setHeader(String name, Object value) {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        headers.put(name, value);
+        writableHeaders().put(name, value);
     }
 
     @Override
@@ -214,10 +237,10 @@ public class DefaultMessage extends MessageSupport {
             // force creating headers
             headers = createHeaders();
         }
-        if (headers.isEmpty()) {
+        if (headers.isEmpty() || headersShared && !headers.containsKey(name)) {
             return null;
         }
-        return headers.remove(name);
+        return writableHeaders().remove(name);
     }
 
     @Override
@@ -237,7 +260,7 @@ public class DefaultMessage extends MessageSupport {
 
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            headers.clear();
+            clearHeaders();
             return true;
         }
 
@@ -246,10 +269,11 @@ public class DefaultMessage extends MessageSupport {
         if (toBeRemoved != null) {
             if (toBeRemoved.size() == headers.size()) {
                 // special optimization when all should be removed
-                headers.clear();
+                clearHeaders();
             } else {
+                Map<String, Object> map = writableHeaders();
                 for (String key : toBeRemoved) {
-                    headers.remove(key);
+                    map.remove(key);
                 }
             }
 
@@ -261,18 +285,22 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public Map<String, Object> getHeaders() {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        return headers;
+        Map<String, Object> answer = writableHeaders();
+        // the caller may change the map at any time, so it must no longer be shared when copying this message
+        headersExposed = true;
+        return answer;
     }
 
     @Override
     public void setHeaders(Map<String, Object> headers) {
+        this.headersShared = false;
+        this.headersExposed = false;
         HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
         if (factory != null) {
             if (factory.isInstanceOf(headers)) {
+                // the map is also held by the caller
                 this.headers = headers;
+                this.headersExposed = true;
             } else {
                 // create a new map
                 this.headers = camelContext.getCamelContextExtension().getHeadersMapFactory().newMap(headers);
@@ -297,6 +325,63 @@ public class DefaultMessage extends MessageSupport {
         return new DefaultMessage(camelContext);
     }
 
+    @Override
+    protected void copyHeadersFrom(Message that) {
+        if (that instanceof DefaultMessage dm && dm.headers != null && !dm.headersExposed
+                && dm.camelContext == camelContext
+                && SHAREABLE_HEADERS.get(getClass()) && SHAREABLE_HEADERS.get(dm.getClass())) {
+            if (headers != dm.headers) {
+                // copy-on-write so share the headers until either message changes its headers
+                dm.headersShared = true;
+                this.headers = dm.headers;
+                this.headersShared = true;
+                this.headersExposed = false;
+            }
+            return;
+        }
+        // the headers are only changed internally, so they are not handed out by copying
+        boolean exposed = headersExposed;
+        super.copyHeadersFrom(that);
+        headersExposed = exposed;
+    }
+
+    /**
+     * Clears the headers (without affecting other messages which may share the headers)
+     */
+    private void clearHeaders() {
+        if (headersShared) {
+            synchronized (this) {
+                if (headersShared) {
+                    headers = createHeaders();
+                    headersShared = false;
+                    headersExposed = false;
+                    return;
+                }
+            }
+        }
+        headers.clear();
+    }
+
+    /**
+     * Gets the headers which are safe to change, which creates the headers, or copies the headers if they are shared
+     * with another message.
+     */
+    private Map<String, Object> writableHeaders() {
+        if (headersShared) {
+            synchronized (this) {
+                if (headersShared) {
+                    HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
+                    headers = factory != null ? factory.newMap(headers) : new HashMap<>(headers);
+                    headersShared = false;
+                    headersExposed = false;
+                }
+            }
+        } else if (headers == null) {
+            headers = createHeaders();
+        }
+        return headers;
+    }
+
     /**
      * A factory method to lazily create the headers to make it easy to create efficient Message implementations which
      * only construct and populate the Map on demand
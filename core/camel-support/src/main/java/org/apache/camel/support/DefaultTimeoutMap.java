@@ -18,7 +18,7 @@ package org.apache.camel.support;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -33,7 +33,7 @@ import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingLong;
 import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
 import static org.apache.camel.TimeoutMap.Listener.Type.Put;
 import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
@@ -48,12 +48,19 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * The entries are indexed by their expire time, so the background task only has to look at the entries which have
+ * expired, instead of scanning all the entries in the map.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
     private final ConcurrentMap<K, TimeoutMapEntry<K, V>> map = new ConcurrentHashMap<>();
+    // the entries ordered by expire time (removed or updated entries are discarded when they are polled)
+    private final PriorityQueue<Expiry<K, V>> index
+            = new PriorityQueue<>(comparingLong(Expiry<K, V>::expireTime).thenComparingLong(Expiry::sequence));
+    private long sequence;
     private final ScheduledExecutorService executor;
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
@@ -107,6 +114,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            index.add(newExpiry(entry));
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -123,6 +131,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                index.add(newExpiry(entry));
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -157,6 +168,14 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return map.size();
     }
 
+    /**
+     * Whether the map contains an entry for the given key. Unlike {@link #get(Object)} this does not update the expire
+     * time of the entry.
+     */
+    protected boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
     /**
      * The timer task which purges old requests and schedules another poll
      */
@@ -184,28 +203,42 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
+            // need to find the expired entries (in the order they expired) and add to the expired list
+            List<Expiry<K, V>> retained = null;
+            Expiry<K, V> expiry;
+            while ((expiry = index.peek()) != null && expiry.expireTime() < now) {
+                index.poll();
+                TimeoutMapEntry<K, V> entry = expiry.entry();
+                if (map.get(entry.getKey()) != entry) {
+                    // the entry has been removed or replaced
+                    continue;
+                }
+                if (entry.getExpireTime() >= now || !isValidForEviction(entry)) {
+                    // the expire time has been updated, or the entry should not be evicted, so keep it in the index
+                    if (retained == null) {
+                        retained = new ArrayList<>();
                     }
+                    retained.add(newExpiry(entry));
+                    continue;
                 }
+                log.debug("Evicting inactive entry ID: {}", entry);
+                expired.add(entry);
+            }
+            if (retained != null) {
+                index.addAll(retained);
             }
 
-            // if we found any expired then we need to sort, onEviction and remove
-            if (!expired.isEmpty()) {
-                // sort according to the expired time so we got the first expired first
-                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+            // and must remove from list after we have fired the notifications
+            for (TimeoutMapEntry<K, V> entry : expired) {
+                map.remove(entry.getKey());
+            }
 
-                // and must remove from list after we have fired the notifications
-                for (TimeoutMapEntry<K, V> entry : expired) {
-                    map.remove(entry.getKey());
-                }
+            // clean up the index if it holds many removed or replaced entries
+            if (index.size() > 2 * map.size() + 1000) {
+                index.removeIf(e -> map.get(e.entry().getKey()) != e.entry());
             }
         } finally {
             lock.unlock();
@@ -271,6 +304,17 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return System.currentTimeMillis();
     }
 
+    private Expiry<K, V> newExpiry(TimeoutMapEntry<K, V> entry) {
+        return new Expiry<>(entry, entry.getExpireTime(), sequence++);
+    }
+
+    /**
+     * An entry in the index with the expire time of the entry when it was indexed, and a sequence to keep entries with
+     * the same expire time in the order they were added
+     */
+    private record Expiry<K, V>(TimeoutMapEntry<K, V> entry, long expireTime, long sequence) {
+    }
+
     @Override
     protected void doStart() throws Exception {
         if (executor.isShutdown()) {
@@ -286,7 +330,13 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             future = null;
         }
         // clear map if we stop
-        map.clear();
+        lock.lock();
+        try {
+            map.clear();
+            index.clear();
+        } finally {
+            lock.unlock();
+        }
     }
 
 }
@@ -0,0 +1,674 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ScheduledExecutorService} which uses a hashed wheel timer for the delayed tasks, which is intended for a
+ * large number of delayed tasks such as redeliveries by the error handlers.
+ * <p/>
+ * The delayed tasks are added to the buckets of a wheel, which a single thread advances every {@link #getTickDuration()}
+ * millis, so adding and cancelling tasks is O(1) and does not contend on a shared priority queue. The tasks are
+ * executed with a precision of the tick duration. When the tasks are due, then they are executed by the thread pool
+ * (which is created from the {@link CamelContext} if not configured).
+ * <p/>
+ * The delayed tasks can be scheduled in a group (such as the route id of the error handler), to keep track of the
+ * number of pending tasks per group.
+ * <p/>
+ * The executor is started on first use, and is stopped when shutdown.
+ */
+@ManagedResource(description = "Hashed wheel timer scheduled executor service")
+public class HashedWheelScheduledExecutorService extends ServiceSupport
+        implements ScheduledExecutorService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelScheduledExecutorService.class);
+    // maximum number of new tasks to add to the wheel per tick so the tick thread cannot be starved
+    private static final int MAX_TRANSFER = 100000;
+
+    private final Queue<WheelTask<?>> newTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Map<String, AtomicInteger> pendingByGroup = new ConcurrentHashMap<>();
+    private CamelContext camelContext;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private long tickDuration = 10;
+    private int ticksPerWheel = 512;
+    private Bucket[] wheel;
+    private long tickNanos;
+    private volatile long startTime;
+    private volatile boolean shutdown;
+    private Thread thread;
+
+    public HashedWheelScheduledExecutorService() {
+    }
+
+    public HashedWheelScheduledExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public HashedWheelScheduledExecutorService(ExecutorService executorService, long tickDuration, int ticksPerWheel) {
+        this.executorService = executorService;
+        this.tickDuration = tickDuration;
+        this.ticksPerWheel = ticksPerWheel;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the thread pool to use for executing the tasks. If none is configured then a thread pool is created from the
+     * {@link CamelContext}.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @ManagedAttribute(description = "The duration in millis between ticks of the wheel")
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Sets the duration in millis between ticks of the wheel, which is the precision of the delays.
+     * <p/>
+     * The default is 10 millis.
+     */
+    public void setTickDuration(long tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    @ManagedAttribute(description = "The number of ticks (buckets) of the wheel")
+    public int getTicksPerWheel() {
+        return ticksPerWheel;
+    }
+
+    /**
+     * Sets the number of ticks (buckets) of the wheel, which is rounded up to a power of two. Tasks which are delayed
+     * longer than a full round of the wheel stays in their bucket for the number of rounds needed.
+     * <p/>
+     * The default is 512.
+     */
+    public void setTicksPerWheel(int ticksPerWheel) {
+        this.ticksPerWheel = ticksPerWheel;
+    }
+
+    /**
+     * Number of delayed tasks which are pending
+     */
+    @ManagedAttribute(description = "Number of delayed tasks which are pending")
+    public int getPendingTaskCount() {
+        return pending.get();
+    }
+
+    /**
+     * Number of delayed tasks in the given group which are pending
+     */
+    @ManagedOperation(description = "Number of delayed tasks in the given group which are pending")
+    public int getPendingTaskCount(String group) {
+        AtomicInteger counter = pendingByGroup.get(group);
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * Number of delayed tasks which are pending per group
+     */
+    public Map<String, Integer> getPendingTaskCounts() {
+        Map<String, Integer> answer = new TreeMap<>();
+        pendingByGroup.forEach((k, v) -> {
+            int count = v.get();
+            if (count > 0) {
+                answer.put(k, count);
+            }
+        });
+        return answer;
+    }
+
+    @ManagedOperation(description = "Lists the number of delayed tasks which are pending per group")
+    public TabularData listPendingTasks() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listPendingTasksTabularType());
+            CompositeType ct = CamelOpenMBeanTypes.listPendingTasksCompositeType();
+            for (Map.Entry<String, Integer> entry : getPendingTaskCounts().entrySet()) {
+                CompositeData data = new CompositeDataSupport(
+                        ct, new String[] { "group", "pending" }, new Object[] { entry.getKey(), entry.getValue() });
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Schedules the task to be executed after the given delay, and keeps track of the task as pending in the given
+     * group until the task is due.
+     *
+     * @param  command the task
+     * @param  delay   the delay
+     * @param  unit    the time unit of the delay
+     * @param  group   the group (such as a route id), or <tt>null</tt> for no group
+     * @return         a future representing the pending task
+     */
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit, String group) {
+        ObjectHelper.notNull(command, "command");
+        return doSchedule(new WheelTask<>(command, null, unit.toNanos(delay), 0, group));
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(command, delay, unit, null);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        ObjectHelper.notNull(callable, "callable");
+        return doSchedule(new WheelTask<>(callable, unit.toNanos(delay), 0, null));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        ObjectHelper.notNull(command, "command");
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+        return doSchedule(new WheelTask<>(command, null, unit.toNanos(initialDelay), unit.toNanos(period), null));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        ObjectHelper.notNull(command, "command");
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive");
+        }
+        return doSchedule(new WheelTask<>(command, null, unit.toNanos(initialDelay), -unit.toNanos(delay), null));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        ensureStarted();
+        executorService.execute(command);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        ensureStarted();
+        return executorService.submit(task);
+    }
+
+    @Override
+    public <T> Future<T> submit(Runnable task, T result) {
+        ensureStarted();
+        return executorService.submit(task, result);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        ensureStarted();
+        return executorService.submit(task);
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        ensureStarted();
+        return executorService.invokeAll(tasks);
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        ensureStarted();
+        return executorService.invokeAll(tasks, timeout, unit);
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        ensureStarted();
+        return executorService.invokeAny(tasks);
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        ensureStarted();
+        return executorService.invokeAny(tasks, timeout, unit);
+    }
+
+    @Override
+    public void shutdown() {
+        stop();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> answer = new ArrayList<>();
+        stopTimer(answer);
+        stop();
+        return answer;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return isStopping() || isTerminated();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        // a new executor which has not been started yet is not terminated
+        return isStopped() && !isNew() && !isBuild() && !isInit();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        Thread t = thread;
+        if (t != null) {
+            t.join(Math.max(1, unit.toMillis(timeout)));
+            return !t.isAlive();
+        }
+        return true;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("TickDuration must be positive");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("TicksPerWheel must be between 1 and " + (1 << 30));
+        }
+        if (executorService == null) {
+            ObjectHelper.notNull(camelContext, "camelContext", this);
+            executorService = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "HashedWheelTimer");
+            shutdownExecutorService = true;
+        }
+
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        wheel = new Bucket[Math.max(1, size)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+        shutdown = false;
+        startTime = System.nanoTime();
+
+        Runnable worker = this::runTimer;
+        if (camelContext != null) {
+            thread = camelContext.getExecutorServiceManager().newThread("HashedWheelTimer", worker);
+        } else {
+            thread = new Thread(worker, "Camel HashedWheelTimer");
+        }
+        thread.setDaemon(true);
+        thread.start();
+        LOG.debug("Started hashed wheel timer with {} ticks of {} millis", wheel.length, tickDuration);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        List<Runnable> unprocessed = new ArrayList<>();
+        stopTimer(unprocessed);
+        // the pending tasks which was not executed are cancelled
+        for (Runnable task : unprocessed) {
+            ((Future<?>) task).cancel(false);
+        }
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
+    private void ensureStarted() {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("Executor is shutdown: " + this);
+        }
+        if (!isStarted()) {
+            start();
+        }
+    }
+
+    private <V> ScheduledFuture<V> doSchedule(WheelTask<V> task) {
+        ensureStarted();
+        // the deadline is relative to the start time of the wheel
+        task.deadline = System.nanoTime() - startTime + Math.max(0, task.delay);
+        incrementPending(task.group);
+        newTasks.add(task);
+        return task;
+    }
+
+    /**
+     * Stops the timer thread and collects the tasks which are pending
+     */
+    private void stopTimer(List<Runnable> unprocessed) {
+        shutdown = true;
+        Thread t = thread;
+        if (t != null) {
+            t.interrupt();
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+        if (wheel != null) {
+            for (Bucket bucket : wheel) {
+                bucket.drain(unprocessed);
+            }
+        }
+        WheelTask<?> task = newTasks.poll();
+        while (task != null) {
+            if (!task.isCancelled()) {
+                unprocessed.add(task);
+            }
+            task = newTasks.poll();
+        }
+        cancelledTasks.clear();
+        pending.set(0);
+        pendingByGroup.clear();
+    }
+
+    private void runTimer() {
+        long tick = 0;
+        while (!shutdown) {
+            long deadline = waitForNextTick(tick);
+            if (deadline < 0) {
+                break;
+            }
+            removeCancelledTasks();
+            transferNewTasks(tick);
+            wheel[(int) (tick & (wheel.length - 1))].expire(deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * Waits until the given tick is due
+     *
+     * @return the current time relative to the start time, or <tt>-1</tt> if shutdown
+     */
+    private long waitForNextTick(long tick) {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startTime;
+            long sleep = TimeUnit.NANOSECONDS.toMillis(deadline - current + 999999);
+            if (sleep <= 0) {
+                return current;
+            }
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException e) {
+                if (shutdown) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferNewTasks(long tick) {
+        for (int i = 0; i < MAX_TRANSFER; i++) {
+            WheelTask<?> task = newTasks.poll();
+            if (task == null) {
+                break;
+            }
+            if (task.isCancelled()) {
+                decrementPending(task.group);
+                continue;
+            }
+            long calculated = task.deadline / tickNanos;
+            task.remainingRounds = (calculated - tick) / wheel.length;
+            // tasks which are already due are added to the current tick
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & (wheel.length - 1))].add(task);
+        }
+    }
+
+    private void removeCancelledTasks() {
+        WheelTask<?> task = cancelledTasks.poll();
+        while (task != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                decrementPending(task.group);
+            }
+            task = cancelledTasks.poll();
+        }
+    }
+
+    private void dispatch(WheelTask<?> task) {
+        decrementPending(task.group);
+        try {
+            executorService.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Cannot execute task: {} due to: {}", task, e.getMessage());
+            task.reject(e);
+        }
+    }
+
+    private void incrementPending(String group) {
+        pending.incrementAndGet();
+        if (group != null) {
+            pendingByGroup.computeIfAbsent(group, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    private void decrementPending(String group) {
+        pending.decrementAndGet();
+        if (group != null) {
+            AtomicInteger counter = pendingByGroup.get(group);
+            if (counter != null) {
+                counter.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HashedWheelScheduledExecutorService[tickDuration=" + tickDuration + ", ticksPerWheel=" + ticksPerWheel
+               + ", pending=" + pending.get() + "]";
+    }
+
+    /**
+     * A bucket of the wheel, which is a doubly linked list of tasks that is only accessed by the timer thread
+     */
+    private final class Bucket {
+        private WheelTask<?> head;
+        private WheelTask<?> tail;
+
+        void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void expire(long deadline) {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                if (task.isCancelled()) {
+                    remove(task);
+                    decrementPending(task.group);
+                } else if (task.remainingRounds <= 0) {
+                    remove(task);
+                    dispatch(task);
+                } else {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+        }
+
+        void remove(WheelTask<?> task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+            if (task == head) {
+                head = task.next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        void drain(List<Runnable> unprocessed) {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                remove(task);
+                if (!task.isCancelled()) {
+                    unprocessed.add(task);
+                }
+                task = next;
+            }
+        }
+    }
+
+    private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        private final long delay;
+        // positive for fixed rate, negative for fixed delay, and 0 for not periodic
+        private final long period;
+        private final String group;
+        private long deadline;
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTask<?> next;
+        private WheelTask<?> prev;
+
+        WheelTask(Runnable runnable, V result, long delay, long period, String group) {
+            super(runnable, result);
+            this.delay = delay;
+            this.period = period;
+            this.group = group;
+        }
+
+        WheelTask(Callable<V> callable, long delay, long period, String group) {
+            super(callable);
+            this.delay = delay;
+            this.period = period;
+            this.group = group;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(startTime + deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean answer = super.cancel(mayInterruptIfRunning);
+            if (answer) {
+                // the timer thread removes the task from the wheel
+                cancelledTasks.add(this);
+            }
+            return answer;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset() && !shutdown) {
+                // reschedule the next run
+                long now = System.nanoTime() - startTime;
+                deadline = period > 0 ? deadline + period : now - period;
+                incrementPending(group);
+                newTasks.add(this);
+            }
+        }
+
+        void reject(RejectedExecutionException e) {
+            setException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import org.apache.camel.support.cache.TinyLfuCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link LRUCacheFactory} which creates bounded caches using the W-TinyLFU eviction policy ({@link TinyLfuCache}),
+ * which keeps frequently used entries, such as the producers of a toD or recipient list with many distinct endpoints,
+ * from being evicted by entries which are used only once. The soft caches are the same as the
+ * {@link DefaultLRUCacheFactory}.
+ * <p/>
+ * The evicted values (such as producers to be stopped) are processed asynchronously by an {@link Executor}, which is
+ * by default the common fork join pool.
+ * <p/>
+ * To use this factory, then call {@link LRUCacheFactory#setLRUCacheFactory(LRUCacheFactory)} before Camel is started,
+ * or add the file <tt>META-INF/services/org/apache/camel/lru-cache-factory</tt> to the classpath with the content
+ * <tt>class=org.apache.camel.support.TinyLfuLRUCacheFactory</tt>.
+ */
+public class TinyLfuLRUCacheFactory extends DefaultLRUCacheFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TinyLfuLRUCacheFactory.class);
+
+    private final Executor executor;
+
+    public TinyLfuLRUCacheFactory() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public TinyLfuLRUCacheFactory(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public <K, V> Map<K, V> createLRUCache(int maximumCacheSize, Consumer<V> onEvict) {
+        LOG.trace("Creating TinyLfuCache with maximumCacheSize: {}, with onEvict", maximumCacheSize);
+        return new TinyLfuCache<>(16, maximumCacheSize, onEvict, executor);
+    }
+
+    @Override
+    public <K, V> Map<K, V> createLRUCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
+        LOG.trace("Creating TinyLfuCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}",
+                initialCapacity, maximumCacheSize, stopOnEviction);
+        return new TinyLfuCache<K, V>(
+                initialCapacity, maximumCacheSize,
+                stopOnEviction ? this::doStop : this::doNothing, stopOnEviction ? executor : Runnable::run);
+    }
+
+    @Override
+    public String toString() {
+        return "TinyLfuLRUCacheFactory";
+    }
+}
@@ -393,6 +393,36 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         }
     }
 
+    /**
+     * Number of times an existing producer was acquired from the cache
+     */
+    public long getHits() {
+        return producers != null ? producers.getHits() : 0;
+    }
+
+    /**
+     * Number of times a new producer was created, as there was none in the cache
+     */
+    public long getMisses() {
+        return producers != null ? producers.getMisses() : 0;
+    }
+
+    /**
+     * Number of producers evicted from the cache
+     */
+    public long getEvicted() {
+        return producers != null ? producers.getEvicted() : 0;
+    }
+
+    /**
+     * Resets the hits, misses and evicted statistics
+     */
+    public void resetStatistics() {
+        if (producers != null) {
+            producers.resetStatistics();
+        }
+    }
+
     @Override
     public EndpointUtilizationStatistics getEndpointUtilizationStatistics() {
         return statistics;
@@ -24,6 +24,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
@@ -54,6 +55,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
     private final int capacity;
     private final Map<S, S> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
 
     private interface Pool<S> {
         S acquire() throws Exception;
@@ -84,6 +88,7 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      * the same time its being evicted.
      */
     protected void onEvict(S s) {
+        evicted.increment();
         Endpoint e = getEndpoint.apply(s);
         Pool<S> p = pool.get(e);
         if (p != null) {
@@ -154,6 +159,36 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         return pool.values().stream().mapToInt(Pool::size).sum();
     }
 
+    /**
+     * Number of times an existing producer/consumer was acquired from the pool
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times a new producer/consumer was created, as there was none in the pool
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of producers/consumers evicted from the pool
+     */
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    /**
+     * Resets the hits, misses and evicted statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
     /**
      * Cleanup the pool (removing stale instances that should be evicted)
      */
@@ -213,8 +248,13 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
                         S tempS = creator.apply(endpoint);
                         endpoint.getCamelContext().addService(tempS, true, true);
                         s = tempS;
+                        misses.increment();
+                    } else {
+                        hits.increment();
                     }
                 }
+            } else {
+                hits.increment();
             }
             LOG.trace("Acquired service: {}", s);
             return s;
@@ -307,6 +347,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             if (s == null) {
                 s = creator.apply(endpoint);
                 s.start();
+                misses.increment();
+            } else {
+                hits.increment();
             }
             return s;
         }
@@ -0,0 +1,663 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.camel.support.LRUCache;
+
+/**
+ * {@code TinyLfuCache} is a bounded cache which uses the W-TinyLFU eviction policy, as used by the Caffeine library.
+ * <p/>
+ * New entries are added to a small admission window (1% of the capacity) which is ordered by recency. Entries leaving
+ * the window compete with the least recently used entry of the main space for a place in the cache, and the entry
+ * which has been used the most (as estimated by a count-min sketch of the access frequency of recent keys) is kept.
+ * The main space is a segmented LRU where entries accessed more than once are protected from being evicted by one-hit
+ * wonders. This keeps the frequently used entries in the cache when there are many distinct keys which are only used
+ * a few times, where a plain LRU cache would churn.
+ * <p/>
+ * Reads are lock-free. A read records the access in a striped and lossy ring buffer, and the buffers are drained in
+ * batches to update the eviction policy under a lock, which is only taken by writes, or by a read which finds its
+ * buffer full. The evicted values are passed to the eviction callback using an {@link Executor} after the lock has
+ * been released, so expensive callbacks (such as stopping a producer) can be run asynchronously. The implementation
+ * doesn't accept null keys or values.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class TinyLfuCache<K, V> extends AbstractMap<K, V> implements LRUCache<K, V>, ConcurrentMap<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int RETIRED = 3;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final int maximumCacheSize;
+    private final int maximumWindowSize;
+    private final int maximumProtectedSize;
+    private final Consumer<V> evict;
+    private final Executor executor;
+    private final FrequencySketch sketch;
+    private final ReadBuffer[] readBuffers;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    // the following are guarded by the eviction lock
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedQueue = new AccessOrderDeque<>();
+    private int windowSize;
+    private int protectedSize;
+    private int size;
+
+    public TinyLfuCache(int maximumCacheSize, Consumer<V> evicted) {
+        this(16, maximumCacheSize, evicted, Runnable::run);
+    }
+
+    public TinyLfuCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted, Executor executor) {
+        this.data = new ConcurrentHashMap<>(initialCapacity);
+        this.maximumCacheSize = maximumCacheSize;
+        this.maximumWindowSize = Math.max(1, maximumCacheSize / 100);
+        this.maximumProtectedSize = (int) ((maximumCacheSize - maximumWindowSize) * 0.8d);
+        this.evict = Objects.requireNonNull(evicted);
+        this.executor = Objects.requireNonNull(executor);
+        this.sketch = new FrequencySketch(maximumCacheSize);
+        int stripes = Integer.highestOneBit(Math.min(16, Runtime.getRuntime().availableProcessors()));
+        this.readBuffers = new ReadBuffer[stripes];
+        for (int i = 0; i < stripes; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return doPut(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return doPut(key, value, true);
+    }
+
+    private V doPut(K key, V value, boolean onlyIfAbsent) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> prior = data.putIfAbsent(key, node);
+        if (prior == null) {
+            misses.increment();
+            afterWrite(node);
+            return null;
+        }
+        hits.increment();
+        V answer = prior.value;
+        if (!onlyIfAbsent) {
+            prior.value = value;
+        }
+        afterRead(prior);
+        return answer;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (key == null || mappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            hits.increment();
+            afterRead(node);
+            return node.value;
+        }
+        misses.increment();
+        List<Node<K, V>> created = new ArrayList<>(1);
+        node = data.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            if (value == null) {
+                return null;
+            }
+            Node<K, V> answer = new Node<>(k, value);
+            created.add(answer);
+            return answer;
+        });
+        if (node == null) {
+            return null;
+        }
+        if (created.isEmpty()) {
+            afterRead(node);
+        } else {
+            afterWrite(node);
+        }
+        return node.value;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        afterRemove(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        Node<K, V> node = data.get(key);
+        if (node != null && Objects.equals(node.value, value) && data.remove(key, node)) {
+            afterRemove(node);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        if (key == null || oldValue == null || newValue == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return false;
+        }
+        synchronized (node) {
+            if (!Objects.equals(node.value, oldValue)) {
+                return false;
+            }
+            node.value = newValue;
+        }
+        afterRead(node);
+        return true;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        V answer;
+        synchronized (node) {
+            answer = node.value;
+            node.value = value;
+        }
+        afterRead(node);
+        return answer;
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            for (ReadBuffer buffer : readBuffers) {
+                buffer.drain(n -> {
+                });
+            }
+            data.values().forEach(n -> n.queue = RETIRED);
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+            windowSize = 0;
+            protectedSize = 0;
+            size = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Node<K, V>> it = data.values().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Node<K, V> node = it.next();
+                        return new SimpleImmutableEntry<>(node.key, node.value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return data.size();
+            }
+        };
+    }
+
+    @Override
+    public void cleanUp() {
+        List<V> evicts = new ArrayList<>();
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            evictEntries(evicts);
+        } finally {
+            evictionLock.unlock();
+        }
+        notifyEvicted(evicts);
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    @Override
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public int getMaxCacheSize() {
+        return maximumCacheSize;
+    }
+
+    private void afterRead(Node<K, V> node) {
+        ReadBuffer buffer = readBuffers[Thread.currentThread().hashCode() & (readBuffers.length - 1)];
+        if (!buffer.offer(node) && evictionLock.tryLock()) {
+            // the buffer is full, so drain it if no other thread is doing so
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(Node<K, V> node) {
+        List<V> evicts = new ArrayList<>();
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            sketch.increment(node.key);
+            // the node may have been removed before the lock was acquired
+            if (node.queue != RETIRED) {
+                node.queue = WINDOW;
+                window.addLast(node);
+                windowSize++;
+                size++;
+                evictEntries(evicts);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        notifyEvicted(evicts);
+    }
+
+    private void afterRemove(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            retire(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainReadBuffers() {
+        for (ReadBuffer buffer : readBuffers) {
+            buffer.drain(n -> onAccess((Node<K, V>) n));
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+        if (node.queue == WINDOW) {
+            window.moveToBack(node);
+        } else if (node.queue == PROBATION) {
+            // accessed again, so protect it
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedQueue.addLast(node);
+            protectedSize++;
+            while (protectedSize > maximumProtectedSize) {
+                Node<K, V> demoted = protectedQueue.pollFirst();
+                protectedSize--;
+                demoted.queue = PROBATION;
+                probation.addLast(demoted);
+            }
+        } else if (node.queue == PROTECTED) {
+            protectedQueue.moveToBack(node);
+        }
+    }
+
+    private void evictEntries(List<V> evicts) {
+        // the entries leaving the window are candidates for the main space
+        int candidates = 0;
+        while (windowSize > maximumWindowSize) {
+            Node<K, V> node = window.pollFirst();
+            windowSize--;
+            node.queue = PROBATION;
+            probation.addLast(node);
+            candidates++;
+        }
+
+        while (size > maximumCacheSize) {
+            Node<K, V> victim = probation.peekFirst();
+            Node<K, V> candidate = candidates > 0 ? probation.peekLast() : null;
+            if (victim == null) {
+                victim = protectedQueue.peekFirst() != null ? protectedQueue.peekFirst() : window.peekFirst();
+                evictNode(victim, evicts);
+            } else if (candidate == null || candidate == victim) {
+                evictNode(victim, evicts);
+                candidates = 0;
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                // the candidate is admitted as it is used more than the victim
+                evictNode(victim, evicts);
+            } else {
+                evictNode(candidate, evicts);
+                candidates--;
+            }
+        }
+    }
+
+    private void evictNode(Node<K, V> node, List<V> evicts) {
+        retire(node);
+        if (data.remove(node.key, node)) {
+            evicted.increment();
+            evicts.add(node.value);
+        }
+    }
+
+    private void retire(Node<K, V> node) {
+        if (node.queue == WINDOW) {
+            window.remove(node);
+            windowSize--;
+            size--;
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+            size--;
+        } else if (node.queue == PROTECTED) {
+            protectedQueue.remove(node);
+            protectedSize--;
+            size--;
+        }
+        node.queue = RETIRED;
+    }
+
+    private void notifyEvicted(List<V> evicts) {
+        if (!evicts.isEmpty()) {
+            executor.execute(() -> evicts.forEach(evict));
+        }
+    }
+
+    /**
+     * An entry in the cache, which is linked in the queue of the eviction policy it belongs to.
+     */
+    private static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        // the following are guarded by the eviction lock, where a new node is not in a queue yet
+        int queue = -1;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A doubly linked list of nodes ordered by access, with the least recently used node first.
+     */
+    private static final class AccessOrderDeque<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        Node<K, V> peekFirst() {
+            return first;
+        }
+
+        Node<K, V> peekLast() {
+            return last;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            first = null;
+            last = null;
+        }
+    }
+
+    /**
+     * A lossy ring buffer of the nodes which have been read. Offering a node to a full buffer (or under contention)
+     * drops it, as the eviction policy only needs a sample of the accesses.
+     */
+    private static final class ReadBuffer {
+        private static final int SIZE = 64;
+        private static final int MASK = SIZE - 1;
+
+        private final AtomicReferenceArray<Object> buffer = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        // only written by the thread holding the eviction lock
+        private volatile long readCounter;
+
+        /**
+         * Offers the node to the buffer
+         *
+         * @return {@code false} if the buffer is full and should be drained
+         */
+        boolean offer(Object node) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            if (tail - head >= SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & MASK), node);
+            }
+            return true;
+        }
+
+        void drain(Consumer<Object> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            while (head < tail) {
+                int index = (int) (head & MASK);
+                Object node = buffer.get(index);
+                if (node == null) {
+                    // the node has not been published yet
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(node);
+                head++;
+            }
+            readCounter = head;
+        }
+    }
+
+    /**
+     * A count-min sketch with four 4-bit counters per key which estimates the access frequency of the keys. The
+     * counters are halved periodically so the estimate favours the recent accesses.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int length = Integer.highestOneBit(Math.min(Math.max(8, maximumSize - 1), 1 << 24) << 1);
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = Math.max(10, 10 * maximumSize);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int offset = offsetOf(hash, i);
+                frequency = Math.min(frequency, (int) ((table[index] >>> offset) & 0xfL));
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int offset = offsetOf(hash, i);
+                if (((table[index] >>> offset) & 0xfL) != 0xfL) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions = additions >>> 1;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        private static int offsetOf(int hash, int i) {
+            // one of the 16 counters in the long
+            return ((hash >>> (i << 3)) & 0xf) << 2;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
@@ -0,0 +1,580 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which is intended for storing a
+ * large number of keys with bounded heap usage.
+ * <p/>
+ * The keys are stored in an append-only key log, which is split into segments of {@link #getMaxSegmentSize()} bytes. A
+ * memory mapped index (hash table) of the location of the keys in the key log is used for looking up the keys, and a
+ * scalable bloom filter is in front of the index, so checking keys that are not in the repository (which is the common
+ * case) does not read from disk.
+ * <p/>
+ * Removing a key marks the key as removed in the key log, and when a segment has more removed keys than the
+ * {@link #getCompactionThreshold()} then the segment is compacted, by appending the keys that are not removed to the
+ * end of the key log, and deleting the segment.
+ * <p/>
+ * The index and the bloom filter are rebuilt from the key log when the repository is started.
+ */
+@Metadata(label = "bean",
+          description = "A file based idempotent repository for a large number of keys. Comes with a bloom filter"
+                        + " and a memory mapped index for fast check of the keys.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Bloom filter and file based idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIdempotentRepository.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final byte LIVE = 1;
+    private static final byte REMOVED = 0;
+    // a record is the live/removed marker, the length of the key and the key (utf-8)
+    private static final int HEADER_SIZE = 5;
+
+    private final Object lock = new Object();
+    private final NavigableMap<Integer, Segment> segments = new TreeMap<>();
+    private final LongAdder falsePositives = new LongAdder();
+    private Segment active;
+    private MappedKeyIndex index;
+    private ScalableBloomFilter filter;
+
+    @Metadata(description = "Directory of the repository, where the key log and the index is stored", required = true)
+    private File fileStore;
+    @Metadata(description = "The number of keys the bloom filter is initially sized for. The bloom filter grows"
+                            + " when more keys are added.",
+              defaultValue = "1000000")
+    private long bloomFilterCapacity = 1000000;
+    @Metadata(description = "The false positive probability of the bloom filter", defaultValue = "0.01")
+    private double falsePositiveProbability = 0.01;
+    @Metadata(description = "The maximum size of a segment of the key log in bytes. The default value is 64mb",
+              defaultValue = "" + 64 * 1024 * 1024)
+    private long maxSegmentSize = 64 * 1024 * 1024;
+    @Metadata(description = "The ratio (0 to 1) of removed keys in a segment of the key log that triggers compaction of"
+                            + " the segment",
+              defaultValue = "0.5")
+    private double compactionThreshold = 0.5;
+
+    public BloomFilterIdempotentRepository() {
+    }
+
+    public BloomFilterIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new bloom filter and file based repository.
+     *
+     * @param fileStore the directory of the repository
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(File fileStore) {
+        return new BloomFilterIdempotentRepository(fileStore);
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        synchronized (lock) {
+            if (find(hash, bytes) >= 0) {
+                return false;
+            }
+            try {
+                long location = append(bytes);
+                index.put(hash, location);
+                filter.put(hash);
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        synchronized (lock) {
+            return find(hash, bytes) >= 0;
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        synchronized (lock) {
+            long slot = find(hash, bytes);
+            if (slot < 0) {
+                return false;
+            }
+            long location = index.location(slot);
+            Segment segment = segments.get(segmentId(location));
+            try {
+                // the bloom filter cannot remove keys, so the index is the one to tell the key is removed
+                writeMarker(segment, offset(location), REMOVED);
+                index.remove(slot);
+                segment.live--;
+                compact();
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        synchronized (lock) {
+            try {
+                closeSegments(true);
+                index.clear();
+                filter.clear();
+                active = createSegment(1);
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    /**
+     * Sets the directory of the repository, where the key log and the index is stored
+     */
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The directory path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The number of keys the bloom filter is initially sized for")
+    public long getBloomFilterCapacity() {
+        return bloomFilterCapacity;
+    }
+
+    /**
+     * Sets the number of keys the bloom filter is initially sized for. The bloom filter grows when more keys are added,
+     * but each time it grows then checking keys becomes a bit slower, so it is best to size the bloom filter for the
+     * expected number of keys.
+     * <p/>
+     * The default is 1000000.
+     */
+    public void setBloomFilterCapacity(long bloomFilterCapacity) {
+        this.bloomFilterCapacity = bloomFilterCapacity;
+    }
+
+    @ManagedAttribute(description = "The false positive probability of the bloom filter")
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Sets the false positive probability of the bloom filter, which is the probability that checking a key which is
+     * not in the repository has to look up the key in the index and key log.
+     * <p/>
+     * The default is 0.01.
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @ManagedAttribute(description = "The maximum size of a segment of the key log in bytes")
+    public long getMaxSegmentSize() {
+        return maxSegmentSize;
+    }
+
+    /**
+     * Sets the maximum size of a segment of the key log in bytes.
+     * <p/>
+     * The default is 64mb.
+     */
+    public void setMaxSegmentSize(long maxSegmentSize) {
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    @ManagedAttribute(description = "The ratio of removed keys in a segment that triggers compaction of the segment")
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the ratio (0 to 1) of removed keys in a segment of the key log that triggers compaction of the segment.
+     * <p/>
+     * The default is 0.5.
+     */
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @ManagedAttribute(description = "The current number of keys in the store")
+    public long getSize() {
+        synchronized (lock) {
+            return index != null ? index.size() : 0;
+        }
+    }
+
+    @ManagedAttribute(description = "The current number of segments of the key log")
+    public int getSegmentCount() {
+        synchronized (lock) {
+            return segments.size();
+        }
+    }
+
+    @ManagedAttribute(description = "The current size of the bloom filter in bits")
+    public long getBloomFilterSize() {
+        synchronized (lock) {
+            return filter != null ? filter.getBitSize() : 0;
+        }
+    }
+
+    @ManagedAttribute(description = "Number of keys the bloom filter could not rule out, which was not in the store")
+    public long getFalsePositiveCounter() {
+        return falsePositives.sum();
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        falsePositives.reset();
+    }
+
+    /**
+     * Finds the key in the index
+     *
+     * @return the slot in the index, or <tt>-1</tt> if not found
+     */
+    private long find(long hash, byte[] key) {
+        if (!filter.mightContain(hash)) {
+            return -1;
+        }
+        long slot = index.find(hash, location -> matches(location, key));
+        if (slot < 0) {
+            falsePositives.increment();
+        }
+        return slot;
+    }
+
+    /**
+     * Whether the key at the given location in the key log is the key
+     */
+    private boolean matches(long location, byte[] key) {
+        Segment segment = segments.get(segmentId(location));
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + key.length);
+        try {
+            // the key at the location may be shorter and be the last key in the segment
+            if (!readFully(segment.channel, buffer, offset(location))) {
+                return false;
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        return buffer.getInt(1) == key.length
+                && Arrays.equals(buffer.array(), HEADER_SIZE, buffer.limit(), key, 0, key.length);
+    }
+
+    /**
+     * Appends the key to the key log
+     *
+     * @return the location of the key
+     */
+    private long append(byte[] key) throws IOException {
+        if (active.size > 0 && active.size + HEADER_SIZE + key.length > maxSegmentSize) {
+            LOG.debug("Rolling segment: {} of idempotent filestore: {}", active.id, fileStore);
+            active = createSegment(active.id + 1);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + key.length);
+        buffer.put(LIVE).putInt(key.length).put(key).flip();
+        long offset = active.size;
+        while (buffer.hasRemaining()) {
+            active.channel.write(buffer, offset + buffer.position());
+        }
+        active.size += buffer.limit();
+        active.records++;
+        active.live++;
+        return location(active.id, offset);
+    }
+
+    /**
+     * Compacts the segments (except the active segment) which has more removed keys than the compaction threshold
+     */
+    private void compact() throws IOException {
+        List<Segment> candidates = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            if (segment != active && segment.records - segment.live > segment.records * compactionThreshold) {
+                candidates.add(segment);
+            }
+        }
+        for (Segment segment : candidates) {
+            LOG.debug("Compacting segment: {} with {} of {} keys removed of idempotent filestore: {}", segment.id,
+                    segment.records - segment.live, segment.records, fileStore);
+            if (segment.live > 0) {
+                readSegment(segment, (offset, live, key) -> {
+                    if (live) {
+                        long location = location(segment.id, offset);
+                        long slot = index.find(hash(key), l -> l == location);
+                        if (slot >= 0) {
+                            index.location(slot, append(key));
+                        }
+                    }
+                });
+            }
+            segments.remove(segment.id);
+            segment.channel.close();
+            Files.deleteIfExists(segment.file);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the segment, and truncates the segment if the last key was not completely written
+     */
+    private void loadSegment(Segment segment) throws IOException {
+        long valid = readSegment(segment, (offset, live, key) -> {
+            segment.records++;
+            if (live) {
+                long hash = hash(key);
+                long location = location(segment.id, offset);
+                if (index.find(hash, l -> matches(l, key)) >= 0) {
+                    // a key that was copied by compaction which was interrupted before the segment was deleted
+                    writeMarker(segment, offset, REMOVED);
+                } else {
+                    index.put(hash, location);
+                    segment.live++;
+                }
+            }
+        });
+        if (valid < segment.size) {
+            LOG.warn("Truncating segment: {} of idempotent filestore: {} from {} to {} bytes as the last key was not"
+                     + " completely written",
+                    segment.id, fileStore, segment.size, valid);
+            segment.channel.truncate(valid);
+            segment.size = valid;
+        }
+    }
+
+    /**
+     * Reads the keys in the segment
+     *
+     * @return the number of bytes read of complete keys
+     */
+    private static long readSegment(Segment segment, RecordVisitor visitor) throws IOException {
+        long offset = 0;
+        try (DataInputStream in
+                = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment.file), 65536))) {
+            while (offset < segment.size) {
+                byte marker = in.readByte();
+                int length = in.readInt();
+                if (length < 0 || offset + HEADER_SIZE + length > segment.size) {
+                    break;
+                }
+                byte[] key = new byte[length];
+                in.readFully(key);
+                visitor.visit(offset, marker == LIVE, key);
+                offset += HEADER_SIZE + length;
+            }
+        } catch (EOFException e) {
+            // the last key was not completely written
+        }
+        return offset;
+    }
+
+    private static void writeMarker(Segment segment, long offset, byte marker) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1).put(0, marker);
+        while (buffer.hasRemaining()) {
+            segment.channel.write(buffer, offset);
+        }
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Segment createSegment(int id) throws IOException {
+        Path file = fileStore.toPath().resolve(String.format("%s%010d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        Segment segment = new Segment(id, file);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void closeSegments(boolean delete) throws IOException {
+        for (Segment segment : segments.values()) {
+            IOHelper.close(segment.channel, "Closing segment of idempotent repository", LOG);
+            if (delete) {
+                Files.deleteIfExists(segment.file);
+            }
+        }
+        segments.clear();
+        active = null;
+    }
+
+    private static long location(int segmentId, long offset) {
+        return (long) segmentId << 32 | offset;
+    }
+
+    private static int segmentId(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static long offset(long location) {
+        return location & 0xFFFFFFFFL;
+    }
+
+    /**
+     * 64-bit hash of the key (FNV-1a with the MurmurHash3 finalizer to mix the bits)
+     */
+    static long hash(byte[] key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return MappedKeyIndex.normalize(h);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+        if (maxSegmentSize <= 0 || maxSegmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("MaxSegmentSize must be between 1 and " + Integer.MAX_VALUE);
+        }
+
+        Path dir = fileStore.toPath();
+        Files.createDirectories(dir);
+
+        List<Integer> ids = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    String id = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                    ids.add(Integer.parseInt(id));
+                } else if (name.endsWith(INDEX_SUFFIX)) {
+                    // the index is rebuilt from the key log
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        ids.sort(null);
+
+        synchronized (lock) {
+            index = new MappedKeyIndex(dir, bloomFilterCapacity * 2);
+            index.open();
+            for (int id : ids) {
+                loadSegment(createSegment(id));
+            }
+            // size the bloom filter so it holds the existing keys without growing
+            filter = new ScalableBloomFilter(Math.max(bloomFilterCapacity, index.size()), falsePositiveProbability);
+            index.forEachHash(filter::put);
+            active = ids.isEmpty() ? createSegment(1) : segments.lastEntry().getValue();
+            compact();
+        }
+
+        LOG.debug("Loaded {} keys from {} segments of idempotent filestore: {}", index.size(), ids.size(), fileStore);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        synchronized (lock) {
+            closeSegments(false);
+            if (index != null) {
+                index.close();
+                index = null;
+            }
+            filter = null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(long offset, boolean live, byte[] key) throws IOException;
+    }
+
+    private static final class Segment {
+        private final int id;
+        private final Path file;
+        private final FileChannel channel;
+        private long size;
+        private long records;
+        private long live;
+
+        Segment(int id, Path file) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.size = channel.size();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An open addressing hash table stored in a memory mapped file, which maps the 64-bit hash of a key to the location of
+ * the key in the key log. The table keeps the heap usage bounded regardless of the number of keys, and lets the
+ * operating system page the table in and out of memory.
+ * <p/>
+ * As different keys can have the same hash, then the lookups are given a predicate to check the key at the location.
+ * The index file is not durable, and is rebuilt from the key log when the repository is started.
+ * <p/>
+ * The index is not thread-safe, and the pages are unmapped when the index is closed, cleared or resized, so the index
+ * must only be used while holding the lock of the repository.
+ */
+final class MappedKeyIndex implements Closeable {
+
+    static final long EMPTY = 0;
+    static final long DELETED = -1;
+
+    private static final int SLOT_SIZE = 16;
+    // number of slots per mapped page (1gb) as a mapped buffer is limited to 2gb
+    private static final int PAGE_SHIFT = 26;
+    private static final long PAGE_MASK = (1L << PAGE_SHIFT) - 1;
+
+    private final Path directory;
+    private final long initialCapacity;
+    private int generation;
+    private Path file;
+    private FileChannel channel;
+    private MappedByteBuffer[] pages;
+    private long capacity;
+    private long mask;
+    private long size;
+    private long deleted;
+
+    /**
+     * Creates the index
+     *
+     * @param directory       the directory to store the index file
+     * @param initialCapacity the initial number of slots (is rounded up to a power of two)
+     */
+    MappedKeyIndex(Path directory, long initialCapacity) {
+        this.directory = directory;
+        this.initialCapacity = 1L << (64 - Long.numberOfLeadingZeros(Math.max(16, initialCapacity) - 1));
+    }
+
+    /**
+     * Normalizes the hash so it does not collide with the markers for empty and deleted slots
+     */
+    static long normalize(long hash) {
+        return hash == EMPTY || hash == DELETED ? 1 : hash;
+    }
+
+    void open() throws IOException {
+        map(initialCapacity);
+    }
+
+    /**
+     * Finds the slot of the key with the given hash
+     *
+     * @param  hash    the hash of the key
+     * @param  matcher predicate to check whether the key at the given location is the key
+     * @return         the slot, or <tt>-1</tt> if not found
+     */
+    long find(long hash, LongPredicate matcher) {
+        long slot = hash & mask;
+        while (true) {
+            long h = hash(slot);
+            if (h == EMPTY) {
+                return -1;
+            }
+            if (h == hash && matcher.test(location(slot))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Adds the key with the given hash and location (the key must not already be in the index)
+     */
+    void put(long hash, long location) throws IOException {
+        long slot = hash & mask;
+        long h = hash(slot);
+        while (h != EMPTY && h != DELETED) {
+            slot = (slot + 1) & mask;
+            h = hash(slot);
+        }
+        if (h == DELETED) {
+            deleted--;
+        }
+        write(slot, hash, location);
+        size++;
+
+        // keep the load factor below 50% so the probe sequences are short
+        if ((size + deleted) * 2 > capacity) {
+            rehash(size * 4 > capacity ? capacity * 2 : capacity);
+        }
+    }
+
+    long location(long slot) {
+        return page(slot).getLong(offset(slot) + 8);
+    }
+
+    void location(long slot, long location) {
+        page(slot).putLong(offset(slot) + 8, location);
+    }
+
+    void remove(long slot) {
+        page(slot).putLong(offset(slot), DELETED);
+        size--;
+        deleted++;
+    }
+
+    /**
+     * Calls the consumer with the hash of every key in the index
+     */
+    void forEachHash(LongConsumer consumer) {
+        for (long slot = 0; slot < capacity; slot++) {
+            long h = hash(slot);
+            if (h != EMPTY && h != DELETED) {
+                consumer.accept(h);
+            }
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    void clear() throws IOException {
+        close();
+        map(initialCapacity);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            unmap(pages);
+            pages = null;
+            channel.close();
+            channel = null;
+            Files.deleteIfExists(file);
+        }
+        size = 0;
+        deleted = 0;
+    }
+
+    private void rehash(long newCapacity) throws IOException {
+        MappedByteBuffer[] oldPages = pages;
+        long oldCapacity = capacity;
+        FileChannel oldChannel = channel;
+        Path oldFile = file;
+
+        map(newCapacity);
+        size = 0;
+        deleted = 0;
+        for (long slot = 0; slot < oldCapacity; slot++) {
+            MappedByteBuffer page = oldPages[(int) (slot >>> PAGE_SHIFT)];
+            long h = page.getLong(offset(slot));
+            if (h != EMPTY && h != DELETED) {
+                long s = h & mask;
+                while (hash(s) != EMPTY) {
+                    s = (s + 1) & mask;
+                }
+                write(s, h, page.getLong(offset(slot) + 8));
+                size++;
+            }
+        }
+
+        unmap(oldPages);
+        oldChannel.close();
+        Files.deleteIfExists(oldFile);
+    }
+
+    /**
+     * Unmaps the pages now, as otherwise the index file cannot be deleted (on Windows) until the pages are garbage
+     * collected, and the pages would keep using memory and disk space meanwhile.
+     */
+    private static void unmap(MappedByteBuffer[] pages) {
+        for (MappedByteBuffer page : pages) {
+            IOHelper.unmap(page);
+        }
+    }
+
+    private void map(long newCapacity) throws IOException {
+        file = directory.resolve("index-" + (++generation) + ".idx");
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long slotsPerPage = Math.min(newCapacity, 1L << PAGE_SHIFT);
+        int count = (int) (newCapacity / slotsPerPage);
+        pages = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            // the file is extended (with zeros which are empty slots) when mapped
+            long position = i * slotsPerPage * SLOT_SIZE;
+            pages[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, slotsPerPage * SLOT_SIZE);
+        }
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+    }
+
+    private long hash(long slot) {
+        return page(slot).getLong(offset(slot));
+    }
+
+    private void write(long slot, long hash, long location) {
+        MappedByteBuffer page = page(slot);
+        int offset = offset(slot);
+        page.putLong(offset + 8, location);
+        page.putLong(offset, hash);
+    }
+
+    private MappedByteBuffer page(long slot) {
+        return pages[(int) (slot >>> PAGE_SHIFT)];
+    }
+
+    private static int offset(long slot) {
+        return (int) ((slot & PAGE_MASK) * SLOT_SIZE);
+    }
+}
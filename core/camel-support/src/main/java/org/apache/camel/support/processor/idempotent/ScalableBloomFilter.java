@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scalable bloom filter, which is a stack of bloom filters where a new (and bigger) filter is added when the current
+ * filter is full. Each new filter has twice the capacity and half the false positive probability of the previous
+ * filter, so the overall false positive probability stays within the configured probability.
+ * <p/>
+ * The filter works on 64-bit hashes of the keys, which must be well mixed.
+ */
+final class ScalableBloomFilter {
+
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+    private static final double LN2 = Math.log(2);
+
+    private final List<Filter> filters = new ArrayList<>();
+    private final long initialCapacity;
+    private final double falsePositiveProbability;
+
+    /**
+     * Creates the filter
+     *
+     * @param initialCapacity          number of keys the first filter can hold
+     * @param falsePositiveProbability the false positive probability (between 0 and 1)
+     */
+    ScalableBloomFilter(long initialCapacity, double falsePositiveProbability) {
+        this.initialCapacity = Math.max(1, initialCapacity);
+        // the sum of the probabilities of the filters converges to 1 / (1 - TIGHTENING) of the first filter
+        this.falsePositiveProbability = falsePositiveProbability * (1 - TIGHTENING);
+        clear();
+    }
+
+    void put(long hash) {
+        Filter filter = filters.get(filters.size() - 1);
+        if (filter.count >= filter.capacity) {
+            filter = new Filter(filter.capacity * GROWTH, filter.probability * TIGHTENING);
+            filters.add(filter);
+        }
+        filter.put(hash);
+    }
+
+    boolean mightContain(long hash) {
+        // the newest filters are the biggest so check those first
+        for (int i = filters.size() - 1; i >= 0; i--) {
+            if (filters.get(i).mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void clear() {
+        filters.clear();
+        filters.add(new Filter(initialCapacity, falsePositiveProbability));
+    }
+
+    /**
+     * Number of bits in use by the filters
+     */
+    long getBitSize() {
+        long answer = 0;
+        for (Filter filter : filters) {
+            answer += filter.numBits;
+        }
+        return answer;
+    }
+
+    int getFilterCount() {
+        return filters.size();
+    }
+
+    private static final class Filter {
+        private final long capacity;
+        private final double probability;
+        private final long numBits;
+        private final int numHashes;
+        private final long[] bits;
+        private long count;
+
+        Filter(long capacity, double probability) {
+            this.capacity = capacity;
+            this.probability = probability;
+            long m = (long) Math.ceil(-capacity * Math.log(probability) / (LN2 * LN2));
+            // round up to whole longs and cap to the maximum size of an array
+            int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) >>> 6));
+            this.numBits = (long) words << 6;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * LN2));
+            this.bits = new long[words];
+        }
+
+        void put(long hash) {
+            long h1 = hash;
+            long h2 = secondHash(hash);
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, numBits);
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+            count++;
+        }
+
+        boolean mightContain(long hash) {
+            long h1 = hash;
+            long h2 = secondHash(hash);
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, numBits);
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long secondHash(long hash) {
+            // derive a second hash (must be odd) for double hashing
+            long h = Long.rotateLeft(hash, 32) * 0x9E3779B97F4A7C15L;
+            return h | 1;
+        }
+    }
+}
@@ -18,7 +18,9 @@ package org.apache.camel.support.startup;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.StartupStep;
 import org.apache.camel.spi.StartupStepRecorder;
@@ -26,6 +28,10 @@ import org.apache.camel.support.service.ServiceSupport;
 
 /**
  * Default {@link StartupStepRecorder} that is always disabled.
+ * <p/>
+ * The steps are recorded by the thread which starts {@link org.apache.camel.CamelContext}. Steps recorded by other
+ * threads, such as when routes are started in parallel, are recorded as children of the current step of the starting
+ * thread.
  */
 public class DefaultStartupStepRecorder extends ServiceSupport implements StartupStepRecorder {
 
@@ -78,7 +84,9 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     };
 
     private final AtomicInteger stepCounter = new AtomicInteger();
-    private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    private final Deque<Integer> currentSteps = new ConcurrentLinkedDeque<>();
+    private final ThreadLocal<Deque<Integer>> forkedSteps = ThreadLocal.withInitial(ArrayDeque::new);
+    private final AtomicReference<Thread> owner = new AtomicReference<>();
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -157,20 +165,28 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     public void doStop() throws Exception {
         enabled = false;
         currentSteps.clear();
+        owner.set(null);
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
+            Deque<Integer> steps = getSteps();
             int level = currentSteps.size() - 1;
+            if (steps != currentSteps) {
+                level += steps.size();
+            }
             if (maxDepth != -1 && level >= maxDepth) {
                 return DISABLED_STEP;
             }
             int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
+            Integer parent = steps.peekFirst();
+            if (parent == null) {
+                parent = currentSteps.peekFirst();
+            }
             int pid = parent != null ? parent : 0;
             StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
             onBeginStep(step);
-            currentSteps.offerFirst(id);
+            steps.offerFirst(id);
             return step;
         } else {
             return DISABLED_STEP;
@@ -179,12 +195,18 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            getSteps().pollFirst();
             step.endStep();
             onEndStep(step);
         }
     }
 
+    private Deque<Integer> getSteps() {
+        Thread thread = Thread.currentThread();
+        owner.compareAndSet(null, thread);
+        return owner.get() == thread ? currentSteps : forkedSteps.get();
+    }
+
     public StartupStep createStartupStep(String type, String name, String description, int id, int parentId, int level) {
         return new DefaultStartupStep(type, name, description, id, parentId, level, System.currentTimeMillis());
     }
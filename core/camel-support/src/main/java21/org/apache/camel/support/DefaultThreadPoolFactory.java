@@ -34,10 +34,11 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.BoundedExecutorService;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
-import org.apache.camel.util.concurrent.ThreadType;
 import org.apache.camel.util.concurrent.ThreadFactoryTypeAware;
 
 /**
@@ -66,6 +67,11 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
+        if (profile.isVirtualThreads() && factory instanceof ThreadFactoryTypeAware aware && aware.isVirtual()) {
+            // a new virtual thread per task where the max pool size limits the concurrency
+            return newVirtualThreadPool(profile.getMaxPoolSize(), profile.getMaxQueueSize(),
+                    profile.getRejectedExecutionHandler(), factory);
+        }
         return newThreadPool(profile.getPoolSize(),
                 profile.getMaxPoolSize(),
                 profile.getKeepAliveTime(),
@@ -96,6 +102,21 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
                 rejectedExecutionHandler, threadFactory);
     }
 
+    /**
+     * Creates a thread pool which creates a new virtual thread per task, where the number of tasks executing
+     * concurrently is limited by the given max pool size, and tasks waiting for their turn by the max queue size.
+     */
+    public ExecutorService newVirtualThreadPool(
+            int maxPoolSize, int maxQueueSize, RejectedExecutionHandler rejectedExecutionHandler,
+            ThreadFactory threadFactory) {
+        String name = threadFactory instanceof CamelThreadFactory ctf ? ctf.getName() : null;
+        // default is caller runs as with the platform thread pools
+        boolean callerRuns = rejectedExecutionHandler == null
+                || rejectedExecutionHandler instanceof ThreadPoolExecutor.CallerRunsPolicy;
+        return new BoundedExecutorService(
+                Executors.newThreadPerTaskExecutor(threadFactory), name, maxPoolSize, maxQueueSize, callerRuns);
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         return ThreadPoolFactoryType.from(threadFactory, profile).newScheduledThreadPool(profile, threadFactory);
@@ -188,9 +209,7 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         }
 
         static ThreadPoolFactoryType from(ThreadFactory threadFactory, int maxPoolSize) {
-            if (ThreadType.current() == ThreadType.PLATFORM) {
-                return ThreadPoolFactoryType.PLATFORM;
-            }
+            // the thread factory knows whether virtual threads is enabled globally or requested explicit
             return maxPoolSize > 1 && threadFactory instanceof ThreadFactoryTypeAware factoryTypeAware && factoryTypeAware.isVirtual() ?
                     ThreadPoolFactoryType.VIRTUAL : ThreadPoolFactoryType.PLATFORM;
         }
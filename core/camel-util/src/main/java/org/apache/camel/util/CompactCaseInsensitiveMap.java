@@ -0,0 +1,504 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A compact map that uses case insensitive keys, but preserves the original key cases.
+ * <p/>
+ * The keys and values are stored in arrays (in insertion order) and looked up via an open addressing hash table using
+ * a case insensitive hash of the key, which avoids allocating an entry per key as {@link CaseInsensitiveMap} and
+ * {@link java.util.HashMap} do. The case insensitive hash of well-known keys (such as the
+ * <tt>org.apache.camel.Exchange</tt> constants) can be precomputed via {@link #registerKnownKeys(Class)}.
+ * <p/>
+ * Copying this map into another instance of this map is copy-on-write, meaning that the arrays are shared until one of
+ * the maps is changed. This makes it cheap to copy the headers of a message, such as when the multicast or splitter
+ * EIPs are creating copies of the exchange.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CompactCaseInsensitiveMap extends AbstractMap<String, Object> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static volatile KnownKeys knownKeys = new KnownKeys(new String[0]);
+
+    // keys, values and case insensitive hashes of the keys in insertion order (null key = removed)
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // open addressing table with the position (+1) in the arrays above (0 = empty slot)
+    private int[] index;
+    // number of positions used in the arrays (including removed)
+    private int used;
+    private int size;
+    // whether the arrays are shared with another map (copy-on-write)
+    private boolean shared;
+    private int modCount;
+    private EntrySet entrySet;
+
+    public CompactCaseInsensitiveMap() {
+    }
+
+    public CompactCaseInsensitiveMap(Map<? extends String, ?> map) {
+        putAll(map);
+    }
+
+    /**
+     * Registers the values of the public static String constants of the given class as well-known keys, which have their
+     * case insensitive hash precomputed. This is only effective for keys that are the same (interned) instance as the
+     * constants.
+     *
+     * @param type the class with the constants, such as <tt>org.apache.camel.Exchange</tt>
+     */
+    public static synchronized void registerKnownKeys(Class<?> type) {
+        List<String> list = new ArrayList<>();
+        for (String key : knownKeys.keys) {
+            if (key != null) {
+                list.add(key);
+            }
+        }
+        for (Field field : type.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                try {
+                    Object value = field.get(null);
+                    if (value != null && !list.contains(value)) {
+                        list.add((String) value);
+                    }
+                } catch (IllegalAccessException e) {
+                    // ignore
+                }
+            }
+        }
+        knownKeys = new KnownKeys(list.toArray(new String[0]));
+    }
+
+    /**
+     * Computes the case insensitive hash of the key, which is the same for keys that are equal ignoring case.
+     */
+    static int caseInsensitiveHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 128) {
+                if (c >= 'A' && c <= 'Z') {
+                    c += 32;
+                }
+            } else {
+                // same folding as String.equalsIgnoreCase
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h;
+    }
+
+    private static int hash(String key) {
+        return knownKeys.hash(key);
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (size == 0 || !(key instanceof String)) {
+            return null;
+        }
+        int pos = find((String) key);
+        return pos >= 0 ? values[pos] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (size == 0 || !(key instanceof String)) {
+            return false;
+        }
+        return find((String) key) >= 0;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int h = hash(key);
+        int pos = size > 0 ? find(key, h) : -1;
+        if (pos >= 0) {
+            // keep the original key case
+            unshare();
+            Object old = values[pos];
+            values[pos] = value;
+            return old;
+        }
+
+        unshare();
+        if (index == null) {
+            allocate(DEFAULT_CAPACITY);
+        } else if (used == keys.length) {
+            // compact if many keys have been removed, otherwise grow
+            rebuild(size < used / 2 ? keys.length : keys.length * 2);
+        }
+        pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = h;
+        insertIndex(pos, h);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (size == 0 && map instanceof CompactCaseInsensitiveMap && !map.isEmpty()) {
+            // copy-on-write so share the arrays until either map is changed
+            CompactCaseInsensitiveMap other = (CompactCaseInsensitiveMap) map;
+            other.shared = true;
+            this.shared = true;
+            this.keys = other.keys;
+            this.values = other.values;
+            this.hashes = other.hashes;
+            this.index = other.index;
+            this.used = other.used;
+            this.size = other.size;
+            modCount++;
+            return;
+        }
+        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (size == 0 || !(key instanceof String)) {
+            return null;
+        }
+        int pos = find((String) key);
+        if (pos < 0) {
+            return null;
+        }
+        Object old = values[pos];
+        removeAt(pos);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        keys = null;
+        values = null;
+        hashes = null;
+        index = null;
+        used = 0;
+        size = 0;
+        shared = false;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int mc = modCount;
+        for (int i = 0; i < used; i++) {
+            String key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+        }
+        if (mc != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int find(String key) {
+        return find(key, hash(key));
+    }
+
+    private int find(String key, int h) {
+        int mask = index.length - 1;
+        int i = spread(h) & mask;
+        for (;;) {
+            int p = index[i];
+            if (p == 0) {
+                return -1;
+            }
+            p--;
+            String k = keys[p];
+            if (k != null && (k == key || hashes[p] == h && k.equalsIgnoreCase(key))) {
+                return p;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void insertIndex(int pos, int h) {
+        int mask = index.length - 1;
+        int i = spread(h) & mask;
+        while (index[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        index[i] = pos + 1;
+    }
+
+    private void removeAt(int pos) {
+        unshare();
+        // the slot in the index is kept so lookups of other keys continue probing past it
+        keys[pos] = null;
+        values[pos] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            clear();
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        index = new int[capacity * 2];
+        used = 0;
+    }
+
+    private void rebuild(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != null) {
+                int pos = used++;
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+                hashes[pos] = oldHashes[i];
+                insertIndex(pos, oldHashes[i]);
+            }
+        }
+    }
+
+    private void unshare() {
+        if (shared) {
+            shared = false;
+            if (index != null) {
+                // positions must be kept as-is as there may be iterators in use
+                keys = keys.clone();
+                values = values.clone();
+                hashes = hashes.clone();
+                index = index.clone();
+            }
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactCaseInsensitiveMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            current = next++;
+            advance();
+            return new Entry(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            boolean last = size == 1;
+            removeAt(current);
+            if (last) {
+                // the map has been cleared
+                next = 0;
+            }
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final int pos;
+        private final String key;
+
+        Entry(int pos) {
+            this.pos = pos;
+            this.key = keys[pos];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return keys != null && pos < used && keys[pos] == key ? values[pos] : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys == null || pos >= used || keys[pos] != key) {
+                throw new IllegalStateException("Entry has been removed");
+            }
+            unshare();
+            Object old = values[pos];
+            values[pos] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    /**
+     * Precomputed case insensitive hashes of well-known keys, looked up by identity.
+     */
+    private static final class KnownKeys {
+
+        private final String[] keys;
+        private final int[] hashes;
+        private final int mask;
+
+        KnownKeys(String[] known) {
+            int capacity = 1;
+            while (capacity < known.length * 2) {
+                capacity <<= 1;
+            }
+            keys = new String[capacity];
+            hashes = new int[capacity];
+            mask = capacity - 1;
+            for (String key : known) {
+                int i = System.identityHashCode(key) & mask;
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                hashes[i] = caseInsensitiveHash(key);
+            }
+        }
+
+        int hash(String key) {
+            if (mask > 0) {
+                int i = System.identityHashCode(key) & mask;
+                for (;;) {
+                    String k = keys[i];
+                    if (k == null) {
+                        break;
+                    }
+                    if (k == key) {
+                        return hashes[i];
+                    }
+                    i = (i + 1) & mask;
+                }
+            }
+            return caseInsensitiveHash(key);
+        }
+    }
+}
@@ -34,6 +34,8 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.FileChannel;
@@ -257,6 +259,37 @@ public final class IOHelper {
         }
     }
 
+    /**
+     * Transfers the bytes of the file, from its current position to its end, to the given channel. This allows the
+     * operating system to copy the bytes directly (zero-copy), such as from file to file, instead of copying the bytes
+     * through a buffer on the heap.
+     *
+     * @param  input       the file channel to transfer from, its position is not changed
+     * @param  output      the channel to transfer to
+     * @return             the number of bytes transferred, which is less than the size of the file if the file was
+     *                     truncated while transferring
+     * @throws IOException is thrown if error transferring the bytes
+     */
+    public static long transferTo(FileChannel input, WritableByteChannel output) throws IOException {
+        long start = input.position();
+        long size = input.size();
+        long position = start;
+        // the bytes may be transferred in several chunks, such as files larger than 2gb on linux
+        while (position < size) {
+            long transferred = input.transferTo(position, size - position, output);
+            if (transferred <= 0) {
+                // no progress as the file may have been truncated while transferring, so stop at its current size
+                size = Math.min(size, input.size());
+                if (position < size) {
+                    throw new IOException("Cannot transfer file from position " + position + " of size " + size);
+                }
+            } else {
+                position += transferred;
+            }
+        }
+        return position - start;
+    }
+
     /**
      * Forces any updates to this channel's file to be written to the storage device that contains it.
      *
@@ -426,6 +459,31 @@ public final class IOHelper {
         }
     }
 
+    /**
+     * Releases the memory of a memory mapped (or direct) buffer now, instead of when the buffer is garbage collected.
+     * For example, a memory mapped file cannot be deleted on Windows as long as it is mapped.
+     * <p/>
+     * The buffer, and any views of the buffer, must not be used afterwards, as reading memory which has been released
+     * crashes the JVM.
+     *
+     * @param  buffer the memory mapped or direct buffer (not a view)
+     * @return        <tt>true</tt> if the memory was released, or <tt>false</tt> if not supported by the JVM, in which
+     *                case the memory is released when the buffer is garbage collected
+     */
+    public static boolean unmap(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || BufferCleaner.INVOKE_CLEANER == null) {
+            return false;
+        }
+        try {
+            BufferCleaner.INVOKE_CLEANER.invoke(BufferCleaner.UNSAFE, buffer);
+            return true;
+        } catch (Exception e) {
+            LOG.debug("Cannot release the memory of the buffer due to: {}. This exception is ignored.",
+                    e.getMessage(), e);
+            return false;
+        }
+    }
+
     public static void closeIterator(Object it) throws IOException {
         if (it instanceof Closeable) {
             IOHelper.closeWithException((Closeable) it);
@@ -624,6 +682,31 @@ public final class IOHelper {
     /**
      * Encoding-aware input stream.
      */
+    /**
+     * Resolves the cleaner of the JVM, which is used to release the memory of the buffers, on first use.
+     */
+    private static final class BufferCleaner {
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                Class<?> type = Class.forName("sun.misc.Unsafe");
+                Field field = type.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                unsafe = field.get(null);
+                invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (Exception e) {
+                LOG.debug("Cannot access the cleaner of the JVM due to: {}. This exception is ignored.",
+                        e.getMessage(), e);
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+    }
+
     public static class EncodingInputStream extends InputStream {
 
         private final File file;
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link ExecutorService} which uses a {@link Semaphore} to limit the number of tasks that are executed
+ * concurrently by the delegate {@link ExecutorService}.
+ * <p/>
+ * This is used with virtual threads, where a new thread is created per task (there is no pool of threads), and where
+ * the concurrency limit then takes the place of the pool size. The submitter is never blocked, instead the task waits
+ * for a permit in its own (virtual) thread. The number of tasks waiting for a permit can be bounded by the max queue
+ * size, and when this limit is hit then the task is rejected, or executed by the caller thread if
+ * <tt>callerRuns</tt> is enabled.
+ */
+public class BoundedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final String name;
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+    private final boolean callerRuns;
+    private final Semaphore permits;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates a new bounded {@link ExecutorService}.
+     *
+     * @param delegate       the delegate which executes the tasks, such as a thread per task executor
+     * @param name           name used for logging purposes
+     * @param maxConcurrency the upper limit of tasks executing concurrently, use 0 or negative value for unlimited
+     * @param maxQueueSize   the upper limit of tasks waiting to be executed, use 0 or negative value for unlimited
+     * @param callerRuns     whether the caller thread should execute the task if the task is rejected
+     */
+    public BoundedExecutorService(ExecutorService delegate, String name, int maxConcurrency, int maxQueueSize,
+                                  boolean callerRuns) {
+        this.delegate = delegate;
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+        this.callerRuns = callerRuns;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    /**
+     * The upper limit of tasks executing concurrently (0 or negative for unlimited)
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * The upper limit of tasks waiting to be executed (0 or negative for unlimited)
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Number of tasks currently executing
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Number of tasks waiting for a permit to execute
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Number of tasks that have completed
+     */
+    public long getCompletedTaskCount() {
+        return completed.sum();
+    }
+
+    /**
+     * Number of tasks that was rejected (or executed by the caller thread) because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (maxQueueSize > 0 && pending.get() >= maxQueueSize) {
+            rejected.increment();
+            if (callerRuns && !delegate.isShutdown()) {
+                task.run();
+            } else if (task instanceof Rejectable) {
+                ((Rejectable) task).reject();
+            } else {
+                throw new RejectedExecutionException("Task " + task + " rejected from " + this);
+            }
+            return;
+        }
+
+        pending.incrementAndGet();
+        try {
+            delegate.execute(new BoundedTask(task));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void doRun(Runnable task) {
+        try {
+            if (permits != null) {
+                permits.acquire();
+            }
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+            if (task instanceof Rejectable) {
+                ((Rejectable) task).reject();
+            }
+            return;
+        }
+        pending.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+            completed.increment();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        if (runnable instanceof Rejectable) {
+            return new RejectableFutureTask<>(runnable, value);
+        } else {
+            return super.newTaskFor(runnable, value);
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        if (callable instanceof Rejectable) {
+            return new RejectableFutureTask<>(callable);
+        } else {
+            return super.newTaskFor(callable);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        // return the submitted tasks which never executed, instead of the wrappers
+        List<Runnable> tasks = delegate.shutdownNow();
+        List<Runnable> answer = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            if (task instanceof BoundedTask bounded) {
+                pending.decrementAndGet();
+                answer.add(bounded.task);
+            } else {
+                answer.add(task);
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * The task submitted to the delegate, which waits for a permit before running the submitted task.
+     */
+    private final class BoundedTask implements Runnable {
+        private final Runnable task;
+
+        private BoundedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            doRun(task);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedExecutorService[" + name + "]" + "[maxConcurrency=" + maxConcurrency + ", maxQueueSize="
+               + maxQueueSize + ", active=" + active.get() + ", pending=" + pending.get() + ", completed="
+               + completed.sum() + ", rejected=" + rejected.sum() + "]";
+    }
+}
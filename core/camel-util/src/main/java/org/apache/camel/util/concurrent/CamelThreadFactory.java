@@ -16,15 +16,15 @@
  */
 package org.apache.camel.util.concurrent;
 
-import java.util.concurrent.ThreadFactory;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
+ * <p/>
+ * Virtual threads requires JDK 21 or later, and this implementation always creates platform threads.
  */
-public final class CamelThreadFactory implements ThreadFactory {
+public final class CamelThreadFactory implements ThreadFactoryTypeAware {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
 
     private final String pattern;
@@ -37,6 +37,16 @@ public final class CamelThreadFactory implements ThreadFactory {
         this.daemon = daemon;
     }
 
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
+        // virtual threads are not supported on this JVM
+        this(pattern, name, daemon);
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return false;
+    }
+
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+/**
+ * Monitors when virtual threads are pinned to their carrier thread (such as when blocking inside a synchronized block),
+ * which prevents the carrier thread from running other virtual threads.
+ * <p/>
+ * Virtual threads requires JDK 21 or later, and this implementation is a no-op.
+ */
+public final class VirtualThreadPinningMonitor {
+
+    private static final VirtualThreadPinningMonitor INSTANCE = new VirtualThreadPinningMonitor();
+
+    private VirtualThreadPinningMonitor() {
+    }
+
+    /**
+     * The monitor, which is shared as pinning is detected for the entire JVM.
+     */
+    public static VirtualThreadPinningMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Whether monitoring pinned virtual threads is supported on this JVM.
+     */
+    public boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Whether the monitor is started.
+     */
+    public boolean isStarted() {
+        return false;
+    }
+
+    /**
+     * Starts monitoring, can be invoked multiple times, and must be paired with calling {@link #stop()}.
+     */
+    public void start() {
+        // noop
+    }
+
+    /**
+     * Stops monitoring when the last user has stopped.
+     */
+    public void stop() {
+        // noop
+    }
+
+    /**
+     * Number of times a virtual thread was pinned for longer than the threshold (20 millis)
+     */
+    public long getPinnedCounter() {
+        return 0;
+    }
+
+    /**
+     * Total time in millis virtual threads have been pinned
+     */
+    public long getPinnedTotalTime() {
+        return 0;
+    }
+
+    /**
+     * The longest time in millis a virtual thread has been pinned
+     */
+    public long getPinnedMaxTime() {
+        return 0;
+    }
+
+    /**
+     * Details (thread name and top stack frame) about the last time a virtual thread was pinned
+     */
+    public String getLastPinned() {
+        return null;
+    }
+}
@@ -22,7 +22,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Thread factory which creates threads supporting a naming pattern.
  * The factory creates virtual threads in case the System property {@code camel.threads.virtual.enabled} set to
- * {@code true}.
+ * {@code true}, or when explicit requested to create virtual threads.
  */
 public final class CamelThreadFactory implements ThreadFactoryTypeAware {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
@@ -41,6 +41,17 @@ public final class CamelThreadFactory implements ThreadFactoryTypeAware {
         this.threadType = daemon ? TYPE : ThreadFactoryType.PLATFORM;
     }
 
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
+        this.pattern = pattern;
+        this.name = name;
+        this.daemon = daemon;
+        if (virtual) {
+            this.threadType = ThreadFactoryType.VIRTUAL;
+        } else {
+            this.threadType = daemon ? TYPE : ThreadFactoryType.PLATFORM;
+        }
+    }
+
     @Override
     public boolean isVirtual() {
         return threadType == ThreadFactoryType.VIRTUAL;
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Monitors when virtual threads are pinned to their carrier thread (such as when blocking inside a synchronized block),
+ * which prevents the carrier thread from running other virtual threads.
+ * <p/>
+ * The monitor listens for the JFR <tt>jdk.VirtualThreadPinned</tt> event which the JVM emits when a virtual thread has
+ * been pinned for longer than 20 millis.
+ */
+public final class VirtualThreadPinningMonitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final VirtualThreadPinningMonitor INSTANCE = new VirtualThreadPinningMonitor();
+
+    private final LongAdder counter = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+    private volatile String lastPinned;
+    private RecordingStream stream;
+    private int users;
+
+    private VirtualThreadPinningMonitor() {
+    }
+
+    /**
+     * The monitor, which is shared as pinning is detected for the entire JVM.
+     */
+    public static VirtualThreadPinningMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Whether monitoring pinned virtual threads is supported on this JVM.
+     */
+    public boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Whether the monitor is started.
+     */
+    public synchronized boolean isStarted() {
+        return stream != null;
+    }
+
+    /**
+     * Starts monitoring, can be invoked multiple times, and must be paired with calling {@link #stop()}.
+     */
+    public synchronized void start() {
+        users++;
+        if (stream == null) {
+            try {
+                RecordingStream rs = new RecordingStream();
+                rs.enable(EVENT).withThreshold(THRESHOLD).withStackTrace();
+                rs.onEvent(EVENT, this::onPinned);
+                rs.startAsync();
+                stream = rs;
+                LOG.debug("Started monitoring pinned virtual threads");
+            } catch (Exception e) {
+                // JFR may not be available on all JVMs
+                LOG.debug("Cannot monitor pinned virtual threads due to: {}. This exception is ignored.", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Stops monitoring when the last user has stopped.
+     */
+    public synchronized void stop() {
+        if (users > 0) {
+            users--;
+        }
+        if (users == 0 && stream != null) {
+            try {
+                stream.close();
+            } catch (Exception e) {
+                // ignore
+            }
+            stream = null;
+            LOG.debug("Stopped monitoring pinned virtual threads");
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        long millis = event.getDuration().toMillis();
+        counter.increment();
+        totalTime.add(millis);
+        maxTime.accumulate(millis);
+
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : null;
+        String frame = null;
+        RecordedStackTrace st = event.getStackTrace();
+        if (st != null) {
+            List<RecordedFrame> frames = st.getFrames();
+            if (!frames.isEmpty()) {
+                RecordedFrame top = frames.get(0);
+                frame = top.getMethod().getType().getName() + "." + top.getMethod().getName() + ":" + top.getLineNumber();
+            }
+        }
+        lastPinned = thread + " at " + frame;
+        LOG.debug("Virtual thread: {} pinned for {} millis at: {}", thread, millis, frame);
+    }
+
+    /**
+     * Number of times a virtual thread was pinned for longer than the threshold (20 millis)
+     */
+    public long getPinnedCounter() {
+        return counter.sum();
+    }
+
+    /**
+     * Total time in millis virtual threads have been pinned
+     */
+    public long getPinnedTotalTime() {
+        return totalTime.sum();
+    }
+
+    /**
+     * The longest time in millis a virtual thread has been pinned
+     */
+    public long getPinnedMaxTime() {
+        return maxTime.get();
+    }
+
+    /**
+     * Details (thread name and top stack frame) about the last time a virtual thread was pinned
+     */
+    public String getLastPinned() {
+        return lastPinned;
+    }
+}
@@ -16,8 +16,20 @@
  */
 package org.apache.camel.util;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class IOHelperTest {
@@ -38,4 +50,72 @@ public class IOHelperTest {
         assertEquals("UTF-8", IOHelper.getCharsetNameFromContentType("application/json; charset=utf-8"));
         assertEquals("iso-8859-1", IOHelper.getCharsetNameFromContentType("application/json; charset=iso-8859-1"));
     }
+
+    @Test
+    public void testTransferToInChunks(@TempDir Path dir) throws IOException {
+        byte[] data = new byte[10000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        Path file = dir.resolve("data.bin");
+        Files.write(file, data);
+
+        ChunkedChannel out = new ChunkedChannel(128, null);
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            in.position(100);
+            assertEquals(data.length - 100, IOHelper.transferTo(in, out));
+            // the position of the input is not changed
+            assertEquals(100, in.position());
+        }
+        byte[] expected = new byte[data.length - 100];
+        System.arraycopy(data, 100, expected, 0, expected.length);
+        assertArrayEquals(expected, out.bytes.toByteArray());
+    }
+
+    @Test
+    @Timeout(10)
+    public void testTransferToTruncatedFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("data.bin");
+        Files.write(file, new byte[10000]);
+
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the file is truncated after the first chunk, so the transfer must stop instead of spinning
+            ChunkedChannel out = new ChunkedChannel(1000, in);
+            assertEquals(1000, IOHelper.transferTo(in, out));
+        }
+    }
+
+    private static final class ChunkedChannel implements WritableByteChannel {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final int chunkSize;
+        private final FileChannel truncate;
+
+        private ChunkedChannel(int chunkSize, FileChannel truncate) {
+            this.chunkSize = chunkSize;
+            this.truncate = truncate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (truncate != null && bytes.size() > 0) {
+                truncate.truncate(bytes.size());
+                return 0;
+            }
+            int n = Math.min(chunkSize, src.remaining());
+            byte[] chunk = new byte[n];
+            src.get(chunk);
+            bytes.write(chunk);
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // noop
+        }
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedExecutorServiceTest {
+
+    @Test
+    public void testBoundedExecutorService() throws Exception {
+        ExecutorService delegate = Executors.newCachedThreadPool();
+        BoundedExecutorService bounded = new BoundedExecutorService(delegate, "test", 2, 2, false);
+
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(1);
+        Runnable task = () -> {
+            started.countDown();
+            try {
+                done.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // 2 tasks running concurrently
+        bounded.execute(task);
+        bounded.execute(task);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(2, bounded.getActiveCount());
+
+        // 2 tasks waiting for their turn
+        bounded.execute(task);
+        bounded.execute(task);
+        assertEquals(2, bounded.getPendingCount());
+
+        // and then the limit is hit
+        RejectedExecutionException e
+                = assertThrows(RejectedExecutionException.class, () -> bounded.execute(task),
+                        "Should have thrown a RejectedExecutionException");
+        assertTrue(e.getMessage().contains("rejected from"));
+        assertEquals(1, bounded.getRejectedCount());
+
+        done.countDown();
+        bounded.shutdown();
+        assertTrue(bounded.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(4, bounded.getCompletedTaskCount());
+        assertEquals(0, bounded.getActiveCount());
+        assertEquals(0, bounded.getPendingCount());
+    }
+
+    @Test
+    public void testBoundedExecutorServiceCallerRuns() throws Exception {
+        ExecutorService delegate = Executors.newCachedThreadPool();
+        BoundedExecutorService bounded = new BoundedExecutorService(delegate, "test", 1, 1, true);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        bounded.execute(() -> {
+            started.countDown();
+            try {
+                done.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        bounded.execute(() -> {
+            // noop
+        });
+
+        // the limit is hit so the caller thread runs the task
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        bounded.execute(() -> thread.set(Thread.currentThread()));
+        assertSame(Thread.currentThread(), thread.get());
+        assertEquals(1, bounded.getRejectedCount());
+
+        done.countDown();
+        bounded.shutdown();
+        assertTrue(bounded.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownNowReturnsSubmittedTasks() throws Exception {
+        ExecutorService delegate = Executors.newSingleThreadExecutor();
+        BoundedExecutorService bounded = new BoundedExecutorService(delegate, "test", 1, 0, false);
+
+        CountDownLatch started = new CountDownLatch(1);
+        bounded.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        Runnable task1 = () -> {
+        };
+        Runnable task2 = () -> {
+        };
+        bounded.execute(task1);
+        bounded.execute(task2);
+        assertEquals(2, bounded.getPendingCount());
+
+        // the tasks which never executed are returned as submitted
+        List<Runnable> tasks = bounded.shutdownNow();
+        assertEquals(List.of(task1, task2), tasks);
+        assertEquals(0, bounded.getPendingCount());
+        assertTrue(bounded.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
@@ -90,6 +90,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); yield true;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
+                case "lockStripes": def.setLockStripes(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); yield true;
@@ -474,6 +475,8 @@ public class ModelParser extends BaseParser {
         return doParse(new LoadBalanceDefinition(), processorDefinitionAttributeHandler(), (def, key) -> switch (key) {
                 case "customLoadBalancer": def.setLoadBalancerType(doParseCustomLoadBalancerDefinition()); yield true;
                 case "failoverLoadBalancer": def.setLoadBalancerType(doParseFailoverLoadBalancerDefinition()); yield true;
+                case "leastOutstandingLoadBalancer": def.setLoadBalancerType(doParseLeastOutstandingLoadBalancerDefinition()); yield true;
+                case "peakEwmaLoadBalancer": def.setLoadBalancerType(doParsePeakEwmaLoadBalancerDefinition()); yield true;
                 case "randomLoadBalancer": def.setLoadBalancerType(doParseRandomLoadBalancerDefinition()); yield true;
                 case "roundRobinLoadBalancer": def.setLoadBalancerType(doParseRoundRobinLoadBalancerDefinition()); yield true;
                 case "stickyLoadBalancer": def.setLoadBalancerType(doParseStickyLoadBalancerDefinition()); yield true;
@@ -1097,6 +1100,7 @@ public class ModelParser extends BaseParser {
                 case "streaming": def.setStreaming(val); yield true;
                 case "synchronous": def.setSynchronous(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
+                case "windowSize": def.setWindowSize(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, outputExpressionNodeElementHandler(), noValueHandler());
     }
@@ -2386,6 +2390,15 @@ public class ModelParser extends BaseParser {
                 default: yield false;
             }, noValueHandler());
     }
+    protected LeastOutstandingLoadBalancerDefinition doParseLeastOutstandingLoadBalancerDefinition() throws IOException, XmlPullParserException {
+        return doParse(new LeastOutstandingLoadBalancerDefinition(), identifiedTypeAttributeHandler(), noElementHandler(), noValueHandler());
+    }
+    protected PeakEwmaLoadBalancerDefinition doParsePeakEwmaLoadBalancerDefinition() throws IOException, XmlPullParserException {
+        return doParse(new PeakEwmaLoadBalancerDefinition(), (def, key, val) -> switch (key) {
+                case "decayTime": def.setDecayTime(val); yield true;
+                default: yield identifiedTypeAttributeHandler().accept(def, key, val);
+            }, noElementHandler(), noValueHandler());
+    }
     protected RandomLoadBalancerDefinition doParseRandomLoadBalancerDefinition() throws IOException, XmlPullParserException {
         return doParse(new RandomLoadBalancerDefinition(), identifiedTypeAttributeHandler(), noElementHandler(), noValueHandler());
     }
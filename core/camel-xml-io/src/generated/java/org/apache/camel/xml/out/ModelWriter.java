@@ -666,6 +666,12 @@ public class ModelWriter extends BaseWriter {
     public void writeFailoverLoadBalancerDefinition(FailoverLoadBalancerDefinition def) throws IOException {
         doWriteFailoverLoadBalancerDefinition("failoverLoadBalancer", def);
     }
+    public void writeLeastOutstandingLoadBalancerDefinition(LeastOutstandingLoadBalancerDefinition def) throws IOException {
+        doWriteLeastOutstandingLoadBalancerDefinition("leastOutstandingLoadBalancer", def);
+    }
+    public void writePeakEwmaLoadBalancerDefinition(PeakEwmaLoadBalancerDefinition def) throws IOException {
+        doWritePeakEwmaLoadBalancerDefinition("peakEwmaLoadBalancer", def);
+    }
     public void writeRandomLoadBalancerDefinition(RandomLoadBalancerDefinition def) throws IOException {
         doWriteRandomLoadBalancerDefinition("randomLoadBalancer", def);
     }
@@ -786,6 +792,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("discardOnCompletionTimeout", def.getDiscardOnCompletionTimeout());
         doWriteAttribute("completionTimeoutCheckerInterval", def.getCompletionTimeoutCheckerInterval());
         doWriteAttribute("optimisticLocking", def.getOptimisticLocking());
+        doWriteAttribute("lockStripes", def.getLockStripes());
         doWriteElement("optimisticLockRetryPolicy", def.getOptimisticLockRetryPolicyDefinition(), this::doWriteOptimisticLockRetryPolicyDefinition);
         doWriteElement("correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
         doWriteElement("completionPredicate", def.getCompletionPredicate(), this::doWriteExpressionSubElementDefinition);
@@ -1081,6 +1088,8 @@ public class ModelWriter extends BaseWriter {
             switch (v.getClass().getSimpleName()) {
                 case "CustomLoadBalancerDefinition" -> doWriteCustomLoadBalancerDefinition("customLoadBalancer", (CustomLoadBalancerDefinition) v);
                 case "FailoverLoadBalancerDefinition" -> doWriteFailoverLoadBalancerDefinition("failoverLoadBalancer", (FailoverLoadBalancerDefinition) v);
+                case "LeastOutstandingLoadBalancerDefinition" -> doWriteLeastOutstandingLoadBalancerDefinition("leastOutstandingLoadBalancer", (LeastOutstandingLoadBalancerDefinition) v);
+                case "PeakEwmaLoadBalancerDefinition" -> doWritePeakEwmaLoadBalancerDefinition("peakEwmaLoadBalancer", (PeakEwmaLoadBalancerDefinition) v);
                 case "RandomLoadBalancerDefinition" -> doWriteRandomLoadBalancerDefinition("randomLoadBalancer", (RandomLoadBalancerDefinition) v);
                 case "RoundRobinLoadBalancerDefinition" -> doWriteRoundRobinLoadBalancerDefinition("roundRobinLoadBalancer", (RoundRobinLoadBalancerDefinition) v);
                 case "StickyLoadBalancerDefinition" -> doWriteStickyLoadBalancerDefinition("stickyLoadBalancer", (StickyLoadBalancerDefinition) v);
@@ -1701,6 +1710,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName());
         doWriteAttribute("timeout", def.getTimeout());
         doWriteAttribute("streaming", def.getStreaming());
+        doWriteAttribute("windowSize", def.getWindowSize());
         doWriteAttribute("stopOnException", def.getStopOnException());
         doWriteAttribute("delimiter", def.getDelimiter());
         doWriteAttribute("parallelProcessing", def.getParallelProcessing());
@@ -3162,6 +3172,17 @@ public class ModelWriter extends BaseWriter {
         doWriteList(null, "exception", def.getExceptions(), this::doWriteString);
         endElement(name);
     }
+    protected void doWriteLeastOutstandingLoadBalancerDefinition(String name, LeastOutstandingLoadBalancerDefinition def) throws IOException {
+        startElement(name);
+        doWriteIdentifiedTypeAttributes(def);
+        endElement(name);
+    }
+    protected void doWritePeakEwmaLoadBalancerDefinition(String name, PeakEwmaLoadBalancerDefinition def) throws IOException {
+        startElement(name);
+        doWriteIdentifiedTypeAttributes(def);
+        doWriteAttribute("decayTime", def.getDecayTime());
+        endElement(name);
+    }
     protected void doWriteRandomLoadBalancerDefinition(String name, RandomLoadBalancerDefinition def) throws IOException {
         startElement(name);
         doWriteIdentifiedTypeAttributes(def);
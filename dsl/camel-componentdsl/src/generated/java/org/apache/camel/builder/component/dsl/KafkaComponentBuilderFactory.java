@@ -618,6 +618,28 @@ public interface KafkaComponentBuilderFactory {
         }
     
         
+        /**
+         * Number of worker threads used to process the records of each poll in
+         * parallel, while the records with the same key are still processed
+         * one by one in their order. The offsets are only committed up to the
+         * records which have completed processing without any gaps. The
+         * default is 0, which processes the records one by one on the thread
+         * polling from Kafka. This option cannot be used together with
+         * batching or manual commits.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder keyOrderedProcessingThreads(int keyOrderedProcessingThreads) {
+            doSetProperty("keyOrderedProcessingThreads", keyOrderedProcessingThreads);
+            return this;
+        }
+    
+        
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
@@ -2399,6 +2421,7 @@ public interface KafkaComponentBuilderFactory {
             case "headerDeserializer": getOrCreateConfiguration((KafkaComponent) component).setHeaderDeserializer((org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer) value); return true;
             case "heartbeatIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setHeartbeatIntervalMs((java.lang.Integer) value); return true;
             case "keyDeserializer": getOrCreateConfiguration((KafkaComponent) component).setKeyDeserializer((java.lang.String) value); return true;
+            case "keyOrderedProcessingThreads": getOrCreateConfiguration((KafkaComponent) component).setKeyOrderedProcessingThreads((int) value); return true;
             case "maxPartitionFetchBytes": getOrCreateConfiguration((KafkaComponent) component).setMaxPartitionFetchBytes((java.lang.Integer) value); return true;
             case "maxPollIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setMaxPollIntervalMs((java.lang.Integer) value); return true;
             case "maxPollRecords": getOrCreateConfiguration((KafkaComponent) component).setMaxPollRecords((java.lang.Integer) value); return true;
@@ -2224,6 +2224,38 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("localWorkDirectory", localWorkDirectory);
             return this;
         }
+        /**
+         * The maximum number of files of a poll that are processed
+         * concurrently, when the parallelProcessing option is enabled.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 10
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder maxConcurrentFiles(int maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
+        /**
+         * The maximum number of files of a poll that are processed
+         * concurrently, when the parallelProcessing option is enabled.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 10
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder maxConcurrentFiles(String maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.ExceptionHandler to handle any
          * thrown exceptions that happens during the file on completion process
@@ -2260,6 +2292,44 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * Whether the files of a poll are processed concurrently, using a
+         * thread pool sized by the maxConcurrentFiles option. Each file is
+         * still committed or rolled back on its own, and the poll waits for
+         * all its files to complete before the next poll. Mind that the files
+         * can be routed in another order than they were polled (sorted) in.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param parallelProcessing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelProcessing(boolean parallelProcessing) {
+            doSetProperty("parallelProcessing", parallelProcessing);
+            return this;
+        }
+        /**
+         * Whether the files of a poll are processed concurrently, using a
+         * thread pool sized by the maxConcurrentFiles option. Each file is
+         * still committed or rolled back on its own, and the poll waits for
+         * all its files to complete before the next poll. Mind that the files
+         * can be routed in another order than they were polled (sorted) in.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param parallelProcessing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelProcessing(String parallelProcessing) {
+            doSetProperty("parallelProcessing", parallelProcessing);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -2446,6 +2516,88 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether the consumer keeps an in-memory index of the files in the
+         * directory, which is updated from the events of the file system,
+         * instead of listing the directory on every poll. Each poll then only
+         * checks the files which have been created or modified since the
+         * previous poll, and the files which could not be consumed yet. This is
+         * faster for directories with a large number of files. The files are
+         * still processed by the regular polls, with the same read lock, move,
+         * delete and idempotent semantics.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchDirectory the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchDirectory(boolean watchDirectory) {
+            doSetProperty("watchDirectory", watchDirectory);
+            return this;
+        }
+        /**
+         * Whether the consumer keeps an in-memory index of the files in the
+         * directory, which is updated from the events of the file system,
+         * instead of listing the directory on every poll. Each poll then only
+         * checks the files which have been created or modified since the
+         * previous poll, and the files which could not be consumed yet. This is
+         * faster for directories with a large number of files. The files are
+         * still processed by the regular polls, with the same read lock, move,
+         * delete and idempotent semantics.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchDirectory the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchDirectory(String watchDirectory) {
+            doSetProperty("watchDirectory", watchDirectory);
+            return this;
+        }
+        /**
+         * When watchDirectory is enabled, the interval in millis to list the
+         * directory again to reconcile the index with the file system, in case
+         * some events have not been received, which also checks all the files in
+         * the directory again. Use 0 to only list the directory again when the
+         * file system reports that events have been lost.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchReconcileInterval(long watchReconcileInterval) {
+            doSetProperty("watchReconcileInterval", watchReconcileInterval);
+            return this;
+        }
+        /**
+         * When watchDirectory is enabled, the interval in millis to list the
+         * directory again to reconcile the index with the file system, in case
+         * some events have not been received, which also checks all the files in
+         * the directory again. Use 0 to only list the directory again when the
+         * file system reports that events have been lost.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchReconcileInterval(String watchReconcileInterval) {
+            doSetProperty("watchReconcileInterval", watchReconcileInterval);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -2467,6 +2467,38 @@ public interface FtpEndpointBuilderFactory {
             doSetProperty("localWorkDirectory", localWorkDirectory);
             return this;
         }
+        /**
+         * The maximum number of files of a poll that are processed
+         * concurrently, when the parallelProcessing option is enabled.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 10
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder maxConcurrentFiles(int maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
+        /**
+         * The maximum number of files of a poll that are processed
+         * concurrently, when the parallelProcessing option is enabled.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 10
+         * Group: consumer (advanced)
+         * 
+         * @param maxConcurrentFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder maxConcurrentFiles(String maxConcurrentFiles) {
+            doSetProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.ExceptionHandler to handle any
          * thrown exceptions that happens during the file on completion process
@@ -2503,6 +2535,44 @@ public interface FtpEndpointBuilderFactory {
             doSetProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * Whether the files of a poll are processed concurrently, using a
+         * thread pool sized by the maxConcurrentFiles option. Each file is
+         * still committed or rolled back on its own, and the poll waits for
+         * all its files to complete before the next poll. Mind that the files
+         * can be routed in another order than they were polled (sorted) in.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param parallelProcessing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder parallelProcessing(boolean parallelProcessing) {
+            doSetProperty("parallelProcessing", parallelProcessing);
+            return this;
+        }
+        /**
+         * Whether the files of a poll are processed concurrently, using a
+         * thread pool sized by the maxConcurrentFiles option. Each file is
+         * still committed or rolled back on its own, and the poll waits for
+         * all its files to complete before the next poll. Mind that the files
+         * can be routed in another order than they were polled (sorted) in.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param parallelProcessing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpEndpointConsumerBuilder parallelProcessing(String parallelProcessing) {
+            doSetProperty("parallelProcessing", parallelProcessing);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -907,6 +907,46 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("keyDeserializer", keyDeserializer);
             return this;
         }
+        /**
+         * Number of worker threads used to process the records of each poll in
+         * parallel, while the records with the same key are still processed
+         * one by one in their order. The offsets are only committed up to the
+         * records which have completed processing without any gaps. The
+         * default is 0, which processes the records one by one on the thread
+         * polling from Kafka. This option cannot be used together with
+         * batching or manual commits.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedProcessingThreads(int keyOrderedProcessingThreads) {
+            doSetProperty("keyOrderedProcessingThreads", keyOrderedProcessingThreads);
+            return this;
+        }
+        /**
+         * Number of worker threads used to process the records of each poll in
+         * parallel, while the records with the same key are still processed
+         * one by one in their order. The offsets are only committed up to the
+         * records which have completed processing without any gaps. The
+         * default is 0, which processes the records one by one on the thread
+         * polling from Kafka. This option cannot be used together with
+         * batching or manual commits.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedProcessingThreads(String keyOrderedProcessingThreads) {
+            doSetProperty("keyOrderedProcessingThreads", keyOrderedProcessingThreads);
+            return this;
+        }
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
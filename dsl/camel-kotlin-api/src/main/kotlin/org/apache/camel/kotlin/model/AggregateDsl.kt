@@ -197,6 +197,14 @@ class AggregateDsl(
         def.optimisticLocking = optimisticLocking
     }
 
+    fun lockStripes(lockStripes: Int) {
+        def.lockStripes(lockStripes)
+    }
+
+    fun lockStripes(lockStripes: String) {
+        def.lockStripes(lockStripes)
+    }
+
     fun optimisticLockRetryPolicy(optimisticLockRetryPolicy: OptimisticLockRetryPolicy) {
         def.optimisticLockRetryPolicy(optimisticLockRetryPolicy)
     }
@@ -62,6 +62,18 @@ class LoadBalanceDsl(
         def.random()
     }
 
+    fun leastOutstanding() {
+        def.leastOutstanding()
+    }
+
+    fun peakEwma() {
+        def.peakEwma()
+    }
+
+    fun peakEwma(decayTime: Long) {
+        def.peakEwma(decayTime)
+    }
+
     fun sticky(sticky: Expression) {
         def.sticky(sticky)
     }
@@ -107,6 +107,14 @@ class SplitDsl(
         def.onPrepare(onPrepare)
     }
 
+    fun windowSize(windowSize: Int) {
+        def.windowSize(windowSize)
+    }
+
+    fun windowSize(windowSize: String) {
+        def.windowSize(windowSize)
+    }
+
     fun timeout(timeout: Long) {
         def.timeout(timeout)
     }
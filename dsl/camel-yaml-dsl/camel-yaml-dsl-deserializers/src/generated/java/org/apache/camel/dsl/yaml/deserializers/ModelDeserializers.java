@@ -211,6 +211,8 @@ import org.apache.camel.model.language.XPathExpression;
 import org.apache.camel.model.language.XQueryExpression;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastOutstandingLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.PeakEwmaLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.StickyLoadBalancerDefinition;
@@ -351,6 +353,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
                     @YamlProperty(name = "ignoreInvalidCorrelationKeys", type = "boolean", description = "If a correlation key cannot be successfully evaluated it will be ignored by logging a DEBUG and then just ignore the incoming Exchange.", displayName = "Ignore Invalid Correlation Keys"),
                     @YamlProperty(name = "inheritErrorHandler", type = "boolean"),
+                    @YamlProperty(name = "lockStripes", type = "number", description = "Number of locks to use when aggregating, where the lock for a correlation key is selected by the hash of the key. This allows aggregating different correlation keys concurrently, while the same correlation key is still aggregated one at a time. This cannot be used together with optimistic locking.", displayName = "Lock Stripes"),
                     @YamlProperty(name = "optimisticLockRetryPolicy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition", description = "Allows to configure retry settings when using optimistic locking.", displayName = "Optimistic Lock Retry Policy"),
                     @YamlProperty(name = "optimisticLocking", type = "boolean", description = "Turns on using optimistic locking, which requires the aggregationRepository being used, is supporting this by implementing org.apache.camel.spi.OptimisticLockingAggregationRepository .", displayName = "Optimistic Locking"),
                     @YamlProperty(name = "parallelProcessing", type = "boolean", description = "When aggregated are completed they are being send out of the aggregator. This option indicates whether or not Camel should use a thread pool with multiple threads for concurrency. If no custom thread pool has been specified then Camel creates a default pool with 10 concurrent threads.", displayName = "Parallel Processing"),
@@ -498,6 +501,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "lockStripes": {
+                    String val = asText(node);
+                    target.setLockStripes(val);
+                    break;
+                }
                 case "optimisticLockRetryPolicy": {
                     org.apache.camel.model.OptimisticLockRetryPolicyDefinition val = asType(node, org.apache.camel.model.OptimisticLockRetryPolicyDefinition.class);
                     target.setOptimisticLockRetryPolicyDefinition(val);
@@ -8858,6 +8866,46 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         }
     }
 
+    @YamlType(
+            nodes = {
+                    "least-outstanding-load-balancer",
+                    "leastOutstandingLoadBalancer"
+            },
+            types = org.apache.camel.model.loadbalancer.LeastOutstandingLoadBalancerDefinition.class,
+            order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
+            displayName = "Least Outstanding Load Balancer",
+            description = "The destination endpoint with the least number of in-flight messages is selected. A destination which is slow to respond will therefore receive fewer messages.",
+            deprecated = false,
+            properties = @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id")
+    )
+    public static class LeastOutstandingLoadBalancerDefinitionDeserializer extends YamlDeserializerBase<LeastOutstandingLoadBalancerDefinition> {
+        public LeastOutstandingLoadBalancerDefinitionDeserializer() {
+            super(LeastOutstandingLoadBalancerDefinition.class);
+        }
+
+        @Override
+        protected LeastOutstandingLoadBalancerDefinition newInstance() {
+            return new LeastOutstandingLoadBalancerDefinition();
+        }
+
+        @Override
+        protected boolean setProperty(LeastOutstandingLoadBalancerDefinition target, String propertyKey,
+                String propertyName, Node node) {
+            propertyKey = org.apache.camel.util.StringHelper.dashToCamelCase(propertyKey);
+            switch(propertyKey) {
+                case "id": {
+                    String val = asText(node);
+                    target.setId(val);
+                    break;
+                }
+                default: {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @YamlType(
             nodes = {
                     "load-balance",
@@ -8875,6 +8923,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "failoverLoadBalancer", type = "object:org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition", oneOf = "loadBalancerType"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
                     @YamlProperty(name = "inheritErrorHandler", type = "boolean", description = "Sets whether or not to inherit the configured error handler. The default value is true. You can use this to disable using the inherited error handler for a given DSL such as a load balancer where you want to use a custom error handler strategy.", displayName = "Inherit Error Handler"),
+                    @YamlProperty(name = "leastOutstandingLoadBalancer", type = "object:org.apache.camel.model.loadbalancer.LeastOutstandingLoadBalancerDefinition", oneOf = "loadBalancerType"),
+                    @YamlProperty(name = "peakEwmaLoadBalancer", type = "object:org.apache.camel.model.loadbalancer.PeakEwmaLoadBalancerDefinition", oneOf = "loadBalancerType"),
                     @YamlProperty(name = "randomLoadBalancer", type = "object:org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition", oneOf = "loadBalancerType"),
                     @YamlProperty(name = "roundRobinLoadBalancer", type = "object:org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition", oneOf = "loadBalancerType"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
@@ -8923,6 +8973,16 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setLoadBalancerType(val);
                     break;
                 }
+                case "leastOutstandingLoadBalancer": {
+                    org.apache.camel.model.loadbalancer.LeastOutstandingLoadBalancerDefinition val = asType(node, org.apache.camel.model.loadbalancer.LeastOutstandingLoadBalancerDefinition.class);
+                    target.setLoadBalancerType(val);
+                    break;
+                }
+                case "peakEwmaLoadBalancer": {
+                    org.apache.camel.model.loadbalancer.PeakEwmaLoadBalancerDefinition val = asType(node, org.apache.camel.model.loadbalancer.PeakEwmaLoadBalancerDefinition.class);
+                    target.setLoadBalancerType(val);
+                    break;
+                }
                 case "randomLoadBalancer": {
                     org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition val = asType(node, org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition.class);
                     target.setLoadBalancerType(val);
@@ -11451,6 +11511,54 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         }
     }
 
+    @YamlType(
+            nodes = {
+                    "peak-ewma-load-balancer",
+                    "peakEwmaLoadBalancer"
+            },
+            types = org.apache.camel.model.loadbalancer.PeakEwmaLoadBalancerDefinition.class,
+            order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
+            displayName = "Peak Ewma Load Balancer",
+            description = "The destination endpoint with the least response time is selected, using a peak exponentially weighted moving average of the response times and the number of in-flight messages of the endpoints. For each message two random endpoints are compared, and the best of the two is selected (power of two choices).",
+            deprecated = false,
+            properties = {
+                    @YamlProperty(name = "decayTime", type = "string", defaultValue = "10000", description = "The time it takes for the moving average of the response times to decay. A lower value reacts faster to changes in the response times, a higher value is more stable.", displayName = "Decay Time"),
+                    @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id")
+            }
+    )
+    public static class PeakEwmaLoadBalancerDefinitionDeserializer extends YamlDeserializerBase<PeakEwmaLoadBalancerDefinition> {
+        public PeakEwmaLoadBalancerDefinitionDeserializer() {
+            super(PeakEwmaLoadBalancerDefinition.class);
+        }
+
+        @Override
+        protected PeakEwmaLoadBalancerDefinition newInstance() {
+            return new PeakEwmaLoadBalancerDefinition();
+        }
+
+        @Override
+        protected boolean setProperty(PeakEwmaLoadBalancerDefinition target, String propertyKey,
+                String propertyName, Node node) {
+            propertyKey = org.apache.camel.util.StringHelper.dashToCamelCase(propertyKey);
+            switch(propertyKey) {
+                case "decayTime": {
+                    String val = asText(node);
+                    target.setDecayTime(val);
+                    break;
+                }
+                case "id": {
+                    String val = asText(node);
+                    target.setId(val);
+                    break;
+                }
+                default: {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @YamlType(
             nodes = "pipeline",
             types = org.apache.camel.model.PipelineDefinition.class,
@@ -17029,7 +17137,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "stopOnException", type = "boolean", description = "Will now stop further processing if an exception or failure occurred during processing of an org.apache.camel.Exchange and the caused exception will be thrown. Will also stop if processing the exchange failed (has a fault message) or an exception was thrown and handled by the error handler (such as using onException). In all situations the splitter will stop further processing. This is the same behavior as in pipeline, which is used by the routing engine. The default behavior is to not stop but continue processing till the end", displayName = "Stop On Exception"),
                     @YamlProperty(name = "streaming", type = "boolean", description = "When in streaming mode, then the splitter splits the original message on-demand, and each split message is processed one by one. This reduces memory usage as the splitter do not split all the messages first, but then we do not know the total size, and therefore the org.apache.camel.Exchange#SPLIT_SIZE is empty. In non-streaming mode (default) the splitter will split each message first, to know the total size, and then process each message one by one. This requires to keep all the split messages in memory and therefore requires more memory. The total size is provided in the org.apache.camel.Exchange#SPLIT_SIZE header. The streaming mode also affects the aggregation behavior. If enabled then Camel will process replies out-of-order, e.g. in the order they come back. If disabled, Camel will process replies in the same order as the messages was split.", displayName = "Streaming"),
                     @YamlProperty(name = "synchronous", type = "boolean", description = "Sets whether synchronous processing should be strictly used. When enabled then the same thread is used to continue routing after the split is complete, even if parallel processing is enabled.", displayName = "Synchronous"),
-                    @YamlProperty(name = "timeout", type = "string", defaultValue = "0", description = "Sets a total timeout specified in millis, when using parallel processing. If the Splitter hasn't been able to split and process all the sub messages within the given timeframe, then the timeout triggers and the Splitter breaks out and continues. Notice if you provide a TimeoutAwareAggregationStrategy then the timeout method is invoked before breaking out. If the timeout is reached with running tasks still remaining, certain tasks for which it is difficult for Camel to shut down in a graceful manner may continue to run. So use this option with a bit of care.", displayName = "Timeout")
+                    @YamlProperty(name = "timeout", type = "string", defaultValue = "0", description = "Sets a total timeout specified in millis, when using parallel processing. If the Splitter hasn't been able to split and process all the sub messages within the given timeframe, then the timeout triggers and the Splitter breaks out and continues. Notice if you provide a TimeoutAwareAggregationStrategy then the timeout method is invoked before breaking out. If the timeout is reached with running tasks still remaining, certain tasks for which it is difficult for Camel to shut down in a graceful manner may continue to run. So use this option with a bit of care.", displayName = "Timeout"),
+                    @YamlProperty(name = "windowSize", type = "number", description = "Sets the maximum number of split messages being processed or waiting to be aggregated at the same time, when using parallel processing. When the window is full then the splitter does not split any further messages until the oldest split message has been aggregated, and the split messages are aggregated in the same order as they were split (also in streaming mode). This can be used together with streaming mode to split big messages in parallel using a bounded amount of memory.", displayName = "Window Size")
             }
     )
     public static class SplitDefinitionDeserializer extends YamlDeserializerBase<SplitDefinition> {
@@ -17127,6 +17236,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTimeout(val);
                     break;
                 }
+                case "windowSize": {
+                    String val = asText(node);
+                    target.setWindowSize(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
@@ -18141,7 +18255,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition", description = "Expression to configure the maximum number of messages to throttle per request", displayName = "Expression", oneOf = "expression"),
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
                     @YamlProperty(name = "inheritErrorHandler", type = "boolean"),
-                    @YamlProperty(name = "mode", type = "enum:TotalRequests,ConcurrentRequests", defaultValue = "TotalRequests", description = "Sets the throttling mode to one of the available modes enumerated in ThrottlingMode", displayName = "Mode"),
+                    @YamlProperty(name = "mode", type = "enum:TotalRequests,ConcurrentRequests,TokenBucket,AdaptiveConcurrency", defaultValue = "TotalRequests", description = "Sets the throttling mode to one of the available modes enumerated in ThrottlingMode", displayName = "Mode"),
                     @YamlProperty(name = "rejectExecution", type = "boolean", description = "Whether or not throttler throws the ThrottlerRejectedExecutionException when the exchange exceeds the request limit Is by default false", displayName = "Reject Execution"),
                     @YamlProperty(name = "timePeriodMillis", type = "string", defaultValue = "1000", description = "Sets the time period during which the maximum request count is valid for", displayName = "Time Period Millis")
             }
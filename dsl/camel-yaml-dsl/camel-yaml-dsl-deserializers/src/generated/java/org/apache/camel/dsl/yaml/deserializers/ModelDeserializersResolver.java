@@ -236,6 +236,9 @@ public final class ModelDeserializersResolver implements YamlDeserializerResolve
             case "org.apache.camel.model.dataformat.LZFDataFormat": return new ModelDeserializers.LZFDataFormatDeserializer();
             case "language": return new ModelDeserializers.LanguageExpressionDeserializer();
             case "org.apache.camel.model.language.LanguageExpression": return new ModelDeserializers.LanguageExpressionDeserializer();
+            case "least-outstanding-load-balancer": return new ModelDeserializers.LeastOutstandingLoadBalancerDefinitionDeserializer();
+            case "leastOutstandingLoadBalancer": return new ModelDeserializers.LeastOutstandingLoadBalancerDefinitionDeserializer();
+            case "org.apache.camel.model.loadbalancer.LeastOutstandingLoadBalancerDefinition": return new ModelDeserializers.LeastOutstandingLoadBalancerDefinitionDeserializer();
             case "load-balance": return new ModelDeserializers.LoadBalanceDefinitionDeserializer();
             case "loadBalance": return new ModelDeserializers.LoadBalanceDefinitionDeserializer();
             case "org.apache.camel.model.LoadBalanceDefinition": return new ModelDeserializers.LoadBalanceDefinitionDeserializer();
@@ -306,6 +309,9 @@ public final class ModelDeserializersResolver implements YamlDeserializerResolve
             case "org.apache.camel.model.rest.PatchDefinition": return new ModelDeserializers.PatchDefinitionDeserializer();
             case "pausable": return new ModelDeserializers.PausableDefinitionDeserializer();
             case "org.apache.camel.model.PausableDefinition": return new ModelDeserializers.PausableDefinitionDeserializer();
+            case "peak-ewma-load-balancer": return new ModelDeserializers.PeakEwmaLoadBalancerDefinitionDeserializer();
+            case "peakEwmaLoadBalancer": return new ModelDeserializers.PeakEwmaLoadBalancerDefinitionDeserializer();
+            case "org.apache.camel.model.loadbalancer.PeakEwmaLoadBalancerDefinition": return new ModelDeserializers.PeakEwmaLoadBalancerDefinitionDeserializer();
             case "pipeline": return new ModelDeserializers.PipelineDefinitionDeserializer();
             case "org.apache.camel.model.PipelineDefinition": return new ModelDeserializers.PipelineDefinitionDeserializer();
             case "policy": return new ModelDeserializers.PolicyDefinitionDeserializer();
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Tests the {@link org.apache.camel.processor.ChoiceProcessor} with header based content based routing.
+ */
+public class ChoiceTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhHelper.run(ChoiceTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        Endpoint start;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start")
+                            .choice()
+                                .when(header("type").isEqualTo("A")).to("mock:a?retainFirst=0&retainLast=0")
+                                .when(header("type").isEqualTo("B")).to("mock:b?retainFirst=0&retainLast=0")
+                                .when(header("type").isEqualTo("C")).to("mock:c?retainFirst=0&retainLast=0")
+                                .when(header("type").isEqualTo("D")).to("mock:d?retainFirst=0&retainLast=0")
+                                .otherwise().to("mock:other?retainFirst=0&retainLast=0")
+                            .end();
+
+                    from("direct:simple")
+                            .choice()
+                                .when(simple("${header.type} == 'A'")).to("mock:a?retainFirst=0&retainLast=0")
+                                .when(simple("${header.type} == 'B'")).to("mock:b?retainFirst=0&retainLast=0")
+                                .when(simple("${header.type} == 'C'")).to("mock:c?retainFirst=0&retainLast=0")
+                                .when(simple("${header.type} == 'D'")).to("mock:d?retainFirst=0&retainLast=0")
+                                .otherwise().to("mock:other?retainFirst=0&retainLast=0")
+                            .end();
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+            start = camel.getEndpoint("direct:start");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            producer.stop();
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void choiceFirst(BenchmarkState state) {
+        state.producer.sendBodyAndHeader(state.start, "Hello World", "type", "A");
+    }
+
+    @Benchmark
+    public void choiceOtherwise(BenchmarkState state) {
+        state.producer.sendBodyAndHeader(state.start, "Hello World", "type", "Z");
+    }
+
+    @Benchmark
+    public void choiceSimpleFirst(BenchmarkState state) {
+        state.producer.sendBodyAndHeader("direct:simple", "Hello World", "type", "A");
+    }
+
+    @Benchmark
+    public void choiceSimpleOtherwise(BenchmarkState state) {
+        state.producer.sendBodyAndHeader("direct:simple", "Hello World", "type", "Z");
+    }
+}
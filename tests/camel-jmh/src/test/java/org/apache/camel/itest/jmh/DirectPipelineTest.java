@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Tests the hot path of a direct -> pipeline -> log/mock route which exercises {@link org.apache.camel.processor.Pipeline},
+ * {@link org.apache.camel.impl.engine.CamelInternalProcessor}, {@link org.apache.camel.impl.engine.DefaultChannel} and
+ * the {@link org.apache.camel.impl.engine.DefaultReactiveExecutor}.
+ */
+public class DirectPipelineTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhHelper.run(DirectPipelineTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        Endpoint start;
+        Endpoint single;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start")
+                            .setHeader("foo", constant("bar"))
+                            .to("log:bench?level=OFF")
+                            .to("mock:result?retainFirst=0&retainLast=0");
+
+                    from("direct:single")
+                            .to("mock:result?retainFirst=0&retainLast=0");
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+            start = camel.getEndpoint("direct:start");
+            single = camel.getEndpoint("direct:single");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            producer.stop();
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void pipeline(BenchmarkState state) {
+        state.producer.sendBody(state.start, "Hello World");
+    }
+
+    @Benchmark
+    public void single(BenchmarkState state) {
+        state.producer.sendBody(state.single, "Hello World");
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Common JMH options used by the benchmarks.
+ * <p/>
+ * The benchmarks report throughput in ops/s, where one op is a single exchange, and enable the GC profiler so the
+ * <tt>gc.alloc.rate.norm</tt> metric shows the bytes allocated per exchange. The results are also written as JSON to
+ * <tt>target/jmh-result-&lt;benchmark&gt;.json</tt> so they can be compared between Camel versions.
+ */
+final class JmhHelper {
+
+    private JmhHelper() {
+    }
+
+    static Options options(Class<?> benchmark) {
+        return new OptionsBuilder()
+                .include(benchmark.getName() + ".*")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(3)
+                .measurementTime(TimeValue.seconds(5))
+                .measurementIterations(5)
+                .threads(1)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result-" + benchmark.getSimpleName() + ".json")
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+    }
+
+    static void run(Class<?> benchmark) throws Exception {
+        new Runner(options(benchmark)).run();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Tests the {@link org.apache.camel.processor.Splitter} splitting a comma separated body into 10 parts.
+ */
+public class SplitterTest {
+
+    private static final String BODY = "A,B,C,D,E,F,G,H,I,J";
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        JmhHelper.run(SplitterTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        Endpoint start;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start")
+                            .split(body().tokenize(","))
+                            .to("mock:line?retainFirst=0&retainLast=0");
+
+                    from("direct:aggregate")
+                            .split(body().tokenize(","), new GroupedBodyAggregationStrategy())
+                            .to("mock:line?retainFirst=0&retainLast=0");
+
+                    from("direct:streaming")
+                            .split(body().tokenize(",")).streaming()
+                            .to("mock:line?retainFirst=0&retainLast=0");
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+            start = camel.getEndpoint("direct:start");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            producer.stop();
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void split(BenchmarkState state) {
+        state.producer.sendBody(state.start, BODY);
+    }
+
+    @Benchmark
+    public void splitAggregate(BenchmarkState state) {
+        state.producer.sendBody("direct:aggregate", BODY);
+    }
+
+    @Benchmark
+    public void splitStreaming(BenchmarkState state) {
+        state.producer.sendBody("direct:streaming", BODY);
+    }
+}